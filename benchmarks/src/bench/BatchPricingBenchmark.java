@@ -0,0 +1,89 @@
+package bench;
+
+import model.PricingEngine;
+import model.Rent;
+import model.RentBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of re-pricing a batch of rents under a candidate tariff: rent by rent with PricingEngine.price(Rent),
+ * as a scalar loop over primitive class and day columns (PricingEngine.priceAll), and with RentBatch.priceAll
+ * (SIMD lanes when run with jdk.incubator.vector). The numbers are per batch of BATCH rents.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchPricingBenchmark
+{
+    static final int BATCH = 1 << 16;
+
+    @Param({"WEEKEND", "MULTI_WEEK"})
+    public Distribution distribution;
+
+    private final PricingEngine _tariff = new PricingEngine(new int[] {90, 140, 170, 230}, new int[] {600, 900, 1100, 1500});
+    private Rent[] _rents;
+    private RentBatch _batch;
+    private int[] _classes;
+    private int[] _days;
+    private long[] _longPrices;
+    private int[] _prices;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _rents = new Rent[BATCH];
+        Data.fillRents(distribution, _rents, 42);
+        _batch = RentBatch.of(Arrays.asList(_rents));
+        _classes = new int[BATCH];
+        _days = new int[BATCH];
+        for (int i = 0; i < BATCH; i++)
+        {
+            _classes[i] = PricingEngine.classIndex(_rents[i].getCarType());
+            _days[i] = _rents[i].howManyDays();
+        }
+        _longPrices = new long[BATCH];
+        _prices = new int[BATCH];
+    }
+
+    @Benchmark
+    public long[] rentByRent()
+    {
+        for (int i = 0; i < BATCH; i++)
+            _longPrices[i] = _tariff.price(_rents[i]);
+        return _longPrices;
+    }
+
+    @Benchmark
+    public long[] scalarColumns()
+    {
+        _tariff.priceAll(_classes, _days, _longPrices);
+        return _longPrices;
+    }
+
+    @Benchmark
+    public int[] rentBatch()
+    {
+        _batch.priceAll(_tariff, _prices);
+        return _prices;
+    }
+}
@@ -0,0 +1,73 @@
+package bench;
+
+import model.Car;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Car hot paths: better, equals and the copy constructor.
+ * Every invocation walks a batch of car pairs, so the numbers are per batch of BATCH pairs.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarBenchmark
+{
+    static final int BATCH = 1024;
+
+    private Car[] _cars;
+    private Car[] _others;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Random random = new Random(42);
+        _cars = new Car[BATCH];
+        _others = new Car[BATCH];
+        for (int i = 0; i < BATCH; i++)
+        {
+            _cars[i] = Data.car(random);
+            _others[i] = Data.car(random);
+        }
+    }
+
+    @Benchmark
+    public void better(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_cars[i].better(_others[i]));
+    }
+
+    @Benchmark
+    public void equalsCar(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_cars[i].equals(_others[i]));
+    }
+
+    @Benchmark
+    public void copy(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(new Car(_cars[i]));
+    }
+}
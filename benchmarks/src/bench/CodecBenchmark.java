@@ -0,0 +1,121 @@
+package bench;
+
+import io.DateCodec;
+import io.RentLineCodec;
+import model.Date;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of formatting and parsing dates and rent lines: toString and the Date constructor
+ * against the DateCodec and the RentLineCodec writing into a reused StringBuilder.
+ * Every invocation walks a batch of rents, so the numbers are per batch of BATCH rents.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark
+{
+    static final int BATCH = 1024;
+
+    private Rent[] _rents;
+    private String[] _dates;
+    private String[] _lines;
+    private final StringBuilder _out = new StringBuilder();
+    private final RentLineCodec _codec = new RentLineCodec();
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _rents = new Rent[BATCH];
+        Data.fillRents(Distribution.MULTI_WEEK, _rents, 42);
+        _dates = new String[BATCH];
+        _lines = new String[BATCH];
+        for (int i = 0; i < BATCH; i++)
+        {
+            _dates[i] = _rents[i].getPickDate().toString();
+            _lines[i] = _rents[i].toString();
+        }
+    }
+
+    @Benchmark
+    public void dateToString(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].getPickDate().toString());
+    }
+
+    @Benchmark
+    public void dateCodecFormat(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            _out.setLength(0);
+            bh.consume(DateCodec.format(_rents[i].getPickDay(), _out));
+        }
+    }
+
+    // the split and Integer.parseInt an importer needs before calling the Date constructor
+    @Benchmark
+    public void dateConstructorParse(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            String[] parts = _dates[i].split("/");
+            bh.consume(new Date(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2])).getEpochDay());
+        }
+    }
+
+    @Benchmark
+    public void dateCodecParse(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(DateCodec.parse(_dates[i], 0));
+    }
+
+    @Benchmark
+    public void rentToString(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].toString());
+    }
+
+    @Benchmark
+    public void rentCodecFormat(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            _out.setLength(0);
+            bh.consume(RentLineCodec.format(_rents[i], _out));
+        }
+    }
+
+    @Benchmark
+    public void rentCodecParse(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            _codec.parse(_lines[i]);
+            bh.consume(_codec.getPickEpochDay());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package bench;
+
+import model.CustomerRegistry;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of per-customer queries over RENTS rents of CUSTOMERS clients, every rent holding its own copy
+ * of the client name: scanning all the rents comparing names with String.equals against the CustomerRegistry.
+ * Every invocation answers QUERIES queries, so the numbers are per batch of QUERIES queries.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerBenchmark
+{
+    static final int RENTS = 200000;
+    static final int CUSTOMERS = 20000;
+    static final int QUERIES = 16;
+
+    private Rent[] _rents;
+    private Rent[] _queries;
+    private CustomerRegistry _registry;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _rents = new Rent[RENTS];
+        Data.fillRents(Distribution.MULTI_WEEK, _rents, 42);
+        Random random = new Random(7);
+        for (Rent rent : _rents)
+            rent.setName("Customer " + random.nextInt(CUSTOMERS));
+        _queries = new Rent[QUERIES];
+        for (int i = 0; i < QUERIES; i++)
+        {
+            Rent rent = _rents[random.nextInt(RENTS)];
+            _queries[i] = new Rent(new String(rent.getName().toCharArray()), rent.getCar(), rent.getPickDate(), rent.getReturnDate());
+        }
+        _registry = new CustomerRegistry();
+        for (Rent rent : _rents)
+            _registry.add(rent);
+    }
+
+    @Benchmark
+    public void rentsOfCustomerByScan(Blackhole bh)
+    {
+        for (Rent query : _queries)
+        {
+            List<Rent> rents = new ArrayList<>();
+            for (Rent rent : _rents)
+            {
+                if (rent.getName().equals(query.getName()))
+                    rents.add(rent);
+            }
+            bh.consume(rents);
+        }
+    }
+
+    @Benchmark
+    public void rentsOfCustomerByRegistry(Blackhole bh)
+    {
+        for (Rent query : _queries)
+            bh.consume(_registry.getRents(query.getName()));
+    }
+
+    @Benchmark
+    public void overlappingByScan(Blackhole bh)
+    {
+        for (Rent query : _queries)
+        {
+            List<Rent> rents = new ArrayList<>();
+            for (Rent rent : _rents)
+            {
+                if (rent.getName().equals(query.getName()) && rent.getCarValue().equals(query.getCarValue())
+                        && rent.getPickEpochDay() <= query.getReturnEpochDay() && query.getPickEpochDay() <= rent.getReturnEpochDay())
+                    rents.add(rent);
+            }
+            bh.consume(rents);
+        }
+    }
+
+    @Benchmark
+    public void overlappingByRegistry(Blackhole bh)
+    {
+        for (Rent query : _queries)
+            bh.consume(_registry.overlapping(query));
+    }
+}
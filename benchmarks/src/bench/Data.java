@@ -0,0 +1,81 @@
+package bench;
+
+import model.Car;
+import model.Date;
+import model.Rent;
+
+import java.util.Random;
+
+/**
+ * Builds the benchmark data sets
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+final class Data
+{
+    private static final char[] TYPES = {'A', 'B', 'C', 'D'};
+    private static final String[] BRANDS = {"Toyota", "Honda", "Mazda", "BMW", "Kia"};
+    // the cases of the leap year rule: centuries (leap or not), a common year and a leap year
+    private static final int[] LEAP_RULE_YEARS = {1900, 2000, 2023, 2024, 2100};
+    private static final int DAYS_IN_YEAR = 365;
+
+    private Data()
+    {
+    }
+
+    /**
+     * Fills picks and returns with pairs of dates of the given distribution
+     */
+    static void fillDates(Distribution distribution, Date[] picks, Date[] returns, long seed)
+    {
+        Random random = new Random(seed);
+        int yearStart = new Date(1, 1, 2023).getEpochDay();
+        for (int i = 0; i < picks.length; i++)
+        {
+            int pick;
+            int days;
+            switch (distribution)
+            {
+                case WEEKEND:
+                    pick = yearStart + random.nextInt(DAYS_IN_YEAR);
+                    days = 1 + random.nextInt(3);
+                    break;
+                case MULTI_WEEK:
+                    pick = yearStart + random.nextInt(DAYS_IN_YEAR);
+                    days = 14 + random.nextInt(29);
+                    break;
+                default:
+                    int year = LEAP_RULE_YEARS[random.nextInt(LEAP_RULE_YEARS.length)];
+                    Date anchor = random.nextBoolean() ? new Date(28, 2, year) : new Date(31, 12, year);
+                    pick = anchor.getEpochDay() - random.nextInt(7);
+                    days = 1 + random.nextInt(14);
+                    break;
+            }
+            picks[i] = Date.ofEpochDay(pick);
+            returns[i] = Date.ofEpochDay(pick + days);
+        }
+    }
+
+    /**
+     * Returns a random car
+     */
+    static Car car(Random random)
+    {
+        return new Car(1000000 + random.nextInt(9000000), TYPES[random.nextInt(TYPES.length)],
+                BRANDS[random.nextInt(BRANDS.length)], random.nextBoolean());
+    }
+
+    /**
+     * Fills rents with rents of the given distribution, for a few clients and random cars
+     */
+    static void fillRents(Distribution distribution, Rent[] rents, long seed)
+    {
+        Date[] picks = new Date[rents.length];
+        Date[] returns = new Date[rents.length];
+        fillDates(distribution, picks, returns, seed);
+        Random random = new Random(seed + 1);
+        for (int i = 0; i < rents.length; i++)
+            rents[i] = new Rent("Client" + random.nextInt(16), car(random), picks[i], returns[i]);
+    }
+}
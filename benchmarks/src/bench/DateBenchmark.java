@@ -0,0 +1,78 @@
+package bench;
+
+import model.Date;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Date hot paths: before, difference, tomorrow and the copy constructor.
+ * Every invocation walks a batch of date pairs, so the numbers are per batch of BATCH pairs.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBenchmark
+{
+    static final int BATCH = 1024;
+
+    @Param({"WEEKEND", "MULTI_WEEK", "LEAP_YEAR"})
+    public Distribution distribution;
+
+    private Date[] _picks;
+    private Date[] _returns;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _picks = new Date[BATCH];
+        _returns = new Date[BATCH];
+        Data.fillDates(distribution, _picks, _returns, 42);
+    }
+
+    @Benchmark
+    public void before(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_picks[i].before(_returns[i]));
+    }
+
+    @Benchmark
+    public void difference(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_picks[i].difference(_returns[i]));
+    }
+
+    @Benchmark
+    public void tomorrow(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_returns[i].tomorrow());
+    }
+
+    @Benchmark
+    public void copy(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(new Date(_picks[i]));
+    }
+}
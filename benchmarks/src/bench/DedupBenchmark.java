@@ -0,0 +1,87 @@
+package bench;
+
+import model.Date;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of deduplicating rents and pickup dates: the pairwise equals scan that was needed
+ * before Rent and Date had hashCode and compareTo, against HashSet and TreeSet.
+ * A third of the rents are copies of other rents. The numbers are per dedup of all the rents.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DedupBenchmark
+{
+    @Param({"1000", "10000"})
+    public int size;
+
+    private Rent[] _rents;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _rents = new Rent[size];
+        Data.fillRents(Distribution.MULTI_WEEK, _rents, 42);
+        Random random = new Random(43);
+        for (int i = 0; i < size / 3; i++)
+            _rents[random.nextInt(size)] = new Rent(_rents[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public List<Rent> pairwiseEquals()
+    {
+        List<Rent> unique = new ArrayList<>();
+        for (Rent rent : _rents)
+        {
+            boolean seen = false;
+            for (int i = 0; i < unique.size() && !seen; i++)
+                seen = unique.get(i).equals(rent);
+            if (!seen)
+                unique.add(rent);
+        }
+        return unique;
+    }
+
+    @Benchmark
+    public Set<Rent> hashSet()
+    {
+        return new HashSet<>(Arrays.asList(_rents));
+    }
+
+    @Benchmark
+    public Set<Date> sortedPickDates()
+    {
+        TreeSet<Date> dates = new TreeSet<>();
+        for (Rent rent : _rents)
+            dates.add(rent.getPickDate());
+        return dates;
+    }
+}
@@ -0,0 +1,17 @@
+package bench;
+
+/**
+ * The rent length distributions the benchmarks run over
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public enum Distribution
+{
+    /** one to three day rents spread over a year */
+    WEEKEND,
+    /** two to six week rents spread over a year */
+    MULTI_WEEK,
+    /** up to two week rents picked around the end of February and December, leap and non leap years */
+    LEAP_YEAR
+}
@@ -0,0 +1,136 @@
+package bench;
+
+import model.Car;
+import model.Date;
+import model.Fleet;
+import server.BookingServer;
+import service.BookingService;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A load test of the BookingServer: starts a server over a fleet and runs simulated clients against it, all at once.
+ * Every client sends a sequence of requests (quote, availability check, booking and sometimes an upgrade),
+ * each request after the answer of the previous one, and the harness reports the throughput and latencies.
+ * The clients are asynchronous HttpClient chains, so 10000 clients need no client threads.
+ * Run with: ./gradlew :benchmarks:loadTest -PloadArgs="10000 10 2000" (clients, requests per client, cars)
+ * The task sets -Dsun.net.httpserver.nodelay=true, as the README explains.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class HttpLoadHarness
+{
+    private static final char[] TYPES = {'A', 'B', 'C', 'D'};
+    private static final int FIRST_CAR = 1000000;
+
+    public static void main(String[] args) throws Exception
+    {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int cars = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        Fleet fleet = new Fleet();
+        for (int i = 0; i < cars; i++)
+            fleet.add(new Car(FIRST_CAR + i, TYPES[i % TYPES.length], "Toyota", i % 2 == 0));
+        try (BookingServer server = new BookingServer(new InetSocketAddress("127.0.0.1", 0), fleet, new BookingService()))
+        {
+            server.start();
+            ExecutorService clientExecutor = BookingServer.newRequestExecutor();
+            HttpClient client = HttpClient.newBuilder().executor(clientExecutor).connectTimeout(Duration.ofSeconds(30)).build();
+            String base = "http://127.0.0.1:" + server.getPort();
+            long[] latencies = new long[clients * requests];
+            AtomicInteger done = new AtomicInteger();
+            AtomicLong failed = new AtomicLong();
+            CompletableFuture<?>[] runs = new CompletableFuture<?>[clients];
+            long start = System.nanoTime();
+            for (int c = 0; c < clients; c++)
+                runs[c] = runClient(client, base, c, requests, cars, latencies, done, failed);
+            CompletableFuture.allOf(runs).join();
+            clientExecutor.shutdown();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            int count = done.get();
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("server requests run on: %s%n", executorKind());
+            System.out.printf("clients: %d, requests: %d, failed: %d, time: %.2f s%n", clients, count, failed.get(), seconds);
+            System.out.printf("throughput: %.0f requests/s%n", count / seconds);
+            System.out.printf("latency ms: p50 %.2f, p99 %.2f, max %.2f%n", percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 1));
+        }
+    }
+
+    // sends the requests of one client one after the other
+    private static CompletableFuture<Void> runClient(HttpClient client, String base, int id, int requests, int cars,
+                                                     long[] latencies, AtomicInteger done, AtomicLong failed)
+    {
+        Random random = new Random(id);
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (int r = 0; r < requests; r++)
+        {
+            int car = FIRST_CAR + random.nextInt(cars);
+            Date pick = Date.ofEpochDay(new Date(1, 1, 2024).getEpochDay() + random.nextInt(365));
+            String dates = "&from=" + pick + "&to=" + Date.ofEpochDay(pick.getEpochDay() + 1 + random.nextInt(14));
+            String path;
+            String method = "GET";
+            switch (r % 4)
+            {
+                case 0:
+                    path = "/quote?type=" + TYPES[random.nextInt(TYPES.length)] + dates;
+                    break;
+                case 1:
+                    path = "/available?car=" + car + dates;
+                    break;
+                case 2:
+                    path = "/book?name=Client" + id + "&car=" + car + dates;
+                    method = "POST";
+                    break;
+                default:
+                    path = "/upgrade?rent=" + random.nextInt(1 + id) + "&car=" + car;
+                    method = "POST";
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                    .method(method, HttpRequest.BodyPublishers.noBody()).timeout(Duration.ofSeconds(60)).build();
+            chain = chain.thenCompose(ignored -> {
+                long sent = System.nanoTime();
+                return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).handle((response, error) -> {
+                    if (error != null || response.statusCode() >= 500)
+                        failed.incrementAndGet();
+                    latencies[done.getAndIncrement()] = System.nanoTime() - sent;
+                    return null;
+                });
+            });
+        }
+        return chain;
+    }
+
+    private static String executorKind()
+    {
+        try
+        {
+            Thread.class.getMethod("ofVirtual");
+            return "a virtual thread each";
+        }
+        catch (NoSuchMethodException e)
+        {
+            return "a fixed pool of platform threads (no virtual threads in this runtime)";
+        }
+    }
+
+    private static double percentile(long[] sorted, double fraction)
+    {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
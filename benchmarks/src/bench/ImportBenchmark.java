@@ -0,0 +1,93 @@
+package bench;
+
+import io.BulkImporter;
+import io.DateCodec;
+import io.ImportFormat;
+import model.CarValue;
+import model.LocalDay;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of importing ROWS CSV rent rows: a single thread reading, splitting and building every row
+ * (as a hand written import loop does) against the BulkImporter pipeline with 1 and 4 parser threads.
+ * The numbers are per import of ROWS rows; the parallel speedup needs as many free processors as parsers.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImportBenchmark
+{
+    static final int ROWS = 100000;
+
+    @Param({"1", "4"})
+    int parsers;
+
+    private String _csv;
+    private CarValue[] _cars;
+    private BulkImporter _importer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Rent[] rents = new Rent[ROWS];
+        Data.fillRents(Distribution.MULTI_WEEK, rents, 42);
+        _cars = new CarValue[ROWS];
+        StringBuilder csv = new StringBuilder("name,carId,from,to\n");
+        for (int i = 0; i < ROWS; i++)
+        {
+            Rent rent = rents[i];
+            _cars[i] = new CarValue(1000000 + i, rent.getCarType(), "Kia", true);
+            csv.append(rent.getName()).append(',').append(1000000 + i).append(',');
+            DateCodec.format(rent.getPickDay(), csv).append(',');
+            DateCodec.format(rent.getReturnDay(), csv).append('\n');
+        }
+        _csv = csv.toString();
+        _importer = new BulkImporter(parsers, 1024);
+    }
+
+    @Benchmark
+    public void singleThreadLoop(Blackhole bh) throws IOException
+    {
+        BufferedReader in = new BufferedReader(new StringReader(_csv));
+        in.readLine();
+        for (String line; (line = in.readLine()) != null; )
+        {
+            String[] fields = line.split(",");
+            CarValue car = _cars[Integer.parseInt(fields[1]) - 1000000];
+            LocalDay pick = LocalDay.ofEpochDay(DateCodec.parse(fields[2], 0));
+            LocalDay ret = LocalDay.ofEpochDay(DateCodec.parse(fields[3], 0));
+            bh.consume(new Rent(fields[0], car, pick, ret));
+        }
+    }
+
+    @Benchmark
+    public void bulkImporter(Blackhole bh) throws IOException
+    {
+        _importer.importRents(new StringReader(_csv), ImportFormat.CSV, id -> _cars[id - 1000000],
+                bh::consume, bh::consume);
+    }
+}
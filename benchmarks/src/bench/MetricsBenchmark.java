@@ -0,0 +1,78 @@
+package bench;
+
+import metrics.ModelMetrics;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the cost of the model metrics on the instrumented Rent paths:
+ * OFF is the default, COUNT counts the operations and TIMING also records their latencies.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark
+{
+    static final int BATCH = 1024;
+
+    public enum Metrics { OFF, COUNT, TIMING }
+
+    @Param({"OFF", "COUNT", "TIMING"})
+    public Metrics metrics;
+
+    private Rent[] _rents;
+    private Rent[] _others;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _rents = new Rent[BATCH];
+        _others = new Rent[BATCH];
+        Data.fillRents(Distribution.WEEKEND, _rents, 42);
+        Data.fillRents(Distribution.WEEKEND, _others, 43);
+        ModelMetrics.setEnabled(metrics != Metrics.OFF);
+        ModelMetrics.setTiming(metrics == Metrics.TIMING);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        ModelMetrics.setEnabled(false);
+        ModelMetrics.setTiming(false);
+    }
+
+    @Benchmark
+    public void getPrice(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].getPrice());
+    }
+
+    @Benchmark
+    public void overlap(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].overlap(_others[i]));
+    }
+}
@@ -0,0 +1,157 @@
+package bench;
+
+import model.AvailabilityIndex;
+import model.Car;
+import model.Date;
+import model.DayIterator;
+import model.Fleet;
+import model.OccupancyIndex;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.CompressedBitmap;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the utilization query "how many class B cars were out on each day of 2023":
+ * expanding every rent day by day with Date.tomorrow or a DayIterator, against the OccupancyIndex class counters
+ * and its day bitmaps intersected with the class B ids of the fleet; and of "which cars are free on every day
+ * of a week", checking every car in an AvailabilityIndex against the OccupancyIndex day bitmaps.
+ * Car ids are either random 7 digit ids or numbered in order; the index numbers the cars densely either way.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OccupancyBenchmark
+{
+    private static final int FIRST_DAY = Date.epochDayOf(1, 1, 2023);
+    private static final int LAST_DAY = Date.epochDayOf(1, 1, 2024);
+
+    public enum Ids { RANDOM, SEQUENTIAL }
+
+    @Param({"RANDOM", "SEQUENTIAL"})
+    public Ids ids;
+
+    @Param({"2000", "50000"})
+    public int cars;
+
+    private static final int RENTS_PER_CAR = 10;
+
+    private Rent[] _rents;
+    private Fleet _fleet;
+    private OccupancyIndex _index;
+    private AvailabilityIndex _availability;
+    private int _weekStart;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Random random = new Random(42);
+        _fleet = new Fleet();
+        while (_fleet.size() < cars)
+        {
+            Car car = Data.car(random);
+            if (ids == Ids.SEQUENTIAL)
+                car = new Car(1000000 + _fleet.size(), car.getType(), car.getBrand(), car.getIsManual());
+            _fleet.add(car);
+        }
+        List<Car> fleet = _fleet.getCars();
+        _rents = new Rent[cars * RENTS_PER_CAR];
+        _index = new OccupancyIndex();
+        _availability = new AvailabilityIndex();
+        for (int i = 0; i < _rents.length; i++)
+        {
+            int pick = FIRST_DAY - 10 + random.nextInt(LAST_DAY - FIRST_DAY);
+            _rents[i] = new Rent("Client" + i, fleet.get(random.nextInt(fleet.size())),
+                    Date.ofEpochDay(pick), Date.ofEpochDay(pick + 1 + random.nextInt(14)));
+            _index.add(_rents[i]);
+            _availability.add(_rents[i]);
+        }
+        _weekStart = Date.epochDayOf(12, 6, 2023);
+    }
+
+    @Benchmark
+    public int[] expandWithTomorrow()
+    {
+        int[] counts = new int[LAST_DAY - FIRST_DAY];
+        Date first = Date.ofEpochDay(FIRST_DAY);
+        Date last = Date.ofEpochDay(LAST_DAY);
+        for (Rent rent : _rents)
+        {
+            if (rent.getCarType() != 'B')
+                continue;
+            Date end = rent.getReturnDate();
+            for (Date day = rent.getPickDate(); day.before(end); day = day.tomorrow())
+                if (!day.before(first) && day.before(last))
+                    counts[day.getEpochDay() - FIRST_DAY]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[] expandWithDayIterator()
+    {
+        int[] counts = new int[LAST_DAY - FIRST_DAY];
+        for (Rent rent : _rents)
+        {
+            if (rent.getCarType() != 'B')
+                continue;
+            DayIterator days = rent.days();
+            while (days.hasNext())
+            {
+                int day = days.nextInt();
+                if (day >= FIRST_DAY && day < LAST_DAY)
+                    counts[day - FIRST_DAY]++;
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[] occupancyIndexByClass()
+    {
+        return _index.countPerDay(FIRST_DAY, LAST_DAY, 'B');
+    }
+
+    @Benchmark
+    public int[] occupancyIndexByIds()
+    {
+        CompressedBitmap classB = _fleet.getIds('B');
+        return _index.countPerDay(FIRST_DAY, LAST_DAY, classB);
+    }
+
+    @Benchmark
+    public int freeCarsByAvailability()
+    {
+        int free = 0;
+        for (Car car : _fleet.getCars())
+            if (_availability.isFree(car.getId(), _weekStart, _weekStart + 7))
+                free++;
+        return free;
+    }
+
+    @Benchmark
+    public int freeCarsByOccupancy()
+    {
+        return _index.freeCars(_fleet.getIds(), _weekStart, _weekStart + 7).cardinality();
+    }
+}
@@ -0,0 +1,81 @@
+package bench;
+
+import io.OffHeapStore;
+import model.PricingEngine;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of scanning RENTS rents for their total price: Rent objects on the heap against the
+ * 16 byte slots of an OffHeapStore, and of filling a store with RENTS rents.
+ * Run with -prof gc to compare the allocation and GC time of the two layouts.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:MaxDirectMemorySize=2g")
+public class OffHeapBenchmark
+{
+    static final int RENTS = 1 << 20;
+
+    private Rent[] _rents;
+    private OffHeapStore _store;
+    private final PricingEngine _pricing = PricingEngine.getDefault();
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _rents = new Rent[RENTS];
+        Data.fillRents(Distribution.MULTI_WEEK, _rents, 42);
+        _store = fill();
+    }
+
+    @Benchmark
+    public long heapRevenue()
+    {
+        long total = 0;
+        for (Rent rent : _rents)
+            total += _pricing.price(rent.getCarType(), rent.howManyDays());
+        return total;
+    }
+
+    @Benchmark
+    public long offHeapRevenue()
+    {
+        return _store.totalRevenue(_pricing);
+    }
+
+    @Benchmark
+    public OffHeapStore offHeapFill()
+    {
+        return fill();
+    }
+
+    private OffHeapStore fill()
+    {
+        OffHeapStore store = new OffHeapStore();
+        for (Rent rent : _rents)
+        {
+            store.addCar(rent.getCarValue());
+            store.addRent(rent);
+        }
+        return store;
+    }
+}
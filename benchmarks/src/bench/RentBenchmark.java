@@ -0,0 +1,167 @@
+package bench;
+
+import model.Car;
+import model.Date;
+import model.DayIterator;
+import model.PricingEngine;
+import model.Rent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Rent hot paths: getPrice, overlap, upgrade, walking the rent days and the copy constructor,
+ * and quoting a price with a new Rent and with the PricingEngine alone.
+ * Every invocation walks a batch of rents, so the numbers are per batch of BATCH rents.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RentBenchmark
+{
+    static final int BATCH = 1024;
+
+    @Param({"WEEKEND", "MULTI_WEEK", "LEAP_YEAR"})
+    public Distribution distribution;
+
+    private Rent[] _rents;
+    private Rent[] _others;
+    private Car[] _cars;
+    private Car[] _upgrades;
+    private final PricingEngine _pricing = PricingEngine.getDefault();
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        _rents = new Rent[BATCH];
+        _others = new Rent[BATCH];
+        Data.fillRents(distribution, _rents, 42);
+        Data.fillRents(distribution, _others, 43);
+        Random random = new Random(44);
+        _cars = new Car[BATCH];
+        _upgrades = new Car[BATCH];
+        for (int i = 0; i < BATCH; i++)
+        {
+            _cars[i] = _rents[i].getCar();
+            _upgrades[i] = Data.car(random);
+            // half of the pairs are double listings of the same client and car
+            if (random.nextBoolean())
+                _others[i] = new Rent(_rents[i].getName(), _cars[i], _others[i].getPickDate(), _others[i].getReturnDate());
+        }
+    }
+
+    // a quote as the /quote endpoint first priced it: a Rent built from the car type and the dates
+    @Benchmark
+    public void quoteWithRent(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            Rent quote = new Rent("quote", new Car(0, _cars[i].getType(), null, false), _rents[i].getPickDate(), _rents[i].getReturnDate());
+            bh.consume(quote.getPrice());
+        }
+    }
+
+    // the /quote endpoint: the price of the car type and the days, with no Rent
+    @Benchmark
+    public void quoteWithPricing(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            int pick = _rents[i].getPickEpochDay();
+            int ret = _rents[i].getReturnEpochDay();
+            bh.consume(_pricing.price(_rents[i].getCarType(), ret > pick ? ret - pick : 1));
+        }
+    }
+
+    @Benchmark
+    public void getPrice(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].getPrice());
+    }
+
+    @Benchmark
+    public void howManyDays(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].howManyDays());
+    }
+
+    // overlap may move the dates of the rent; after the first batch the rents are stable
+    @Benchmark
+    public void overlap(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].overlap(_others[i]));
+    }
+
+    // includes resetting the original car with setCar, so every call sees the same upgrade
+    @Benchmark
+    public void upgrade(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            _rents[i].setCar(_cars[i]);
+            bh.consume(_rents[i].upgrade(_upgrades[i]));
+        }
+    }
+
+    // walks every rent day by day with Date.tomorrow, as the daily-rate expansion did
+    @Benchmark
+    public void expandWithTomorrow(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            Date end = _rents[i].getReturnDate();
+            for (Date day = _rents[i].getPickDate(); day.before(end); day = day.tomorrow())
+                bh.consume(day.getMonth());
+        }
+    }
+
+    @Benchmark
+    public void expandWithDayIterator(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+        {
+            DayIterator days = _rents[i].days();
+            while (days.hasNext())
+            {
+                days.nextInt();
+                bh.consume(days.getMonth());
+            }
+        }
+    }
+
+    @Benchmark
+    public void copy(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(new Rent(_rents[i]));
+    }
+
+    @Benchmark
+    public void toStringLine(Blackhole bh)
+    {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(_rents[i].toString());
+    }
+}
@@ -0,0 +1,96 @@
+package io;
+
+import model.CarValue;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class encodes cars and rents as fixed width binary records.
+ * A car record is 9 bytes: id (int), type and gear (byte: the type index 0-3, plus 0x80 for a manual car)
+ * and brand (int index in a brand dictionary).
+ * A rent record is 16 bytes: name (int index in a name dictionary), car id (int), pickup and return day numbers (int).
+ * A snapshot file is a header (magic, version, car count, rent count, footer offset), the car records,
+ * the rent records and a footer holding the brand and name dictionaries.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class BinaryCodec
+{
+    /** The size of a car record in bytes */
+    public static final int CAR_BYTES = 9;
+    /** The size of a rent record in bytes */
+    public static final int RENT_BYTES = 16;
+    // "CRS1"
+    static final int MAGIC = 0x43525331;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 28;
+    static final int BUFFER_BYTES = 1 << 16;
+    private static final int MANUAL_BIT = 0x80;
+    private static final int TYPE_MASK = 0x7F;
+    private static final char FIRST_TYPE = 'A';
+
+    private BinaryCodec()
+    {
+    }
+
+    /**
+     * Writes a car record
+     * @param buffer - the buffer to write to (at least CAR_BYTES remaining)
+     * @param car - the car
+     * @param brandId - the dictionary index of the car's brand
+     */
+    public static void putCar(ByteBuffer buffer, CarValue car, int brandId)
+    {
+        buffer.putInt(car.getId());
+        buffer.put(typeAndGear(car.getType(), car.getIsManual()));
+        buffer.putInt(brandId);
+    }
+
+    /**
+     * Returns the type and gear byte of a car record
+     * @param type - the car type ('A','B','C' or 'D')
+     * @param isManual - flag indicating if the car is manual
+     * @return the type index (0-3), plus 0x80 for a manual car
+     */
+    public static byte typeAndGear(char type, boolean isManual)
+    {
+        return (byte) ((type - FIRST_TYPE) | (isManual ? MANUAL_BIT : 0));
+    }
+
+    /**
+     * Returns the car type of a type and gear byte
+     * @param typeAndGear - the type and gear byte
+     * @return the car type ('A','B','C' or 'D')
+     */
+    public static char typeOf(byte typeAndGear)
+    {
+        return (char) (FIRST_TYPE + (typeAndGear & TYPE_MASK));
+    }
+
+    /**
+     * Returns the gear of a type and gear byte
+     * @param typeAndGear - the type and gear byte
+     * @return true for a manual car, otherwise false
+     */
+    public static boolean isManual(byte typeAndGear)
+    {
+        return (typeAndGear & MANUAL_BIT) != 0;
+    }
+
+    /**
+     * Writes a rent record
+     * @param buffer - the buffer to write to (at least RENT_BYTES remaining)
+     * @param nameId - the dictionary index of the client's name
+     * @param carId - the id of the rented car
+     * @param pickDay - the day number of the pickup date
+     * @param returnDay - the day number of the return date
+     */
+    public static void putRent(ByteBuffer buffer, int nameId, int carId, int pickDay, int returnDay)
+    {
+        buffer.putInt(nameId);
+        buffer.putInt(carId);
+        buffer.putInt(pickDay);
+        buffer.putInt(returnDay);
+    }
+}
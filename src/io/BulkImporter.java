@@ -0,0 +1,515 @@
+package io;
+
+import model.Car;
+import model.CarValue;
+import model.Fleet;
+import model.LocalDay;
+import model.Rent;
+import util.IntObjectMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * This class imports cars and rents from CSV or JSONL files (see ImportFormat) as a streaming pipeline:
+ * a reader thread cuts the lines into batches, parser threads parse, validate and build the rows of a batch,
+ * and the calling thread hands the built cars or rents to the sink, in line order.
+ * Rows are validated with the rules of the Car constructor (a 7 digits id, type 'A' to 'D') and of
+ * Date.isLegal; a row that breaks a rule is reported as an ImportRejection instead of being built with
+ * the fallback values. A rent whose return date is not after its pickup date, or whose car is unknown,
+ * is rejected too.
+ * At most a fixed window of batches is in flight, so a slow sink makes the parsers and then the reader wait
+ * (backpressure) and the memory of an import does not grow with the file. The progress of a running import
+ * can be read with getStats.
+ * Parsing, validating and building run in the same parser thread: they are cheap next to handing a row
+ * between threads, so only whole batches cross the queues.
+ *
+ * CSV columns (JSONL keys): cars - id,type,brand,manual (manual is true or false);
+ * rents - name,carId,from,to (dates in the format dd/mm/yyyy).
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class BulkImporter
+{
+    /** The columns of a car row */
+    public static final String[] CAR_COLUMNS = {"id", "type", "brand", "manual"};
+    /** The columns of a rent row */
+    public static final String[] RENT_COLUMNS = {"name", "carId", "from", "to"};
+    private static final int DEFAULT_BATCH_ROWS = 1024;
+    private static final int POLL_MILLIS = 50;
+    private static final Batch END = new Batch(-1, 0);
+    private final int _parsers;
+    private final int _batchRows;
+    private final int _window;
+    private volatile ImportStats _stats;
+
+    // a batch of lines, and then of their built rows (or rejections)
+    private static class Batch
+    {
+        private final int _sequence;
+        private final long[] _lines;
+        private final String[] _texts;
+        private final Object[] _rows;
+        private int _size;
+
+        private Batch(int sequence, int capacity)
+        {
+            _sequence = sequence;
+            _lines = new long[capacity];
+            _texts = new String[capacity];
+            _rows = new Object[capacity];
+        }
+    }
+
+    /**
+     * Creates a new BulkImporter with a parser thread per available processor
+     */
+    public BulkImporter()
+    {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_ROWS);
+    }
+
+    /**
+     * Creates a new BulkImporter, with a window of 4 batches per parser
+     * @param parsers - the number of parser threads
+     * @param batchRows - the number of rows in a batch
+     * @throws IllegalArgumentException if parsers or batchRows is less than 1
+     */
+    public BulkImporter(int parsers, int batchRows)
+    {
+        this(parsers, batchRows, 4 * parsers);
+    }
+
+    /**
+     * Creates a new BulkImporter
+     * @param parsers - the number of parser threads
+     * @param batchRows - the number of rows in a batch
+     * @param window - the most batches read and not yet sunk
+     * @throws IllegalArgumentException if parsers, batchRows or window is less than 1
+     */
+    public BulkImporter(int parsers, int batchRows, int window)
+    {
+        if (parsers < 1 || batchRows < 1 || window < 1)
+            throw new IllegalArgumentException("parsers, batchRows and window must be positive");
+        _parsers = parsers;
+        _batchRows = batchRows;
+        _window = window;
+    }
+
+    /**
+     * Gets the progress of the running import, or of the last import
+     * @return the stats of the import, or null if nothing was imported yet
+     */
+    public ImportStats getStats()
+    {
+        return _stats;
+    }
+
+    /**
+     * Imports the cars of a file into a fleet. A car whose id is already in the fleet is rejected.
+     * @param path - the file (.jsonl, .ndjson and .json files are JSONL, other files are CSV)
+     * @param fleet - the fleet to add the cars to
+     * @param rejects - receives the rejected rows, in line order
+     * @return the stats of the import
+     * @throws IOException if the file can not be read
+     */
+    public ImportStats importCars(Path path, Fleet fleet, Consumer<? super ImportRejection> rejects) throws IOException
+    {
+        try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8))
+        {
+            return run(in, ImportFormat.of(path), CAR_COLUMNS, () -> BulkImporter::car,
+                    car -> fleet.add(car) ? null : "duplicate car id " + car.getId(), rejects);
+        }
+    }
+
+    /**
+     * Imports cars
+     * @param in - the lines to import
+     * @param format - the format of the lines
+     * @param sink - receives the cars, in line order
+     * @param rejects - receives the rejected rows, in line order
+     * @return the stats of the import
+     * @throws IOException if the lines can not be read
+     */
+    public ImportStats importCars(Reader in, ImportFormat format, Consumer<? super Car> sink,
+                                  Consumer<? super ImportRejection> rejects) throws IOException
+    {
+        return run(buffered(in), format, CAR_COLUMNS, () -> BulkImporter::car, accepting(sink), rejects);
+    }
+
+    /**
+     * Imports the rents of a file, of the cars of a fleet. The fleet must not change during the import.
+     * @param path - the file (.jsonl, .ndjson and .json files are JSONL, other files are CSV)
+     * @param fleet - the cars rented
+     * @param sink - receives the rents, in line order
+     * @param rejects - receives the rejected rows, in line order
+     * @return the stats of the import
+     * @throws IOException if the file can not be read
+     */
+    public ImportStats importRents(Path path, Fleet fleet, Consumer<? super Rent> sink,
+                                   Consumer<? super ImportRejection> rejects) throws IOException
+    {
+        try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8))
+        {
+            return importRents(in, ImportFormat.of(path), id ->
+            {
+                Car car = fleet.get(id);
+                return car == null ? null : CarValue.from(car);
+            }, sink, rejects);
+        }
+    }
+
+    /**
+     * Imports rents. Rents of the same car built by one parser share one CarValue.
+     * @param in - the lines to import
+     * @param format - the format of the lines
+     * @param cars - returns the car of an id, or null for an unknown car; it is called by all the parser threads
+     * @param sink - receives the rents, in line order
+     * @param rejects - receives the rejected rows, in line order
+     * @return the stats of the import
+     * @throws IOException if the lines can not be read
+     */
+    public ImportStats importRents(Reader in, ImportFormat format, IntFunction<CarValue> cars,
+                                   Consumer<? super Rent> sink, Consumer<? super ImportRejection> rejects) throws IOException
+    {
+        return run(buffered(in), format, RENT_COLUMNS, () ->
+        {
+            IntObjectMap<CarValue> known = new IntObjectMap<>();
+            return fields -> rent(fields, id ->
+            {
+                CarValue car = known.get(id);
+                if (car == null && (car = cars.apply(id)) != null)
+                    known.put(id, car);
+                return car;
+            });
+        }, accepting(sink), rejects);
+    }
+
+    // runs one import; the sink returns null when it takes a row, or the reason it refuses it
+    private <T> ImportStats run(BufferedReader in, ImportFormat format, String[] columns,
+                                Supplier<Function<String[], T>> builders, Function<? super T, String> sink,
+                                Consumer<? super ImportRejection> rejects) throws IOException
+    {
+        ImportStats stats = new ImportStats();
+        _stats = stats;
+        Pipeline<T> pipeline = new Pipeline<>(in, format, columns, builders, stats);
+        try
+        {
+            pipeline.start();
+            pipeline.sink(sink, rejects);
+        }
+        catch (RuntimeException | Error e)
+        {
+            pipeline.abort(e);
+            throw e;
+        }
+        finally
+        {
+            pipeline.join();
+            stats.end();
+        }
+        Throwable failure = pipeline._failure.get();
+        if (failure instanceof IOException)
+            throw (IOException) failure;
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        if (failure instanceof Error)
+            throw (Error) failure;
+        return stats;
+    }
+
+    // the threads and queues of one import
+    private class Pipeline<T>
+    {
+        private final BufferedReader _in;
+        private final ImportFormat _format;
+        private final String[] _columns;
+        private final Supplier<Function<String[], T>> _builders;
+        private final ImportStats _stats;
+        private final Semaphore _inFlight = new Semaphore(_window);
+        private final BlockingQueue<Batch> _parseQueue = new ArrayBlockingQueue<>(_window + _parsers);
+        private final BlockingQueue<Batch> _sinkQueue = new ArrayBlockingQueue<>(_window + _parsers);
+        private final AtomicReference<Throwable> _failure = new AtomicReference<>();
+        private final Thread[] _threads = new Thread[_parsers + 1];
+
+        private Pipeline(BufferedReader in, ImportFormat format, String[] columns,
+                         Supplier<Function<String[], T>> builders, ImportStats stats)
+        {
+            _in = in;
+            _format = format;
+            _columns = columns;
+            _builders = builders;
+            _stats = stats;
+        }
+
+        private void start()
+        {
+            _threads[0] = new Thread(this::read, "import-reader");
+            for (int i = 1; i <= _parsers; i++)
+                _threads[i] = new Thread(this::parse, "import-parser-" + i);
+            for (Thread thread : _threads)
+            {
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+
+        // the reader stage: cuts the lines into batches, waiting while the window is full
+        private void read()
+        {
+            try
+            {
+                int sequence = 0;
+                long lineNumber = 0;
+                Batch batch = null;
+                String line;
+                while ((line = _in.readLine()) != null)
+                {
+                    lineNumber++;
+                    if (line.isBlank() || lineNumber == 1 && _format.isHeader(line, _columns))
+                        continue;
+                    if (batch == null)
+                    {
+                        if (!_inFlight.tryAcquire())
+                        {
+                            long start = System.nanoTime();
+                            _inFlight.acquire();
+                            _stats.readerWaited(System.nanoTime() - start);
+                        }
+                        batch = new Batch(sequence++, _batchRows);
+                    }
+                    batch._lines[batch._size] = lineNumber;
+                    batch._texts[batch._size++] = line;
+                    if (batch._size == _batchRows)
+                    {
+                        _stats.rowsRead(batch._size);
+                        _parseQueue.put(batch);
+                        batch = null;
+                    }
+                }
+                if (batch != null)
+                {
+                    _stats.rowsRead(batch._size);
+                    _parseQueue.put(batch);
+                }
+                for (int i = 0; i < _parsers; i++)
+                    _parseQueue.put(END);
+            }
+            catch (InterruptedException e)
+            {
+                // aborted
+            }
+            catch (IOException | RuntimeException | Error e)
+            {
+                abort(e);
+            }
+        }
+
+        // the parser stage: parses, validates and builds the rows of every batch
+        private void parse()
+        {
+            try
+            {
+                Function<String[], T> builder = _builders.get();
+                String[] fields = new String[_columns.length];
+                for (Batch batch; (batch = _parseQueue.take()) != END; )
+                {
+                    for (int i = 0; i < batch._size; i++)
+                    {
+                        try
+                        {
+                            _format.split(batch._texts[i], _columns, fields);
+                            batch._rows[i] = builder.apply(fields);
+                        }
+                        catch (IllegalArgumentException e)
+                        {
+                            batch._rows[i] = new ImportRejection(batch._lines[i], batch._texts[i], e.getMessage());
+                        }
+                    }
+                    _sinkQueue.put(batch);
+                }
+                _sinkQueue.put(END);
+            }
+            catch (InterruptedException e)
+            {
+                // aborted
+            }
+            catch (RuntimeException | Error e)
+            {
+                abort(e);
+            }
+        }
+
+        // the sink stage, on the calling thread: hands the rows over in batch order
+        @SuppressWarnings("unchecked")
+        private void sink(Function<? super T, String> sink, Consumer<? super ImportRejection> rejects)
+        {
+            IntObjectMap<Batch> pending = new IntObjectMap<>();
+            int next = 0;
+            int ended = 0;
+            while (ended < _parsers && _failure.get() == null)
+            {
+                Batch batch;
+                try
+                {
+                    batch = _sinkQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("import interrupted", e);
+                }
+                if (batch == null)
+                    continue;
+                if (batch == END)
+                {
+                    ended++;
+                    continue;
+                }
+                pending.put(batch._sequence, batch);
+                for (Batch ready; (ready = pending.remove(next)) != null; next++)
+                {
+                    for (int i = 0; i < ready._size; i++)
+                    {
+                        Object row = ready._rows[i];
+                        String reason = row instanceof ImportRejection ? null : sink.apply((T) row);
+                        if (row instanceof ImportRejection || reason != null)
+                        {
+                            _stats.rowRejected();
+                            rejects.accept(reason == null ? (ImportRejection) row
+                                    : new ImportRejection(ready._lines[i], ready._texts[i], reason));
+                        }
+                        else
+                            _stats.rowImported();
+                    }
+                    _inFlight.release();
+                }
+            }
+        }
+
+        private void abort(Throwable failure)
+        {
+            if (_failure.compareAndSet(null, failure))
+            {
+                for (Thread thread : _threads)
+                {
+                    if (thread != null && thread != Thread.currentThread())
+                        thread.interrupt();
+                }
+            }
+        }
+
+        private void join()
+        {
+            boolean interrupted = false;
+            for (Thread thread : _threads)
+            {
+                while (thread != null && thread.isAlive())
+                {
+                    try
+                    {
+                        thread.join();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    // builds a car of the fields id, type, brand, manual
+    private static Car car(String[] fields)
+    {
+        int id = number(fields[0], "id");
+        if (!Car.isLegalId(id))
+            throw new IllegalArgumentException("id must be a 7 digits number");
+        String type = fields[1];
+        if (type.length() != 1 || !Car.isLegalType(type.charAt(0)))
+            throw new IllegalArgumentException("type must be A, B, C or D");
+        return new Car(id, type.charAt(0), fields[2], bool(fields[3], "manual"));
+    }
+
+    // builds a rent of the fields name, carId, from, to
+    private static Rent rent(String[] fields, IntFunction<CarValue> cars)
+    {
+        String name = fields[0];
+        if (name.isEmpty())
+            throw new IllegalArgumentException("missing name");
+        int carId = number(fields[1], "carId");
+        CarValue car = cars.apply(carId);
+        if (car == null)
+            throw new IllegalArgumentException("unknown car id " + carId);
+        int pick = date(fields[2], "from");
+        int ret = date(fields[3], "to");
+        if (ret <= pick)
+            throw new IllegalArgumentException("return date must be after the pickup date");
+        return new Rent(name, car, LocalDay.ofEpochDay(pick), LocalDay.ofEpochDay(ret));
+    }
+
+    private static int number(String field, String column)
+    {
+        try
+        {
+            return Integer.parseInt(field);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException(column + " is not a number");
+        }
+    }
+
+    private static boolean bool(String field, String column)
+    {
+        if (field.equalsIgnoreCase("true"))
+            return true;
+        if (field.equalsIgnoreCase("false"))
+            return false;
+        throw new IllegalArgumentException(column + " must be true or false");
+    }
+
+    private static int date(String field, String column)
+    {
+        if (field.length() != DateCodec.LENGTH)
+            throw new IllegalArgumentException(column + " must be a dd/mm/yyyy date");
+        try
+        {
+            return DateCodec.parseLegal(field, 0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new IllegalArgumentException(column + ": " + e.getMessage());
+        }
+    }
+
+    private static BufferedReader buffered(Reader in)
+    {
+        return in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+    }
+
+    private static <T> Function<T, String> accepting(Consumer<? super T> sink)
+    {
+        return row ->
+        {
+            sink.accept(row);
+            return null;
+        };
+    }
+}
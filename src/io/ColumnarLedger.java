@@ -0,0 +1,277 @@
+package io;
+
+import model.PricingEngine;
+import model.Rent;
+import util.StringDictionary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * This class represents a read only, memory mapped, columnar ledger of rents.
+ * The file holds one column per field: car id, pickup day number, return day number and name id (ints),
+ * and the car class index (bytes), followed by the dictionary of the client names.
+ * Scans read the mapped columns directly and do not allocate per rent;
+ * a LedgerCursor gives a flyweight view of one row at a time.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class ColumnarLedger
+{
+    // "CRL1"
+    private static final int MAGIC = 0x43524C31;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final int INT_COLUMNS = 4;
+    private final int _rows;
+    private final IntBuffer _carIds;
+    private final IntBuffer _pickDays;
+    private final IntBuffer _returnDays;
+    private final IntBuffer _nameIds;
+    private final ByteBuffer _classes;
+    private final String[] _names;
+
+    private ColumnarLedger(int rows, IntBuffer carIds, IntBuffer pickDays, IntBuffer returnDays, IntBuffer nameIds,
+                           ByteBuffer classes, String[] names)
+    {
+        _rows = rows;
+        _carIds = carIds;
+        _pickDays = pickDays;
+        _returnDays = returnDays;
+        _nameIds = nameIds;
+        _classes = classes;
+        _names = names;
+    }
+
+    /**
+     * Writes rents to a new ledger file (replacing an existing file)
+     * @param path - the path of the file
+     * @param rents - the rents to write
+     * @throws IOException if the file can not be written
+     * @throws IllegalArgumentException if there are too many rents for one ledger file
+     */
+    public static void write(Path path, Collection<Rent> rents) throws IOException
+    {
+        int rows = rents.size();
+        if ((long) rows * Integer.BYTES > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("too many rents for one ledger file: " + rows);
+        StringDictionary names = new StringDictionary();
+        long columnsEnd = HEADER_BYTES + (long) rows * (INT_COLUMNS * Integer.BYTES + 1);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            MappedByteBuffer[] columns = new MappedByteBuffer[INT_COLUMNS];
+            for (int column = 0; column < INT_COLUMNS; column++)
+                columns[column] = mapColumn(channel, FileChannel.MapMode.READ_WRITE, rows, column);
+            IntBuffer carIds = columns[0].asIntBuffer();
+            IntBuffer pickDays = columns[1].asIntBuffer();
+            IntBuffer returnDays = columns[2].asIntBuffer();
+            IntBuffer nameIds = columns[3].asIntBuffer();
+            MappedByteBuffer classes = channel.map(FileChannel.MapMode.READ_WRITE, classesOffset(rows), rows);
+            for (Rent rent : rents)
+            {
+                carIds.put(rent.getCarId());
+                pickDays.put(rent.getPickEpochDay());
+                returnDays.put(rent.getReturnEpochDay());
+                nameIds.put(names.idOf(rent.getName()));
+                classes.put((byte) PricingEngine.classIndex(rent.getCarType()));
+            }
+            header.putInt(MAGIC).putInt(VERSION).putInt(rows).putLong(columnsEnd);
+            for (MappedByteBuffer column : columns)
+                column.force();
+            classes.force();
+            header.force();
+            channel.position(columnsEnd);
+            writeNames(channel, names);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Opens a ledger file, mapping its columns to memory
+     * @param path - the path of the file
+     * @return the ledger
+     * @throws IOException if the file can not be read or is not a ledger file
+     */
+    public static ColumnarLedger open(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION)
+                throw new IOException(path + " is not a rent ledger file");
+            int rows = header.getInt();
+            long namesOffset = header.getLong();
+            IntBuffer carIds = mapColumn(channel, FileChannel.MapMode.READ_ONLY, rows, 0).asIntBuffer();
+            IntBuffer pickDays = mapColumn(channel, FileChannel.MapMode.READ_ONLY, rows, 1).asIntBuffer();
+            IntBuffer returnDays = mapColumn(channel, FileChannel.MapMode.READ_ONLY, rows, 2).asIntBuffer();
+            IntBuffer nameIds = mapColumn(channel, FileChannel.MapMode.READ_ONLY, rows, 3).asIntBuffer();
+            ByteBuffer classes = channel.map(FileChannel.MapMode.READ_ONLY, classesOffset(rows), rows);
+            ByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, namesOffset, channel.size() - namesOffset);
+            String[] names = new String[footer.getInt()];
+            for (int i = 0; i < names.length; i++)
+            {
+                int length = footer.getInt();
+                if (length >= 0)
+                {
+                    byte[] bytes = new byte[length];
+                    footer.get(bytes);
+                    names[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+            return new ColumnarLedger(rows, carIds, pickDays, returnDays, nameIds, classes, names);
+        }
+    }
+
+    /**
+     * Returns the number of rents in the ledger
+     * @return the number of rents
+     */
+    public int size()
+    {
+        return _rows;
+    }
+
+    /**
+     * Returns a new cursor, before the first rent of the ledger
+     * @return a new cursor
+     */
+    public LedgerCursor cursor()
+    {
+        return new LedgerCursor(this);
+    }
+
+    /**
+     * Returns the total price of all the rents
+     * @param pricing - the prices to use
+     * @return the total price
+     */
+    public long totalRevenue(PricingEngine pricing)
+    {
+        long total = 0;
+        for (int row = 0; row < _rows; row++)
+            total += pricing.price(_classes.get(row), _returnDays.get(row) - _pickDays.get(row));
+        return total;
+    }
+
+    /**
+     * Returns the total price of the rents of every car class
+     * @param pricing - the prices to use
+     * @return an array holding the total price of every class index (0 for 'A', 1 for 'B', ...)
+     */
+    public long[] revenueByClass(PricingEngine pricing)
+    {
+        long[] revenue = new long[pricing.getClassCount()];
+        for (int row = 0; row < _rows; row++)
+        {
+            int classIndex = _classes.get(row);
+            if (classIndex >= 0 && classIndex < revenue.length)
+                revenue[classIndex] += pricing.price(classIndex, _returnDays.get(row) - _pickDays.get(row));
+        }
+        return revenue;
+    }
+
+    /**
+     * Returns the total number of rent days of all the rents
+     * @return the total number of rent days
+     */
+    public long totalDays()
+    {
+        long total = 0;
+        for (int row = 0; row < _rows; row++)
+            total += _returnDays.get(row) - _pickDays.get(row);
+        return total;
+    }
+
+    /**
+     * Returns the number of rents of a car that overlap the days [from, to)
+     * @param carId - the id of the car
+     * @param from - the day number of the first day
+     * @param to - the day number of the day after the last day
+     * @return the number of overlapping rents
+     */
+    public int countOverlaps(int carId, int from, int to)
+    {
+        int count = 0;
+        for (int row = 0; row < _rows; row++)
+        {
+            if (_carIds.get(row) == carId && _pickDays.get(row) < to && from < _returnDays.get(row))
+                count++;
+        }
+        return count;
+    }
+
+    int carId(int row)
+    {
+        return _carIds.get(row);
+    }
+
+    int pickDay(int row)
+    {
+        return _pickDays.get(row);
+    }
+
+    int returnDay(int row)
+    {
+        return _returnDays.get(row);
+    }
+
+    int nameId(int row)
+    {
+        return _nameIds.get(row);
+    }
+
+    int classIndex(int row)
+    {
+        return _classes.get(row);
+    }
+
+    String name(int nameId)
+    {
+        return _names[nameId];
+    }
+
+    private static MappedByteBuffer mapColumn(FileChannel channel, FileChannel.MapMode mode, int rows, int column) throws IOException
+    {
+        long offset = HEADER_BYTES + (long) column * rows * Integer.BYTES;
+        return channel.map(mode, offset, (long) rows * Integer.BYTES);
+    }
+
+    private static long classesOffset(int rows)
+    {
+        return HEADER_BYTES + (long) INT_COLUMNS * rows * Integer.BYTES;
+    }
+
+    // writes the number of names, then every name as its UTF-8 length (-1 for null) and bytes
+    private static void writeNames(FileChannel channel, StringDictionary names) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        buffer.putInt(names.size());
+        for (int id = 0; id < names.size(); id++)
+        {
+            String name = names.get(id);
+            byte[] bytes = name == null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+            if (buffer.remaining() < Integer.BYTES + bytes.length)
+            {
+                buffer.flip();
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+                buffer = ByteBuffer.allocate(Math.max(1 << 16, Integer.BYTES + bytes.length));
+            }
+            buffer.putInt(name == null ? -1 : bytes.length);
+            buffer.put(bytes);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+}
@@ -0,0 +1,167 @@
+package io;
+
+import model.CalendarTable;
+import model.Date;
+import model.LocalDay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class parses and formats dates in the Date.toString format (dd/mm/yyyy) without building Date objects.
+ * Dates are parsed from characters or ASCII bytes straight into day numbers, with the same validation
+ * as the Date constructor: illegal dates fall back to 01/01/2000.
+ * Dates are formatted into a caller supplied StringBuilder or ByteBuffer, so no String is created.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class DateCodec
+{
+    /** The length of a formatted date */
+    public static final int LENGTH = 10;
+    private static final char SEPARATOR = '/';
+
+    private DateCodec()
+    {
+    }
+
+    /**
+     * Parses a date
+     * @param text - the text holding the date in the format dd/mm/yyyy
+     * @param offset - the index of the first character of the date
+     * @return the day number of the date, or of 01/01/2000 if the date is illegal
+     * @throws IllegalArgumentException if the characters are not in the format dd/mm/yyyy
+     */
+    public static int parse(CharSequence text, int offset)
+    {
+        return parse(text, offset, false);
+    }
+
+    /**
+     * Parses a legal date, rejecting illegal dates instead of falling back to 01/01/2000
+     * @param text - the text holding the date in the format dd/mm/yyyy
+     * @param offset - the index of the first character of the date
+     * @return the day number of the date
+     * @throws IllegalArgumentException if the characters are not in the format dd/mm/yyyy or the date is illegal
+     */
+    public static int parseLegal(CharSequence text, int offset)
+    {
+        return parse(text, offset, true);
+    }
+
+    private static int parse(CharSequence text, int offset, boolean legal)
+    {
+        if (offset < 0 || offset + LENGTH > text.length()
+                || text.charAt(offset + 2) != SEPARATOR || text.charAt(offset + 5) != SEPARATOR)
+            throw malformed(offset);
+        int day = digit(text.charAt(offset), offset) * 10 + digit(text.charAt(offset + 1), offset);
+        int month = digit(text.charAt(offset + 3), offset) * 10 + digit(text.charAt(offset + 4), offset);
+        int year = 0;
+        for (int i = offset + 6; i < offset + LENGTH; i++)
+            year = year * 10 + digit(text.charAt(i), offset);
+        if (legal && !Date.isLegal(day, month, year))
+            throw new IllegalArgumentException("illegal date " + text.subSequence(offset, offset + LENGTH));
+        return Date.epochDayOf(day, month, year);
+    }
+
+    /**
+     * Parses a date of ASCII bytes, without moving the buffer position
+     * @param buffer - the buffer holding the date in the format dd/mm/yyyy
+     * @param index - the index of the first byte of the date
+     * @return the day number of the date, or of 01/01/2000 if the date is illegal
+     * @throws IllegalArgumentException if the bytes are not in the format dd/mm/yyyy
+     */
+    public static int parse(ByteBuffer buffer, int index)
+    {
+        if (index < 0 || index + LENGTH > buffer.limit()
+                || buffer.get(index + 2) != SEPARATOR || buffer.get(index + 5) != SEPARATOR)
+            throw malformed(index);
+        int day = digit((char) buffer.get(index), index) * 10 + digit((char) buffer.get(index + 1), index);
+        int month = digit((char) buffer.get(index + 3), index) * 10 + digit((char) buffer.get(index + 4), index);
+        int year = 0;
+        for (int i = index + 6; i < index + LENGTH; i++)
+            year = year * 10 + digit((char) buffer.get(i), index);
+        return Date.epochDayOf(day, month, year);
+    }
+
+    /**
+     * Appends a date in the format dd/mm/yyyy
+     * @param date - the date
+     * @param out - the builder to append to
+     * @return the builder
+     */
+    public static StringBuilder format(Date date, StringBuilder out)
+    {
+        return format(date.getDay(), date.getMonth(), date.getYear(), out);
+    }
+
+    /**
+     * Appends a day in the format dd/mm/yyyy
+     * @param day - the day
+     * @param out - the builder to append to
+     * @return the builder
+     */
+    public static StringBuilder format(LocalDay day, StringBuilder out)
+    {
+        return format(day.getDay(), day.getMonth(), day.getYear(), out);
+    }
+
+    /**
+     * Appends the date of a day number in the format dd/mm/yyyy
+     * @param epochDay - the day number
+     * @param out - the builder to append to
+     * @return the builder
+     */
+    public static StringBuilder formatEpochDay(int epochDay, StringBuilder out)
+    {
+        if (epochDay < CalendarTable.FIRST_EPOCH_DAY || epochDay > CalendarTable.LAST_EPOCH_DAY)
+            return format(Date.ofEpochDay(epochDay), out); // the fallback date, counted as Date counts it
+        return format(CalendarTable.dayOf(epochDay), CalendarTable.monthOf(epochDay), CalendarTable.yearOf(epochDay), out);
+    }
+
+    /**
+     * Writes a day as 10 ASCII bytes in the format dd/mm/yyyy, at the buffer position
+     * @param day - the day
+     * @param buffer - the buffer to write to (at least LENGTH bytes remaining)
+     */
+    public static void put(LocalDay day, ByteBuffer buffer)
+    {
+        putTwoDigits(day.getDay(), buffer);
+        buffer.put((byte) SEPARATOR);
+        putTwoDigits(day.getMonth(), buffer);
+        buffer.put((byte) SEPARATOR);
+        int year = day.getYear();
+        putTwoDigits(year / 100, buffer);
+        putTwoDigits(year % 100, buffer);
+    }
+
+    private static StringBuilder format(int day, int month, int year, StringBuilder out)
+    {
+        appendTwoDigits(day, out).append(SEPARATOR);
+        appendTwoDigits(month, out).append(SEPARATOR);
+        return appendTwoDigits(year % 100, appendTwoDigits(year / 100, out));
+    }
+
+    private static StringBuilder appendTwoDigits(int value, StringBuilder out)
+    {
+        return out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void putTwoDigits(int value, ByteBuffer buffer)
+    {
+        buffer.put((byte) ('0' + value / 10));
+        buffer.put((byte) ('0' + value % 10));
+    }
+
+    private static int digit(char c, int offset)
+    {
+        if (c < '0' || c > '9')
+            throw malformed(offset);
+        return c - '0';
+    }
+
+    private static IllegalArgumentException malformed(int offset)
+    {
+        return new IllegalArgumentException("expected a dd/mm/yyyy date at " + offset);
+    }
+}
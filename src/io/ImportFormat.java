@@ -0,0 +1,250 @@
+package io;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * This enum represents the line formats read by BulkImporter. Every line holds one row, and a row is split
+ * into the fields of the import columns, in column order.
+ * CSV - the fields in column order, separated by commas; a field may be quoted ("...") to hold commas,
+ * with "" for a quote. A first line holding the column names is a header and is skipped.
+ * JSONL - a flat JSON object per line, keyed by the column names (other keys are ignored).
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public enum ImportFormat
+{
+    CSV
+    {
+        void split(String line, String[] columns, String[] fields)
+        {
+            int field = 0;
+            int i = 0;
+            int length = line.length();
+            while (true)
+            {
+                if (field == fields.length)
+                    throw new IllegalArgumentException("expected " + columns.length + " fields");
+                if (i < length && line.charAt(i) == QUOTE)
+                {
+                    StringBuilder text = new StringBuilder();
+                    i = quoted(line, i + 1, text);
+                    fields[field++] = text.toString();
+                }
+                else
+                {
+                    int end = line.indexOf(',', i);
+                    end = end < 0 ? length : end;
+                    fields[field++] = line.substring(i, end).trim();
+                    i = end;
+                }
+                if (i == length)
+                    break;
+                if (line.charAt(i) != ',')
+                    throw new IllegalArgumentException("expected a comma after field " + field);
+                i++;
+            }
+            if (field != fields.length)
+                throw new IllegalArgumentException("expected " + columns.length + " fields");
+        }
+
+        boolean isHeader(String line, String[] columns)
+        {
+            String[] fields = new String[columns.length];
+            try
+            {
+                split(line, columns, fields);
+            }
+            catch (IllegalArgumentException e)
+            {
+                return false;
+            }
+            for (int i = 0; i < columns.length; i++)
+            {
+                if (!columns[i].equalsIgnoreCase(fields[i]))
+                    return false;
+            }
+            return true;
+        }
+    },
+    JSONL
+    {
+        void split(String line, String[] columns, String[] fields)
+        {
+            Arrays.fill(fields, null);
+            int i = skipSpaces(line, 0);
+            i = expect(line, i, '{');
+            i = skipSpaces(line, i);
+            if (i < line.length() && line.charAt(i) == '}')
+                i++;
+            else
+            {
+                while (true)
+                {
+                    StringBuilder key = new StringBuilder();
+                    i = expect(line, skipSpaces(line, i), QUOTE);
+                    i = string(line, i, key);
+                    i = expect(line, skipSpaces(line, i), ':');
+                    i = skipSpaces(line, i);
+                    StringBuilder value = new StringBuilder();
+                    boolean isNull = false;
+                    if (i < line.length() && line.charAt(i) == QUOTE)
+                        i = string(line, i + 1, value);
+                    else
+                    {
+                        i = literal(line, i, value);
+                        isNull = "null".contentEquals(value);
+                    }
+                    int column = indexOf(columns, key);
+                    if (column >= 0 && !isNull)
+                        fields[column] = value.toString();
+                    i = skipSpaces(line, i);
+                    if (i < line.length() && line.charAt(i) == ',')
+                    {
+                        i++;
+                        continue;
+                    }
+                    i = expect(line, i, '}');
+                    break;
+                }
+            }
+            if (skipSpaces(line, i) != line.length())
+                throw new IllegalArgumentException("unexpected text after the object");
+            for (int column = 0; column < columns.length; column++)
+            {
+                if (fields[column] == null)
+                    throw new IllegalArgumentException("missing " + columns[column]);
+            }
+        }
+
+        boolean isHeader(String line, String[] columns)
+        {
+            return false;
+        }
+    };
+
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the format of a file by its extension: .jsonl, .ndjson and .json files are JSONL, other files are CSV
+     * @param path - the path of the file
+     * @return the format of the file
+     */
+    public static ImportFormat of(Path path)
+    {
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json") ? JSONL : CSV;
+    }
+
+    /**
+     * Splits a line into the fields of the columns
+     * @param line - the line of one row
+     * @param columns - the column names
+     * @param fields - receives the field of every column
+     * @throws IllegalArgumentException if the line is not a row of the columns
+     */
+    abstract void split(String line, String[] columns, String[] fields);
+
+    /**
+     * Checks if the first line of the input is a header line
+     * @param line - the first line
+     * @param columns - the column names
+     * @return true if the line is a header, otherwise false
+     */
+    abstract boolean isHeader(String line, String[] columns);
+
+    // reads a CSV quoted field from after its opening quote, returns the index after its closing quote
+    private static int quoted(String line, int i, StringBuilder out)
+    {
+        while (i < line.length())
+        {
+            char c = line.charAt(i++);
+            if (c != QUOTE)
+                out.append(c);
+            else if (i < line.length() && line.charAt(i) == QUOTE)
+                out.append(line.charAt(i++));
+            else
+                return i;
+        }
+        throw new IllegalArgumentException("unterminated quoted field");
+    }
+
+    // reads a JSON string from after its opening quote, returns the index after its closing quote
+    private static int string(String line, int i, StringBuilder out)
+    {
+        while (i < line.length())
+        {
+            char c = line.charAt(i++);
+            if (c == QUOTE)
+                return i;
+            if (c != '\\')
+            {
+                out.append(c);
+                continue;
+            }
+            if (i == line.length())
+                break;
+            char escaped = line.charAt(i++);
+            switch (escaped)
+            {
+                case 'n': out.append('\n'); break;
+                case 't': out.append('\t'); break;
+                case 'r': out.append('\r'); break;
+                case 'b': out.append('\b'); break;
+                case 'f': out.append('\f'); break;
+                case 'u':
+                    if (i + 4 > line.length())
+                        throw new IllegalArgumentException("bad \\u escape");
+                    try
+                    {
+                        out.append((char) Integer.parseInt(line, i, i + 4, 16));
+                    }
+                    catch (NumberFormatException e)
+                    {
+                        throw new IllegalArgumentException("bad \\u escape");
+                    }
+                    i += 4;
+                    break;
+                default: out.append(escaped);
+            }
+        }
+        throw new IllegalArgumentException("unterminated string");
+    }
+
+    // reads a JSON number, true, false or null
+    private static int literal(String line, int i, StringBuilder out)
+    {
+        int start = i;
+        while (i < line.length() && line.charAt(i) != ',' && line.charAt(i) != '}' && !Character.isWhitespace(line.charAt(i)))
+            i++;
+        if (i == start)
+            throw new IllegalArgumentException("missing value at " + start);
+        out.append(line, start, i);
+        return i;
+    }
+
+    private static int skipSpaces(String line, int i)
+    {
+        while (i < line.length() && Character.isWhitespace(line.charAt(i)))
+            i++;
+        return i;
+    }
+
+    private static int expect(String line, int i, char c)
+    {
+        if (i >= line.length() || line.charAt(i) != c)
+            throw new IllegalArgumentException("expected '" + c + "' at " + i);
+        return i + 1;
+    }
+
+    private static int indexOf(String[] columns, CharSequence key)
+    {
+        for (int i = 0; i < columns.length; i++)
+        {
+            if (columns[i].contentEquals(key))
+                return i;
+        }
+        return -1;
+    }
+}
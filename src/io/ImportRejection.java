@@ -0,0 +1,65 @@
+package io;
+
+/**
+ * This class represents a row rejected by BulkImporter: the line it was read from and the reason it was rejected.
+ * Rows are rejected instead of being built with the fallback values of the constructors
+ * (id 9999999, type 'A', date 01/01/2000).
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class ImportRejection
+{
+    private final long _line;
+    private final String _text;
+    private final String _reason;
+
+    /**
+     * Creates a new ImportRejection
+     * @param line - the line number of the row (from 1)
+     * @param text - the text of the row
+     * @param reason - the reason the row was rejected
+     */
+    public ImportRejection(long line, String text, String reason)
+    {
+        _line = line;
+        _text = text;
+        _reason = reason;
+    }
+
+    /**
+     * Gets the line number of the row
+     * @return the line number (from 1)
+     */
+    public long getLine()
+    {
+        return _line;
+    }
+
+    /**
+     * Gets the text of the row
+     * @return the text of the row
+     */
+    public String getText()
+    {
+        return _text;
+    }
+
+    /**
+     * Gets the reason the row was rejected
+     * @return the reason
+     */
+    public String getReason()
+    {
+        return _reason;
+    }
+
+    /**
+     * Returns a string representation of the rejection
+     * @return the line number, the reason and the text, for example: line 12: illegal date 31/02/2022: ...
+     */
+    public String toString()
+    {
+        return "line " + _line + ": " + _reason + ": " + _text;
+    }
+}
@@ -0,0 +1,122 @@
+package io;
+
+/**
+ * This class represents the progress of one BulkImporter import. The counters are updated while the import
+ * runs and may be read from any thread, so a running import can be watched (BulkImporter.getStats).
+ * Every counter is written by a single stage thread: rows read by the reader, rows imported and rejected
+ * by the sink.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class ImportStats
+{
+    private final long _startNanos = System.nanoTime();
+    private volatile long _endNanos;
+    private volatile long _read;
+    private volatile long _imported;
+    private volatile long _rejected;
+    private volatile long _readerWaitNanos;
+
+    /**
+     * Gets the number of rows read so far (blank lines and the header are not rows)
+     * @return the number of rows read
+     */
+    public long getRowsRead()
+    {
+        return _read;
+    }
+
+    /**
+     * Gets the number of rows imported (given to the sink) so far
+     * @return the number of rows imported
+     */
+    public long getRowsImported()
+    {
+        return _imported;
+    }
+
+    /**
+     * Gets the number of rows rejected so far
+     * @return the number of rows rejected
+     */
+    public long getRowsRejected()
+    {
+        return _rejected;
+    }
+
+    /**
+     * Gets the time the reader waited for the parsers and the sink to catch up. A large share of the
+     * elapsed time means the reader is not the bottleneck of the import.
+     * @return the backpressure wait in nanoseconds
+     */
+    public long getReaderWaitNanos()
+    {
+        return _readerWaitNanos;
+    }
+
+    /**
+     * Checks if the import ended (completed or failed)
+     * @return true if the import ended, otherwise false
+     */
+    public boolean isDone()
+    {
+        return _endNanos != 0;
+    }
+
+    /**
+     * Gets the time since the import started, up to its end if it ended
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos()
+    {
+        long end = _endNanos;
+        return (end != 0 ? end : System.nanoTime()) - _startNanos;
+    }
+
+    /**
+     * Gets the throughput of the import: rows imported or rejected per second of elapsed time
+     * @return the rows per second
+     */
+    public double getRowsPerSecond()
+    {
+        long elapsed = getElapsedNanos();
+        return elapsed == 0 ? 0 : (_imported + _rejected) * 1e9 / elapsed;
+    }
+
+    /**
+     * Returns a string representation of the progress
+     * @return the counters, for example: 200000 read, 199990 imported, 10 rejected, 1.2 s, 166658 rows/s
+     */
+    public String toString()
+    {
+        return _read + " read, " + _imported + " imported, " + _rejected + " rejected, "
+                + String.format("%.1f s, %.0f rows/s", getElapsedNanos() / 1e9, getRowsPerSecond());
+    }
+
+    // the counters are only written by their stage thread, so a plain read and write is enough
+    void rowsRead(int rows)
+    {
+        _read += rows;
+    }
+
+    void rowImported()
+    {
+        _imported++;
+    }
+
+    void rowRejected()
+    {
+        _rejected++;
+    }
+
+    void readerWaited(long nanos)
+    {
+        _readerWaitNanos += nanos;
+    }
+
+    void end()
+    {
+        _endNanos = Math.max(System.nanoTime(), _startNanos + 1);
+    }
+}
@@ -0,0 +1,127 @@
+package io;
+
+import model.PricingEngine;
+
+/**
+ * This class represents a cursor over the rows of a ColumnarLedger.
+ * It is a flyweight view: the getters mirror those of Rent and read the current row
+ * straight from the mapped columns, so moving the cursor does not allocate.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class LedgerCursor
+{
+    private static final char FIRST_CLASS = 'A';
+    private final ColumnarLedger _ledger;
+    private int _row = -1;
+
+    LedgerCursor(ColumnarLedger ledger)
+    {
+        _ledger = ledger;
+    }
+
+    /**
+     * Moves the cursor to the next rent
+     * @return true if the cursor is on a rent, false if there are no more rents
+     */
+    public boolean next()
+    {
+        if (_row < _ledger.size())
+            _row++;
+        return _row < _ledger.size();
+    }
+
+    /**
+     * Moves the cursor to a rent
+     * @param row - the index of the rent (0 to size - 1)
+     * @throws IndexOutOfBoundsException if there is no such rent
+     */
+    public void moveTo(int row)
+    {
+        if (row < 0 || row >= _ledger.size())
+            throw new IndexOutOfBoundsException("row " + row + " of " + _ledger.size());
+        _row = row;
+    }
+
+    /**
+     * Gets the index of the current rent
+     * @return the index of the current rent
+     */
+    public int getRow()
+    {
+        return _row;
+    }
+
+    /**
+     * Gets the client name
+     * @return the client name
+     */
+    public String getName()
+    {
+        return _ledger.name(_ledger.nameId(_row));
+    }
+
+    /**
+     * Gets the dictionary id of the client name
+     * @return the name id
+     */
+    public int getNameId()
+    {
+        return _ledger.nameId(_row);
+    }
+
+    /**
+     * Gets the id of the rented car
+     * @return the car id
+     */
+    public int getCarId()
+    {
+        return _ledger.carId(_row);
+    }
+
+    /**
+     * Gets the type of the rented car
+     * @return the car type ('A','B','C' or 'D')
+     */
+    public char getCarType()
+    {
+        return (char) (FIRST_CLASS + _ledger.classIndex(_row));
+    }
+
+    /**
+     * Gets the day number of the pickup date
+     * @return the day number of the pickup date
+     */
+    public int getPickEpochDay()
+    {
+        return _ledger.pickDay(_row);
+    }
+
+    /**
+     * Gets the day number of the return date
+     * @return the day number of the return date
+     */
+    public int getReturnEpochDay()
+    {
+        return _ledger.returnDay(_row);
+    }
+
+    /**
+     * Returns the number of rent days
+     * @return the number of rent days
+     */
+    public int howManyDays()
+    {
+        return _ledger.returnDay(_row) - _ledger.pickDay(_row);
+    }
+
+    /**
+     * Returns the rent total price, with the standard prices
+     * @return the rent total price
+     */
+    public int getPrice()
+    {
+        return PricingEngine.getDefault().price(_ledger.classIndex(_row), howManyDays());
+    }
+}
@@ -0,0 +1,475 @@
+package io;
+
+import model.Car;
+import model.CarValue;
+import model.LocalDay;
+import model.PricingEngine;
+import model.Rent;
+import util.IntObjectMap;
+import util.StringDictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class represents a store of cars and rents kept off the Java heap, in fixed size slots of direct
+ * ByteBuffers. A rent is 16 bytes (name id, car slot, pickup and return day numbers) instead of a Rent object
+ * with its dates and car value, and the garbage collector sees a few large buffers instead of an object graph,
+ * so 100M rents take 1.6 GB of direct memory (raise -XX:MaxDirectMemorySize to at least that).
+ * A car is 16 bytes: id, type and gear byte (as in BinaryCodec), brand id and its number of rents.
+ * Client names and brands are kept once each in on-heap dictionaries.
+ * Slots are allocated in chunks; a removed car or rent slot goes to a free list and is given to the next car
+ * or rent added, so slots are reused. The name and brand dictionaries only grow: an entry stays after its
+ * last rent or car is removed, so a store that keeps seeing new clients grows by their names.
+ * A rent is read by its slot number with getters mirroring those of Rent.
+ * The store is not thread safe, and its memory is released when the store is garbage collected.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class OffHeapStore
+{
+    private static final int DEFAULT_RENTS_PER_CHUNK = 1 << 20;
+    private static final int MAX_CARS_PER_CHUNK = 1 << 16;
+    private static final int MAX_SLOTS_PER_CHUNK = 1 << 26;
+    private static final int SLOT_BYTES = 16;
+    private static final int NONE = -1;
+    // car slot fields (a free car slot has id 0 and the next free slot in place of the brand)
+    private static final int CAR_ID = 0;
+    private static final int CAR_TYPE_AND_GEAR = 4;
+    private static final int CAR_BRAND = 8;
+    private static final int CAR_RENTS = 12;
+    // rent slot fields (a free rent slot has car slot NONE and the next free slot in place of the name)
+    private static final int RENT_NAME = 0;
+    private static final int RENT_CAR = 4;
+    private static final int RENT_PICK = 8;
+    private static final int RENT_RETURN = 12;
+    private final Arena _cars;
+    private final Arena _rents;
+    private final IntObjectMap<Integer> _carSlots = new IntObjectMap<>();
+    private final StringDictionary _names = new StringDictionary();
+    private final StringDictionary _brands = new StringDictionary();
+
+    // fixed size slots in direct buffer chunks, with a free list linked through one int field of the free slots
+    private static final class Arena
+    {
+        private final int _shift;
+        private final int _mask;
+        private final int _linkOffset;
+        private ByteBuffer[] _chunks = new ByteBuffer[0];
+        private int _top;
+        private int _free = NONE;
+        private int _live;
+
+        private Arena(int slotsPerChunk, int linkOffset)
+        {
+            _shift = Integer.numberOfTrailingZeros(slotsPerChunk);
+            _mask = slotsPerChunk - 1;
+            _linkOffset = linkOffset;
+        }
+
+        private int allocate()
+        {
+            int slot = _free;
+            if (slot != NONE)
+                _free = getInt(slot, _linkOffset);
+            else
+            {
+                if (_top == Integer.MAX_VALUE)
+                    throw new IllegalStateException("the store is full");
+                slot = _top++;
+                int chunk = slot >>> _shift;
+                if (chunk == _chunks.length)
+                {
+                    _chunks = Arrays.copyOf(_chunks, chunk + 1);
+                    _chunks[chunk] = ByteBuffer.allocateDirect((_mask + 1) * SLOT_BYTES).order(ByteOrder.nativeOrder());
+                }
+            }
+            _live++;
+            return slot;
+        }
+
+        private void free(int slot)
+        {
+            putInt(slot, _linkOffset, _free);
+            _free = slot;
+            _live--;
+        }
+
+        private int getInt(int slot, int field)
+        {
+            return _chunks[slot >>> _shift].getInt((slot & _mask) * SLOT_BYTES + field);
+        }
+
+        private void putInt(int slot, int field, int value)
+        {
+            _chunks[slot >>> _shift].putInt((slot & _mask) * SLOT_BYTES + field, value);
+        }
+
+        private byte getByte(int slot, int field)
+        {
+            return _chunks[slot >>> _shift].get((slot & _mask) * SLOT_BYTES + field);
+        }
+
+        private void putByte(int slot, int field, byte value)
+        {
+            _chunks[slot >>> _shift].put((slot & _mask) * SLOT_BYTES + field, value);
+        }
+
+        private long bytes()
+        {
+            return (long) _chunks.length * (_mask + 1) * SLOT_BYTES;
+        }
+    }
+
+    /**
+     * Creates a new empty store, allocating rent slots 1M (16 MB) at a time
+     */
+    public OffHeapStore()
+    {
+        this(DEFAULT_RENTS_PER_CHUNK);
+    }
+
+    /**
+     * Creates a new empty store
+     * @param rentsPerChunk - the number of rent slots allocated at a time (a power of two, up to 2^26)
+     * @throws IllegalArgumentException if rentsPerChunk is not a power of two between 1 and 2^26
+     */
+    public OffHeapStore(int rentsPerChunk)
+    {
+        if (rentsPerChunk < 1 || rentsPerChunk > MAX_SLOTS_PER_CHUNK || Integer.bitCount(rentsPerChunk) != 1)
+            throw new IllegalArgumentException("rentsPerChunk must be a power of two between 1 and 2^26");
+        _rents = new Arena(rentsPerChunk, RENT_NAME);
+        _cars = new Arena(Math.min(rentsPerChunk, MAX_CARS_PER_CHUNK), CAR_BRAND);
+    }
+
+    /**
+     * Adds a car to the store (only if no car of the store has the same id)
+     * @param car - the car to add
+     * @return true if the car was added, otherwise false
+     */
+    public boolean addCar(Car car)
+    {
+        return addCar(CarValue.from(car));
+    }
+
+    /**
+     * Adds a car to the store (only if no car of the store has the same id)
+     * @param car - the car to add
+     * @return true if the car was added, otherwise false
+     */
+    public boolean addCar(CarValue car)
+    {
+        if (_carSlots.containsKey(car.getId()))
+            return false;
+        int slot = _cars.allocate();
+        _cars.putInt(slot, CAR_ID, car.getId());
+        _cars.putByte(slot, CAR_TYPE_AND_GEAR, BinaryCodec.typeAndGear(car.getType(), car.getIsManual()));
+        _cars.putInt(slot, CAR_BRAND, _brands.idOf(car.getBrand()));
+        _cars.putInt(slot, CAR_RENTS, 0);
+        _carSlots.put(car.getId(), slot);
+        return true;
+    }
+
+    /**
+     * Removes the car with the given id from the store
+     * @param id - the id of the car to remove
+     * @return true if the car was removed, false if there is no such car
+     * @throws IllegalStateException if rents of the car are in the store
+     */
+    public boolean removeCar(int id)
+    {
+        Integer slot = _carSlots.get(id);
+        if (slot == null)
+            return false;
+        if (_cars.getInt(slot, CAR_RENTS) > 0)
+            throw new IllegalStateException("car " + id + " still has rents");
+        _carSlots.remove(id);
+        _cars.putInt(slot, CAR_ID, 0);
+        _cars.free(slot);
+        return true;
+    }
+
+    /**
+     * Returns the car with the given id
+     * @param id - the id of the car
+     * @return a new CarValue of the car, or null if there is no such car
+     */
+    public CarValue getCar(int id)
+    {
+        Integer slot = _carSlots.get(id);
+        return slot == null ? null : carValue(slot);
+    }
+
+    /**
+     * Returns the number of cars in the store
+     * @return the number of cars
+     */
+    public int carCount()
+    {
+        return _cars._live;
+    }
+
+    /**
+     * Adds a rent to the store. Its car must be in the store.
+     * @param rent - the rent to add (later changes of the rent are not seen by the store)
+     * @return the slot of the rent
+     * @throws IllegalArgumentException if the car of the rent is not in the store
+     */
+    public int addRent(Rent rent)
+    {
+        return addRent(rent.getName(), rent.getCarId(), rent.getPickEpochDay(), rent.getReturnEpochDay());
+    }
+
+    /**
+     * Adds a rent to the store. Its car must be in the store.
+     * If the return day is not after the pickup day the rent is of one day, as in the Rent constructor.
+     * @param name - the client's name
+     * @param carId - the id of the rented car
+     * @param pickEpochDay - the day number of the pickup date
+     * @param returnEpochDay - the day number of the return date
+     * @return the slot of the rent
+     * @throws IllegalArgumentException if the car is not in the store
+     */
+    public int addRent(String name, int carId, int pickEpochDay, int returnEpochDay)
+    {
+        Integer carSlot = _carSlots.get(carId);
+        if (carSlot == null)
+            throw new IllegalArgumentException("car " + carId + " is not in the store");
+        int slot = _rents.allocate();
+        _rents.putInt(slot, RENT_NAME, _names.idOf(name));
+        _rents.putInt(slot, RENT_CAR, carSlot);
+        _rents.putInt(slot, RENT_PICK, pickEpochDay);
+        _rents.putInt(slot, RENT_RETURN, returnEpochDay > pickEpochDay ? returnEpochDay : pickEpochDay + 1);
+        _cars.putInt(carSlot, CAR_RENTS, _cars.getInt(carSlot, CAR_RENTS) + 1);
+        return slot;
+    }
+
+    /**
+     * Removes a rent from the store; its slot is given to a rent added later
+     * @param slot - the slot of the rent
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public void removeRent(int slot)
+    {
+        int carSlot = carSlotOf(slot);
+        _cars.putInt(carSlot, CAR_RENTS, _cars.getInt(carSlot, CAR_RENTS) - 1);
+        _rents.putInt(slot, RENT_CAR, NONE);
+        _rents.free(slot);
+    }
+
+    /**
+     * Check if a slot holds a rent
+     * @param slot - the slot
+     * @return true if the slot holds a rent, otherwise false
+     */
+    public boolean isRent(int slot)
+    {
+        return slot >= 0 && slot < _rents._top && _rents.getInt(slot, RENT_CAR) != NONE;
+    }
+
+    /**
+     * Returns the number of rents in the store
+     * @return the number of rents
+     */
+    public int rentCount()
+    {
+        return _rents._live;
+    }
+
+    /**
+     * Returns the number of rent slots ever used: every rent slot is below it
+     * @return the number of rent slots used, free or not
+     */
+    public int rentSlots()
+    {
+        return _rents._top;
+    }
+
+    /**
+     * Returns the direct memory held by the store
+     * @return the number of bytes of the car and rent slot chunks
+     */
+    public long getOffHeapBytes()
+    {
+        return _cars.bytes() + _rents.bytes();
+    }
+
+    /**
+     * Performs the given action on the slot of every rent of the store, in slot order
+     * @param action - the action to perform
+     */
+    public void forEachRent(IntConsumer action)
+    {
+        for (int slot = 0; slot < _rents._top; slot++)
+        {
+            if (_rents.getInt(slot, RENT_CAR) != NONE)
+                action.accept(slot);
+        }
+    }
+
+    /**
+     * Returns the total price of all the rents
+     * @param pricing - the prices to use
+     * @return the total price
+     */
+    public long totalRevenue(PricingEngine pricing)
+    {
+        long total = 0;
+        for (int slot = 0; slot < _rents._top; slot++)
+        {
+            int carSlot = _rents.getInt(slot, RENT_CAR);
+            if (carSlot != NONE)
+                total += pricing.price(classIndex(carSlot), _rents.getInt(slot, RENT_RETURN) - _rents.getInt(slot, RENT_PICK));
+        }
+        return total;
+    }
+
+    /**
+     * Gets the client's name of a rent
+     * @param slot - the slot of the rent
+     * @return the client's name
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public String getName(int slot)
+    {
+        carSlotOf(slot);
+        return _names.get(_rents.getInt(slot, RENT_NAME));
+    }
+
+    /**
+     * Gets the car of a rent
+     * @param slot - the slot of the rent
+     * @return a new CarValue of the rented car
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public CarValue getCarValue(int slot)
+    {
+        return carValue(carSlotOf(slot));
+    }
+
+    /**
+     * Gets the id of the rented car of a rent
+     * @param slot - the slot of the rent
+     * @return the car id
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public int getCarId(int slot)
+    {
+        return _cars.getInt(carSlotOf(slot), CAR_ID);
+    }
+
+    /**
+     * Gets the type of the rented car of a rent
+     * @param slot - the slot of the rent
+     * @return the car type ('A','B','C' or 'D')
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public char getCarType(int slot)
+    {
+        return BinaryCodec.typeOf(_cars.getByte(carSlotOf(slot), CAR_TYPE_AND_GEAR));
+    }
+
+    /**
+     * Gets the day number of the pickup date of a rent
+     * @param slot - the slot of the rent
+     * @return the day number of the pickup date
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public int getPickEpochDay(int slot)
+    {
+        carSlotOf(slot);
+        return _rents.getInt(slot, RENT_PICK);
+    }
+
+    /**
+     * Gets the day number of the return date of a rent
+     * @param slot - the slot of the rent
+     * @return the day number of the return date
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public int getReturnEpochDay(int slot)
+    {
+        carSlotOf(slot);
+        return _rents.getInt(slot, RENT_RETURN);
+    }
+
+    /**
+     * Gets the pickup date of a rent
+     * @param slot - the slot of the rent
+     * @return the pickup date
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public LocalDay getPickDay(int slot)
+    {
+        return LocalDay.ofEpochDay(getPickEpochDay(slot));
+    }
+
+    /**
+     * Gets the return date of a rent
+     * @param slot - the slot of the rent
+     * @return the return date
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public LocalDay getReturnDay(int slot)
+    {
+        return LocalDay.ofEpochDay(getReturnEpochDay(slot));
+    }
+
+    /**
+     * Returns the number of rent days of a rent
+     * @param slot - the slot of the rent
+     * @return the number of rent days
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public int howManyDays(int slot)
+    {
+        carSlotOf(slot);
+        return _rents.getInt(slot, RENT_RETURN) - _rents.getInt(slot, RENT_PICK);
+    }
+
+    /**
+     * Returns the total price of a rent, with the standard prices
+     * @param slot - the slot of the rent
+     * @return the rent total price
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public int getPrice(int slot)
+    {
+        return PricingEngine.getDefault().price(classIndex(carSlotOf(slot)), howManyDays(slot));
+    }
+
+    /**
+     * Creates a Rent of a rent of the store
+     * @param slot - the slot of the rent
+     * @return a new Rent of the client's name, car and dates of the slot
+     * @throws IndexOutOfBoundsException if the slot does not hold a rent
+     */
+    public Rent toRent(int slot)
+    {
+        return new Rent(getName(slot), getCarValue(slot), getPickDay(slot), getReturnDay(slot));
+    }
+
+    // the car slot of a rent slot
+    private int carSlotOf(int slot)
+    {
+        int carSlot = slot >= 0 && slot < _rents._top ? _rents.getInt(slot, RENT_CAR) : NONE;
+        if (carSlot == NONE)
+            throw new IndexOutOfBoundsException("no rent in slot " + slot);
+        return carSlot;
+    }
+
+    private int classIndex(int carSlot)
+    {
+        return PricingEngine.classIndex(BinaryCodec.typeOf(_cars.getByte(carSlot, CAR_TYPE_AND_GEAR)));
+    }
+
+    private CarValue carValue(int carSlot)
+    {
+        byte typeAndGear = _cars.getByte(carSlot, CAR_TYPE_AND_GEAR);
+        return new CarValue(_cars.getInt(carSlot, CAR_ID), BinaryCodec.typeOf(typeAndGear),
+                _brands.get(_cars.getInt(carSlot, CAR_BRAND)), BinaryCodec.isManual(typeAndGear));
+    }
+}
@@ -0,0 +1,189 @@
+package io;
+
+import model.Car;
+import model.CarValue;
+import model.LocalDay;
+import model.Rent;
+import util.IntObjectMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class reads a snapshot file written by RentFileWriter.
+ * The cars are read first (nextCar) and then the rents (nextRent); reading a rent skips the cars not read yet.
+ * Rents of the same car share one CarValue, and rents of the same client share one name String.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentFileReader implements Closeable
+{
+    private final FileChannel _channel;
+    private final ByteBuffer _buffer = ByteBuffer.allocateDirect(BinaryCodec.BUFFER_BYTES);
+    private final String[] _brands;
+    private final String[] _names;
+    private final IntObjectMap<CarValue> _cars;
+    private final int _carCount;
+    private final long _rentCount;
+    private int _carsRead;
+    private long _rentsRead;
+
+    /**
+     * Opens a snapshot file
+     * @param path - the path of the file
+     * @throws IOException if the file can not be read or is not a snapshot file
+     */
+    public RentFileReader(Path path) throws IOException
+    {
+        _channel = FileChannel.open(path, StandardOpenOption.READ);
+        try
+        {
+            ByteBuffer header = readFully(0, BinaryCodec.HEADER_BYTES);
+            if (header.getInt() != BinaryCodec.MAGIC)
+                throw new IOException(path + " is not a rent snapshot file");
+            int version = header.getInt();
+            if (version != BinaryCodec.VERSION)
+                throw new IOException("unsupported snapshot version " + version);
+            _carCount = header.getInt();
+            _rentCount = header.getLong();
+            long footerOffset = header.getLong();
+            ByteBuffer footer = readFully(footerOffset, (int) (_channel.size() - footerOffset));
+            _brands = readDictionary(footer);
+            _names = readDictionary(footer);
+            _cars = new IntObjectMap<>(_carCount);
+            _buffer.limit(0);
+            _channel.position(BinaryCodec.HEADER_BYTES);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            _channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of cars in the file
+     * @return the number of cars
+     */
+    public int getCarCount()
+    {
+        return _carCount;
+    }
+
+    /**
+     * Returns the number of rents in the file
+     * @return the number of rents
+     */
+    public long getRentCount()
+    {
+        return _rentCount;
+    }
+
+    /**
+     * Reads the next car
+     * @return the next car, or null if all the cars were read
+     * @throws IOException if the file can not be read
+     */
+    public Car nextCar() throws IOException
+    {
+        CarValue car = nextCarValue();
+        return car == null ? null : car.toCar();
+    }
+
+    /**
+     * Reads the next car
+     * @return the next car, or null if all the cars were read
+     * @throws IOException if the file can not be read
+     */
+    public CarValue nextCarValue() throws IOException
+    {
+        if (_carsRead == _carCount)
+            return null;
+        ensureAvailable(BinaryCodec.CAR_BYTES);
+        int id = _buffer.getInt();
+        byte typeAndGear = _buffer.get();
+        String brand = _brands[_buffer.getInt()];
+        CarValue car = new CarValue(id, BinaryCodec.typeOf(typeAndGear), brand, BinaryCodec.isManual(typeAndGear));
+        _cars.put(id, car);
+        _carsRead++;
+        return car;
+    }
+
+    /**
+     * Reads the next rent
+     * @return the next rent, or null if all the rents were read
+     * @throws IOException if the file can not be read
+     */
+    public Rent nextRent() throws IOException
+    {
+        while (_carsRead < _carCount)
+            nextCarValue();
+        if (_rentsRead == _rentCount)
+            return null;
+        ensureAvailable(BinaryCodec.RENT_BYTES);
+        String name = _names[_buffer.getInt()];
+        CarValue car = _cars.get(_buffer.getInt());
+        if (car == null)
+            throw new IOException("rent " + _rentsRead + " is of an unknown car");
+        LocalDay pick = LocalDay.ofEpochDay(_buffer.getInt());
+        LocalDay ret = LocalDay.ofEpochDay(_buffer.getInt());
+        _rentsRead++;
+        return new Rent(name, car, pick, ret);
+    }
+
+    /**
+     * Closes the file
+     * @throws IOException if the file can not be closed
+     */
+    public void close() throws IOException
+    {
+        _channel.close();
+    }
+
+    private ByteBuffer readFully(long position, int bytes) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        while (buffer.hasRemaining())
+        {
+            if (_channel.read(buffer, position + buffer.position()) < 0)
+                throw new IOException("unexpected end of file");
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private String[] readDictionary(ByteBuffer footer)
+    {
+        String[] strings = new String[footer.getInt()];
+        for (int i = 0; i < strings.length; i++)
+        {
+            int length = footer.getInt();
+            if (length >= 0)
+            {
+                byte[] bytes = new byte[length];
+                footer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return strings;
+    }
+
+    private void ensureAvailable(int bytes) throws IOException
+    {
+        if (_buffer.remaining() >= bytes)
+            return;
+        _buffer.compact();
+        while (_buffer.position() < bytes)
+        {
+            if (_channel.read(_buffer) < 0)
+                throw new IOException("unexpected end of file");
+        }
+        _buffer.flip();
+    }
+}
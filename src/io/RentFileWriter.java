@@ -0,0 +1,161 @@
+package io;
+
+import model.Car;
+import model.CarValue;
+import model.Rent;
+import util.IntObjectMap;
+import util.StringDictionary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class writes a snapshot file of cars and rents in the BinaryCodec format.
+ * All the cars must be written before the first rent, and every rent must be of a written car.
+ * Records are buffered and written to a FileChannel; the header and dictionaries are written on close.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentFileWriter implements Closeable
+{
+    private final FileChannel _channel;
+    private final ByteBuffer _buffer = ByteBuffer.allocateDirect(BinaryCodec.BUFFER_BYTES);
+    private final StringDictionary _brands = new StringDictionary();
+    private final StringDictionary _names = new StringDictionary();
+    private final IntObjectMap<CarValue> _cars = new IntObjectMap<>();
+    private int _carCount;
+    private long _rentCount;
+    private boolean _closed;
+
+    /**
+     * Creates a new snapshot file (replacing an existing file)
+     * @param path - the path of the file
+     * @throws IOException if the file can not be opened
+     */
+    public RentFileWriter(Path path) throws IOException
+    {
+        _channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        _channel.position(BinaryCodec.HEADER_BYTES);
+    }
+
+    /**
+     * Writes a car
+     * @param car - the car to write
+     * @throws IOException if the file can not be written
+     * @throws IllegalStateException if a rent was already written
+     * @throws IllegalArgumentException if a car with the same id was already written
+     */
+    public void writeCar(Car car) throws IOException
+    {
+        writeCar(CarValue.from(car));
+    }
+
+    /**
+     * Writes a car
+     * @param car - the car to write
+     * @throws IOException if the file can not be written
+     * @throws IllegalStateException if a rent was already written
+     * @throws IllegalArgumentException if a car with the same id was already written
+     */
+    public void writeCar(CarValue car) throws IOException
+    {
+        if (_rentCount > 0)
+            throw new IllegalStateException("cars must be written before rents");
+        if (_cars.put(car.getId(), car) != null)
+            throw new IllegalArgumentException("car " + car.getId() + " was already written");
+        ensureRemaining(BinaryCodec.CAR_BYTES);
+        BinaryCodec.putCar(_buffer, car, _brands.idOf(car.getBrand()));
+        _carCount++;
+    }
+
+    /**
+     * Writes a rent
+     * @param rent - the rent to write
+     * @throws IOException if the file can not be written
+     * @throws IllegalArgumentException if the rent's car was not written, or was written with another type, brand or gear
+     */
+    public void writeRent(Rent rent) throws IOException
+    {
+        CarValue car = _cars.get(rent.getCarId());
+        if (car == null || !car.equals(rent.getCarValue()))
+            throw new IllegalArgumentException("car " + rent.getCarId() + " of the rent was not written");
+        ensureRemaining(BinaryCodec.RENT_BYTES);
+        BinaryCodec.putRent(_buffer, _names.idOf(rent.getName()), rent.getCarId(), rent.getPickEpochDay(), rent.getReturnEpochDay());
+        _rentCount++;
+    }
+
+    /**
+     * Returns the number of rents written so far
+     * @return the number of rents
+     */
+    public long getRentCount()
+    {
+        return _rentCount;
+    }
+
+    /**
+     * Writes the dictionaries and the header, forces the file to the disk and closes it
+     * @throws IOException if the file can not be written
+     */
+    public void close() throws IOException
+    {
+        if (_closed)
+            return;
+        _closed = true;
+        try
+        {
+            flush();
+            long footerOffset = _channel.position();
+            writeDictionary(_brands);
+            writeDictionary(_names);
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(BinaryCodec.HEADER_BYTES);
+            header.putInt(BinaryCodec.MAGIC).putInt(BinaryCodec.VERSION).putInt(_carCount).putLong(_rentCount).putLong(footerOffset);
+            header.flip();
+            while (header.hasRemaining())
+                _channel.write(header, header.position());
+            _channel.force(false);
+        }
+        finally
+        {
+            _channel.close();
+        }
+    }
+
+    // writes the number of strings, then every string as its UTF-8 length (-1 for null) and bytes
+    private void writeDictionary(StringDictionary dictionary) throws IOException
+    {
+        ensureRemaining(Integer.BYTES);
+        _buffer.putInt(dictionary.size());
+        for (int id = 0; id < dictionary.size(); id++)
+        {
+            String string = dictionary.get(id);
+            byte[] bytes = string == null ? new byte[0] : string.getBytes(StandardCharsets.UTF_8);
+            ensureRemaining(Integer.BYTES + bytes.length);
+            _buffer.putInt(string == null ? -1 : bytes.length);
+            _buffer.put(bytes);
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException
+    {
+        if (bytes > BinaryCodec.BUFFER_BYTES)
+            throw new IOException("string of " + bytes + " bytes is too long");
+        if (_buffer.remaining() < bytes)
+            flush();
+    }
+
+    private void flush() throws IOException
+    {
+        _buffer.flip();
+        while (_buffer.hasRemaining())
+            _channel.write(_buffer);
+        _buffer.clear();
+    }
+}
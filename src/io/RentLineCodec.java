@@ -0,0 +1,175 @@
+package io;
+
+import model.CarValue;
+import model.LocalDay;
+import model.Rent;
+
+/**
+ * This class parses and formats rent lines in the Rent.toString format:
+ * Name:Rama From:30/10/2022 To:12/11/2022 Type:B Days:13 Price:1845
+ * A codec is a reusable flyweight: parse fills its fields, so reading a line creates only the name String.
+ * The line is parsed from its end, so a name may hold spaces (and even " From:").
+ * A line does not hold the car id, brand or gear, so toRent needs the rented car.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentLineCodec
+{
+    private static final String NAME = "Name:";
+    private static final String FROM = " From:";
+    private static final String TO = " To:";
+    private static final String TYPE = " Type:";
+    private static final String DAYS = " Days:";
+    private static final String PRICE = " Price:";
+    private String _name;
+    private int _pickEpochDay;
+    private int _returnEpochDay;
+    private char _carType;
+    private int _days;
+    private int _price;
+
+    /**
+     * Appends a rent line, the same as Rent.toString
+     * @param rent - the rent
+     * @param out - the builder to append to
+     * @return the builder
+     */
+    public static StringBuilder format(Rent rent, StringBuilder out)
+    {
+        out.append(NAME).append(rent.getName()).append(FROM);
+        DateCodec.format(rent.getPickDay(), out).append(TO);
+        DateCodec.format(rent.getReturnDay(), out).append(TYPE).append(rent.getCarType());
+        return out.append(DAYS).append(rent.howManyDays()).append(PRICE).append(rent.getPrice());
+    }
+
+    /**
+     * Parses a rent line into the fields of this codec
+     * @param line - the line in the Rent.toString format
+     * @throws IllegalArgumentException if the line is not in the Rent.toString format
+     */
+    public void parse(CharSequence line)
+    {
+        int end = line.length();
+        int start = digitsStart(line, end);
+        _price = number(line, start, end);
+        end = expect(line, start, PRICE);
+        start = digitsStart(line, end);
+        _days = number(line, start, end);
+        end = expect(line, start, DAYS);
+        if (end < 1)
+            throw malformed(line);
+        _carType = line.charAt(--end);
+        end = expect(line, end, TYPE) - DateCodec.LENGTH;
+        _returnEpochDay = DateCodec.parse(line, end);
+        end = expect(line, end, TO) - DateCodec.LENGTH;
+        _pickEpochDay = DateCodec.parse(line, end);
+        end = expect(line, end, FROM);
+        if (end < NAME.length())
+            throw malformed(line);
+        expect(line, NAME.length(), NAME);
+        _name = line.subSequence(NAME.length(), end).toString();
+    }
+
+    /**
+     * Gets the client's name of the last parsed line
+     * @return the client's name
+     */
+    public String getName()
+    {
+        return _name;
+    }
+
+    /**
+     * Gets the pickup day number of the last parsed line
+     * @return the pickup day number
+     */
+    public int getPickEpochDay()
+    {
+        return _pickEpochDay;
+    }
+
+    /**
+     * Gets the return day number of the last parsed line
+     * @return the return day number
+     */
+    public int getReturnEpochDay()
+    {
+        return _returnEpochDay;
+    }
+
+    /**
+     * Gets the car type of the last parsed line
+     * @return the car type
+     */
+    public char getCarType()
+    {
+        return _carType;
+    }
+
+    /**
+     * Gets the number of days written in the last parsed line
+     * @return the number of days
+     */
+    public int getDays()
+    {
+        return _days;
+    }
+
+    /**
+     * Gets the price written in the last parsed line
+     * @return the price
+     */
+    public int getPrice()
+    {
+        return _price;
+    }
+
+    /**
+     * Creates the rent of the last parsed line
+     * @param car - the rented car
+     * @return a new Rent of the client's name and dates of the line
+     */
+    public Rent toRent(CarValue car)
+    {
+        return new Rent(_name, car, LocalDay.ofEpochDay(_pickEpochDay), LocalDay.ofEpochDay(_returnEpochDay));
+    }
+
+    // the index of the first digit of the number ending at end
+    private static int digitsStart(CharSequence line, int end)
+    {
+        int start = end;
+        while (start > 0 && line.charAt(start - 1) >= '0' && line.charAt(start - 1) <= '9')
+            start--;
+        if (start == end || end - start > 9)
+            throw malformed(line);
+        return start;
+    }
+
+    private static int number(CharSequence line, int start, int end)
+    {
+        int value = 0;
+        for (int i = start; i < end; i++)
+            value = value * 10 + line.charAt(i) - '0';
+        return value;
+    }
+
+    // checks the label ends at end, and returns the index of its first character
+    private static int expect(CharSequence line, int end, String label)
+    {
+        int start = end - label.length();
+        if (start < 0)
+            throw malformed(line);
+        for (int i = 0; i < label.length(); i++)
+        {
+            if (line.charAt(start + i) != label.charAt(i))
+                throw malformed(line);
+        }
+        return start;
+    }
+
+    private static IllegalArgumentException malformed(CharSequence line)
+    {
+        return new IllegalArgumentException("not a rent line: " + line);
+    }
+}
@@ -0,0 +1,215 @@
+package ledger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * This class represents the append-only file of the ledger events.
+ * A record is its payload length (int), the CRC32 of the payload (int) and the payload:
+ * the sequence number (long), the event type (byte) and the event fields.
+ * Appended records are buffered, and the file is forced to the disk once every syncEvery records
+ * (and on sync and close), so a crash loses at most the records appended since the last force.
+ * Replay stops at the first torn or corrupted record and cuts the file there.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+class EventLog implements Closeable
+{
+    static final int RECORD_BYTES = 1 << 16;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int PAYLOAD_START = Long.BYTES + 1;
+    private final FileChannel _channel;
+    private final ByteBuffer _record = ByteBuffer.allocate(RECORD_BYTES);
+    private final ByteBuffer _pending = ByteBuffer.allocateDirect(4 * RECORD_BYTES);
+    private final CRC32 _crc = new CRC32();
+    private final int _syncEvery;
+    private int _unsynced;
+
+    /**
+     * Opens (or creates) an event log
+     * @param path - the path of the log file
+     * @param syncEvery - the number of records appended between forcing the file to the disk
+     * @throws IOException if the file can not be opened
+     */
+    EventLog(Path path, int syncEvery) throws IOException
+    {
+        _channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        _syncEvery = syncEvery;
+    }
+
+    /**
+     * Handles the records of a replay
+     */
+    interface Handler
+    {
+        /**
+         * Handles one record
+         * @param seq - the sequence number of the record
+         * @param type - the event type
+         * @param fields - the event fields, from the buffer position
+         * @throws IOException if the record is not a valid event
+         */
+        void event(long seq, byte type, ByteBuffer fields) throws IOException;
+    }
+
+    /**
+     * Reads all the valid records of the log, cuts the file after the last one and moves to its end
+     * @param handler - the handler of the records
+     * @throws IOException if the file can not be read
+     */
+    void replay(Handler handler) throws IOException
+    {
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (true)
+        {
+            header.clear();
+            if (!readFully(header, position))
+                break;
+            int length = header.getInt(0);
+            if (length < PAYLOAD_START || length > RECORD_BYTES)
+                break;
+            _record.clear().limit(length);
+            if (!readFully(_record, position + HEADER_BYTES))
+                break;
+            _crc.reset();
+            _crc.update(_record.array(), 0, length);
+            if ((int) _crc.getValue() != header.getInt(Integer.BYTES))
+                break;
+            _record.flip();
+            handler.event(_record.getLong(), _record.get(), _record);
+            position += HEADER_BYTES + length;
+        }
+        _channel.truncate(position);
+        _channel.position(position);
+    }
+
+    /**
+     * Starts a new record; put the event fields into the returned buffer and then call append
+     * @param seq - the sequence number of the record
+     * @param type - the event type
+     * @return the buffer of the record fields
+     */
+    ByteBuffer begin(long seq, byte type)
+    {
+        _record.clear();
+        _record.putLong(seq).put(type);
+        return _record;
+    }
+
+    /**
+     * Appends the record started by begin, forcing the file to the disk if syncEvery records were appended
+     * @throws IOException if the file can not be written
+     */
+    void append() throws IOException
+    {
+        int length = _record.position();
+        _crc.reset();
+        _crc.update(_record.array(), 0, length);
+        if (_pending.remaining() < HEADER_BYTES + length)
+            write();
+        _pending.putInt(length).putInt((int) _crc.getValue()).put(_record.array(), 0, length);
+        if (++_unsynced >= _syncEvery)
+            sync();
+    }
+
+    /**
+     * Writes the appended records and forces the file to the disk
+     * @throws IOException if the file can not be written
+     */
+    void sync() throws IOException
+    {
+        write();
+        _channel.force(false);
+        _unsynced = 0;
+    }
+
+    /**
+     * Removes all the records (after they were saved in a snapshot)
+     * @throws IOException if the file can not be written
+     */
+    void reset() throws IOException
+    {
+        _pending.clear();
+        _channel.truncate(0);
+        _channel.position(0);
+        _channel.force(false);
+        _unsynced = 0;
+    }
+
+    /**
+     * Syncs and closes the log
+     * @throws IOException if the file can not be written
+     */
+    public void close() throws IOException
+    {
+        try
+        {
+            sync();
+        }
+        finally
+        {
+            _channel.close();
+        }
+    }
+
+    /**
+     * Puts a string as its UTF-8 length (-1 for null) and bytes
+     * @param buffer - the buffer to put into
+     * @param string - the string (may be null)
+     * @throws IOException if the string does not fit in the record
+     */
+    static void putString(ByteBuffer buffer, String string) throws IOException
+    {
+        byte[] bytes = string == null ? new byte[0] : string.getBytes(StandardCharsets.UTF_8);
+        if (buffer.remaining() < Integer.BYTES + bytes.length)
+            throw new IOException("string of " + bytes.length + " bytes is too long");
+        buffer.putInt(string == null ? -1 : bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Gets a string put by putString
+     * @param buffer - the buffer to get from
+     * @return the string (may be null)
+     * @throws IOException if the length is not valid
+     */
+    static String getString(ByteBuffer buffer) throws IOException
+    {
+        int length = buffer.getInt();
+        if (length == -1)
+            return null;
+        if (length < 0 || length > buffer.remaining())
+            throw new IOException("bad string length " + length);
+        String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    private void write() throws IOException
+    {
+        _pending.flip();
+        while (_pending.hasRemaining())
+            _channel.write(_pending);
+        _pending.clear();
+    }
+
+    private boolean readFully(ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            int read = _channel.read(buffer, position);
+            if (read < 0)
+                return false;
+            position += read;
+        }
+        return true;
+    }
+}
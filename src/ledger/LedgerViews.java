@@ -0,0 +1,100 @@
+package ledger;
+
+import model.Date;
+import model.Rent;
+import util.FenwickTree;
+
+/**
+ * This class represents the materialized views of a RentLedger: the revenue by car class and the active rents per day.
+ * The views are updated with every event, by removing the old state of the changed rents and adding the new one,
+ * so a change costs O(log d) (d - the number of days covered) instead of rescanning the rents.
+ * A rent is active from its pickup day up to (not including) its return day.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class LedgerViews
+{
+    private static final int CLASSES = 4;
+    private static final char FIRST_CLASS = 'A';
+    private final long[] _revenueByClass = new long[CLASSES];
+    // +1 on the pickup day and -1 on the return day of every rent: the prefix sum of a day is its active rents
+    private final FenwickTree _activeChanges = new FenwickTree();
+    private int _rents;
+
+    // creates empty views
+    LedgerViews()
+    {
+    }
+
+    // adds a rent to the views
+    void add(Rent rent)
+    {
+        _revenueByClass[rent.getCarType() - FIRST_CLASS] += rent.getPrice();
+        _activeChanges.add(rent.getPickEpochDay(), 1);
+        _activeChanges.add(rent.getReturnEpochDay(), -1);
+        _rents++;
+    }
+
+    // removes a rent (in the state it was added) from the views
+    void remove(Rent rent)
+    {
+        _revenueByClass[rent.getCarType() - FIRST_CLASS] -= rent.getPrice();
+        _activeChanges.add(rent.getPickEpochDay(), -1);
+        _activeChanges.add(rent.getReturnEpochDay(), 1);
+        _rents--;
+    }
+
+    /**
+     * Returns the number of rents in the ledger
+     * @return the number of rents
+     */
+    public int getRentCount()
+    {
+        return _rents;
+    }
+
+    /**
+     * Returns the revenue of a car class
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return the total price of the rents of the class
+     */
+    public long getRevenue(char type)
+    {
+        if (type < FIRST_CLASS || type >= FIRST_CLASS + CLASSES)
+            return 0;
+        return _revenueByClass[type - FIRST_CLASS];
+    }
+
+    /**
+     * Returns the revenue of all the classes
+     * @return the total price of all the rents
+     */
+    public long getTotalRevenue()
+    {
+        long total = 0;
+        for (long revenue : _revenueByClass)
+            total += revenue;
+        return total;
+    }
+
+    /**
+     * Returns the number of rents active on a day
+     * @param day - the day
+     * @return the number of rents picked up on or before the day and returned after it
+     */
+    public int getActiveRents(Date day)
+    {
+        return getActiveRents(day.getEpochDay());
+    }
+
+    /**
+     * Returns the number of rents active on a day
+     * @param epochDay - the day number
+     * @return the number of rents picked up on or before the day and returned after it
+     */
+    public int getActiveRents(int epochDay)
+    {
+        return (int) _activeChanges.prefixSum(epochDay);
+    }
+}
@@ -0,0 +1,443 @@
+package ledger;
+
+import io.BinaryCodec;
+import model.Car;
+import model.CarValue;
+import model.Date;
+import model.LocalDay;
+import model.Rent;
+import model.RentRecord;
+import util.IntObjectMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class represents an event-sourced ledger of rents, kept in a directory.
+ * Every change of a rent (booking, new dates, new car, upgrade, merge of a double listing and cancel) is appended
+ * to an event log before it is applied, and the materialized views are updated with the change only.
+ * Once every snapshotEvery events the rents are written to a compact snapshot and the log is emptied;
+ * opening a ledger loads the snapshot and replays the log after it.
+ * Rents are identified by the id given when they are booked; the ledger holds its own copies of the rents.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentLedger implements Closeable
+{
+    static final String LOG_FILE = "ledger.log";
+    static final String SNAPSHOT_FILE = "ledger.snapshot";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int DEFAULT_SYNC_EVERY = 64;
+    private static final int DEFAULT_SNAPSHOT_EVERY = 100000;
+    // "CRLS", distinct from the columnar ledger's "CRL1" and the binary codec's "CRS1"
+    private static final int SNAPSHOT_MAGIC = 0x43524C53;
+    // magic, sequence number, next id and rent count
+    private static final int SNAPSHOT_HEADER_BYTES = 20;
+    private static final byte BOOK = 1;
+    private static final byte DATES = 2;
+    private static final byte CAR = 3;
+    private static final byte MERGE = 4;
+    private static final byte CANCEL = 5;
+    private final Path _dir;
+    private final EventLog _log;
+    private final int _snapshotEvery;
+    private final IntObjectMap<Rent> _rents = new IntObjectMap<>();
+    private final LedgerViews _views = new LedgerViews();
+    private long _seq;
+    private int _nextId;
+    private int _sinceSnapshot;
+
+    private RentLedger(Path dir, int syncEvery, int snapshotEvery) throws IOException
+    {
+        _dir = dir;
+        _snapshotEvery = snapshotEvery;
+        long snapshotSeq = loadSnapshot();
+        _seq = snapshotSeq;
+        _log = new EventLog(dir.resolve(LOG_FILE), syncEvery);
+        try
+        {
+            _log.replay((seq, type, fields) -> {
+                if (seq <= snapshotSeq)
+                    return;
+                apply(type, fields);
+                _seq = seq;
+                _sinceSnapshot++;
+            });
+        }
+        catch (IOException | RuntimeException e)
+        {
+            _log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the ledger of a directory, forcing the log to the disk once every 64 events and taking a snapshot once every 100000 events
+     * @param dir - the directory of the ledger (created if it does not exist)
+     * @return the ledger, holding the rents of the snapshot and the log
+     * @throws IOException if the ledger files can not be read
+     */
+    public static RentLedger open(Path dir) throws IOException
+    {
+        return open(dir, DEFAULT_SYNC_EVERY, DEFAULT_SNAPSHOT_EVERY);
+    }
+
+    /**
+     * Opens the ledger of a directory
+     * @param dir - the directory of the ledger (created if it does not exist)
+     * @param syncEvery - the number of events between forcing the log to the disk (1 forces every event)
+     * @param snapshotEvery - the number of events between snapshots
+     * @return the ledger, holding the rents of the snapshot and the log
+     * @throws IOException if the ledger files can not be read
+     * @throws IllegalArgumentException if syncEvery or snapshotEvery is not positive
+     */
+    public static RentLedger open(Path dir, int syncEvery, int snapshotEvery) throws IOException
+    {
+        if (syncEvery < 1 || snapshotEvery < 1)
+            throw new IllegalArgumentException("syncEvery and snapshotEvery must be positive");
+        Files.createDirectories(dir);
+        return new RentLedger(dir, syncEvery, snapshotEvery);
+    }
+
+    /**
+     * Books a new rent
+     * @param name - the client's name
+     * @param car - the rented car
+     * @param pick - the pickup date
+     * @param ret - the return date (set to the day after the pickup date if it is not after it)
+     * @return the id of the new rent
+     * @throws IOException if the event can not be written
+     */
+    public int book(String name, Car car, Date pick, Date ret) throws IOException
+    {
+        Rent rent = new Rent(name, car, pick, ret);
+        int id = _nextId;
+        ByteBuffer fields = _log.begin(++_seq, BOOK);
+        fields.putInt(id);
+        EventLog.putString(fields, rent.getName());
+        putCar(fields, rent.getCarValue());
+        fields.putInt(rent.getPickEpochDay()).putInt(rent.getReturnEpochDay());
+        commit(fields);
+        return id;
+    }
+
+    /**
+     * Returns a rent
+     * @param id - the id of the rent
+     * @return the value of the rent, or null if there is no such rent
+     */
+    public RentRecord get(int id)
+    {
+        Rent rent = _rents.get(id);
+        return rent == null ? null : rent.toRecord();
+    }
+
+    /**
+     * Returns the number of rents
+     * @return the number of rents
+     */
+    public int size()
+    {
+        return _rents.size();
+    }
+
+    /**
+     * Returns the materialized views of the ledger, updated with every change
+     * @return the views
+     */
+    public LedgerViews getViews()
+    {
+        return _views;
+    }
+
+    /**
+     * Sets the return date of a rent, as Rent.setReturnDate does
+     * @param id - the id of the rent
+     * @param returnDate - the return date
+     * @return true if the rent was changed, otherwise false
+     * @throws IOException if the event can not be written
+     */
+    public boolean setReturnDate(int id, Date returnDate) throws IOException
+    {
+        Rent rent = _rents.get(id);
+        if (rent == null)
+            return false;
+        Rent changed = new Rent(rent);
+        changed.setReturnDate(returnDate);
+        return changeDates(id, rent, changed);
+    }
+
+    /**
+     * Sets the pickup date of a rent, as Rent.setPickDate does
+     * @param id - the id of the rent
+     * @param pickDate - the pickup date
+     * @return true if the rent was changed, otherwise false
+     * @throws IOException if the event can not be written
+     */
+    public boolean setPickDate(int id, Date pickDate) throws IOException
+    {
+        Rent rent = _rents.get(id);
+        if (rent == null)
+            return false;
+        Rent changed = new Rent(rent);
+        changed.setPickDate(pickDate);
+        return changeDates(id, rent, changed);
+    }
+
+    /**
+     * Sets the car of a rent
+     * @param id - the id of the rent
+     * @param car - the rented car
+     * @return true if the rent was found, otherwise false
+     * @throws IOException if the event can not be written
+     */
+    public boolean setCar(int id, Car car) throws IOException
+    {
+        if (!_rents.containsKey(id))
+            return false;
+        changeCar(id, CarValue.from(car));
+        return true;
+    }
+
+    /**
+     * Upgrades the car of a rent, as Rent.upgrade does
+     * @param id - the id of the rent
+     * @param newCar - the car to upgrade to
+     * @return the upgrade cost (0 if the rent was not upgraded)
+     * @throws IOException if the event can not be written
+     */
+    public int upgrade(int id, Car newCar) throws IOException
+    {
+        Rent rent = _rents.get(id);
+        if (rent == null)
+            return 0;
+        CarValue car = CarValue.from(newCar);
+        if (!car.better(rent.getCarValue()))
+            return 0;
+        int price = rent.getPrice();
+        changeCar(id, car);
+        return _rents.get(id).getPrice() - price;
+    }
+
+    /**
+     * Merges a double listing, as Rent.overlap does: the first rent gets the unified dates and the other rent is removed
+     * @param id - the id of the rent to keep
+     * @param otherId - the id of the rent to merge into it
+     * @return true if the rents were merged, otherwise false
+     * @throws IOException if the event can not be written
+     */
+    public boolean merge(int id, int otherId) throws IOException
+    {
+        Rent rent = _rents.get(id);
+        Rent other = _rents.get(otherId);
+        if (rent == null || other == null || id == otherId)
+            return false;
+        Rent merged = new Rent(rent).overlap(new Rent(other));
+        if (merged == null)
+            return false;
+        ByteBuffer fields = _log.begin(++_seq, MERGE);
+        fields.putInt(id).putInt(otherId).putInt(merged.getPickEpochDay()).putInt(merged.getReturnEpochDay());
+        commit(fields);
+        return true;
+    }
+
+    /**
+     * Cancels a rent
+     * @param id - the id of the rent
+     * @return true if the rent was removed, otherwise false
+     * @throws IOException if the event can not be written
+     */
+    public boolean cancel(int id) throws IOException
+    {
+        if (!_rents.containsKey(id))
+            return false;
+        ByteBuffer fields = _log.begin(++_seq, CANCEL);
+        fields.putInt(id);
+        commit(fields);
+        return true;
+    }
+
+    /**
+     * Forces all the events to the disk
+     * @throws IOException if the log can not be written
+     */
+    public void sync() throws IOException
+    {
+        _log.sync();
+    }
+
+    /**
+     * Writes all the rents to a new snapshot and empties the log
+     * The snapshot is written to a temporary file and moved over the old snapshot, so a crash keeps one valid snapshot.
+     * @throws IOException if the snapshot can not be written
+     */
+    public void snapshot() throws IOException
+    {
+        _log.sync();
+        Path temp = _dir.resolve(SNAPSHOT_FILE + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(EventLog.RECORD_BYTES);
+            buffer.putInt(SNAPSHOT_MAGIC).putLong(_seq).putInt(_nextId).putInt(_rents.size());
+            for (int id : _rents.keys())
+            {
+                Rent rent = _rents.get(id);
+                // a rent fits in an empty buffer, since its book event fit in a log record
+                if (buffer.remaining() < snapshotBytes(rent))
+                    write(channel, buffer);
+                buffer.putInt(id);
+                EventLog.putString(buffer, rent.getName());
+                putCar(buffer, rent.getCarValue());
+                buffer.putInt(rent.getPickEpochDay()).putInt(rent.getReturnEpochDay());
+            }
+            write(channel, buffer);
+            channel.force(false);
+        }
+        Files.move(temp, _dir.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // events up to the snapshot sequence number are skipped on replay, so a crash before the reset is safe
+        _log.reset();
+        _sinceSnapshot = 0;
+    }
+
+    /**
+     * Forces all the events to the disk and closes the ledger
+     * @throws IOException if the log can not be written
+     */
+    public void close() throws IOException
+    {
+        _log.close();
+    }
+
+    // appends the event started in the log, applies it and takes a snapshot if it is due
+    private void commit(ByteBuffer fields) throws IOException
+    {
+        _log.append();
+        fields.flip();
+        fields.position(Long.BYTES);
+        apply(fields.get(), fields);
+        if (++_sinceSnapshot >= _snapshotEvery)
+            snapshot();
+    }
+
+    private boolean changeDates(int id, Rent rent, Rent changed) throws IOException
+    {
+        if (changed.getPickEpochDay() == rent.getPickEpochDay() && changed.getReturnEpochDay() == rent.getReturnEpochDay())
+            return false;
+        ByteBuffer fields = _log.begin(++_seq, DATES);
+        fields.putInt(id).putInt(changed.getPickEpochDay()).putInt(changed.getReturnEpochDay());
+        commit(fields);
+        return true;
+    }
+
+    private void changeCar(int id, CarValue car) throws IOException
+    {
+        ByteBuffer fields = _log.begin(++_seq, CAR);
+        fields.putInt(id);
+        putCar(fields, car);
+        commit(fields);
+    }
+
+    // applies an event to the rents and the views
+    private void apply(byte type, ByteBuffer fields) throws IOException
+    {
+        int id = fields.getInt();
+        Rent rent = _rents.get(id);
+        if (type == BOOK)
+        {
+            String name = EventLog.getString(fields);
+            CarValue car = getCar(fields);
+            put(id, new Rent(name, car, LocalDay.ofEpochDay(fields.getInt()), LocalDay.ofEpochDay(fields.getInt())));
+            _nextId = Math.max(_nextId, id + 1);
+            return;
+        }
+        if (rent == null)
+            throw new IOException("event " + type + " of unknown rent " + id);
+        if (type == DATES)
+            put(id, new Rent(rent.getName(), rent.getCarValue(), LocalDay.ofEpochDay(fields.getInt()), LocalDay.ofEpochDay(fields.getInt())));
+        else if (type == CAR)
+            put(id, new Rent(rent.getName(), getCar(fields), rent.getPickDay(), rent.getReturnDay()));
+        else if (type == MERGE)
+        {
+            Rent other = _rents.remove(fields.getInt());
+            if (other != null)
+                _views.remove(other);
+            put(id, new Rent(rent.getName(), rent.getCarValue(), LocalDay.ofEpochDay(fields.getInt()), LocalDay.ofEpochDay(fields.getInt())));
+        }
+        else if (type == CANCEL)
+            _views.remove(_rents.remove(id));
+        else
+            throw new IOException("unknown event type " + type);
+    }
+
+    // replaces the rent of an id, updating the views with the old and new state only
+    private void put(int id, Rent rent)
+    {
+        Rent old = _rents.put(id, rent);
+        if (old != null)
+            _views.remove(old);
+        _views.add(rent);
+    }
+
+    private long loadSnapshot() throws IOException
+    {
+        Path path = _dir.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path))
+            return 0;
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < SNAPSHOT_HEADER_BYTES || buffer.getInt() != SNAPSHOT_MAGIC)
+            throw new IOException(path + " is not a ledger snapshot");
+        long seq = buffer.getLong();
+        _nextId = buffer.getInt();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++)
+        {
+            int id = buffer.getInt();
+            String name = EventLog.getString(buffer);
+            CarValue car = getCar(buffer);
+            put(id, new Rent(name, car, LocalDay.ofEpochDay(buffer.getInt()), LocalDay.ofEpochDay(buffer.getInt())));
+        }
+        return seq;
+    }
+
+    // the bytes of a rent in the snapshot: the id, the name, the car and the two day numbers
+    private static int snapshotBytes(Rent rent)
+    {
+        return Integer.BYTES + stringBytes(rent.getName()) + Integer.BYTES + 1 + stringBytes(rent.getCarValue().getBrand())
+                + 2 * Integer.BYTES;
+    }
+
+    // the bytes of a string put by EventLog.putString
+    private static int stringBytes(String string)
+    {
+        return Integer.BYTES + (string == null ? 0 : string.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void putCar(ByteBuffer buffer, CarValue car) throws IOException
+    {
+        buffer.putInt(car.getId()).put(BinaryCodec.typeAndGear(car.getType(), car.getIsManual()));
+        EventLog.putString(buffer, car.getBrand());
+    }
+
+    private static CarValue getCar(ByteBuffer buffer) throws IOException
+    {
+        int id = buffer.getInt();
+        byte typeAndGear = buffer.get();
+        return new CarValue(id, BinaryCodec.typeOf(typeAndGear), EventLog.getString(buffer), BinaryCodec.isManual(typeAndGear));
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+}
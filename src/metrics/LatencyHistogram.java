@@ -0,0 +1,116 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a thread safe histogram of non-negative values (latencies in nanoseconds),
+ * bucketed as in HdrHistogram: values below 32 are counted exactly, and every power of two above is split
+ * into 16 buckets, so a recorded value is known within about 6%. Recording is one bucket increment;
+ * the buckets cover every long value, so nothing is ever clipped. Every bucket is a LongAdder, so threads
+ * recording into the same few hot buckets add to their own cells instead of contending on one cache line.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class LatencyHistogram
+{
+    private static final int SUB_BUCKETS = 16;
+    private static final int EXACT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = (64 - 4) * SUB_BUCKETS;
+    private final LongAdder[] _counts = new LongAdder[BUCKETS];
+
+    /**
+     * Creates a new empty histogram
+     */
+    public LatencyHistogram()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+            _counts[i] = new LongAdder();
+    }
+
+    /**
+     * Records a value
+     * @param value - the value (negative values are recorded as 0)
+     */
+    public void record(long value)
+    {
+        _counts[bucket(Math.max(value, 0))].increment();
+    }
+
+    /**
+     * Returns the number of recorded values
+     * @return the number of recorded values
+     */
+    public long getCount()
+    {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            count += _counts[i].sum();
+        return count;
+    }
+
+    /**
+     * Returns the value at the given percentile: the lowest value of the bucket holding it
+     * @param percentile - the percentile (0-100)
+     * @return the value at the percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            counts[i] = _counts[i].sum();
+            total += counts[i];
+        }
+        if (total == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += counts[i];
+            if (seen >= rank)
+                return lowestValue(i);
+        }
+        return lowestValue(BUCKETS - 1);
+    }
+
+    /**
+     * Returns the highest recorded value, within the bucket precision
+     * @return the lowest value of the highest non-empty bucket, or 0 if nothing was recorded
+     */
+    public long getMax()
+    {
+        for (int i = BUCKETS - 1; i >= 0; i--)
+            if (_counts[i].sum() != 0)
+                return lowestValue(i);
+        return 0;
+    }
+
+    /**
+     * Drops every recorded value
+     */
+    public void reset()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+            _counts[i].reset();
+    }
+
+    // values below EXACT have their own bucket; above, the 4 bits after the highest bit pick the sub bucket
+    static int bucket(long value)
+    {
+        if (value < EXACT)
+            return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 4;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long lowestValue(int bucket)
+    {
+        if (bucket < EXACT)
+            return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    }
+}
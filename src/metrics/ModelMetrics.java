@@ -0,0 +1,288 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * This class holds opt-in counters and latency histograms of the model hot paths.
+ * Metrics are off unless the system property model.metrics is true or setEnabled is called, and latencies are
+ * only timed when model.metrics.timing is true or setTiming is called. An instrumented method does:
+ * <pre>
+ * long start = ModelMetrics.start();
+ * ... the work ...
+ * ModelMetrics.end(ModelMetrics.Op.PRICE, start);
+ * </pre>
+ * While disabled, start and end are a read of a static field and a compare, so the JIT leaves nothing of them.
+ * Counters are striped LongAdders, so threads counting the same operation do not contend.
+ * The counters can be read through JMX after register() under model:type=ModelMetrics.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class ModelMetrics
+{
+    /**
+     * The instrumented operations
+     */
+    public enum Op
+    {
+        /** a Rent was created (any constructor) */
+        RENT_CREATE,
+        /** Rent.getPrice */
+        PRICE,
+        /** Rent.upgrade, upgraded or not */
+        UPGRADE,
+        /** Rent.overlap, merged or not */
+        OVERLAP,
+        /** Date.difference or LocalDay.difference */
+        DIFFERENCE
+    }
+
+    /**
+     * The validation fallbacks
+     */
+    public enum Fallback
+    {
+        /** a Car or CarValue got the default id 9999999 */
+        CAR_ID,
+        /** a Car or CarValue got the default type 'A' */
+        CAR_TYPE,
+        /** a Date fell back to 01/01/2000 */
+        DATE
+    }
+
+    /**
+     * The name the metrics are registered under in JMX
+     */
+    public static final String OBJECT_NAME = "model:type=ModelMetrics";
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final long UNTIMED = Long.MIN_VALUE + 1;
+    private static final Op[] OPS = Op.values();
+    private static final LongAdder[] COUNTS = adders(OPS.length);
+    private static final LatencyHistogram[] LATENCIES = new LatencyHistogram[OPS.length];
+    private static final LongAdder[] FALLBACKS = adders(Fallback.values().length);
+    private static final LongAdder UPGRADED = new LongAdder();
+    private static final LongAdder UPGRADE_REVENUE = new LongAdder();
+    private static final LongAdder MERGED = new LongAdder();
+    // plain fields: a stale read only counts or skips a few operations around the switch
+    private static boolean _enabled = Boolean.getBoolean("model.metrics");
+    private static boolean _timing = Boolean.getBoolean("model.metrics.timing");
+
+    static
+    {
+        for (int i = 0; i < LATENCIES.length; i++)
+            LATENCIES[i] = new LatencyHistogram();
+    }
+
+    private ModelMetrics()
+    {
+    }
+
+    /**
+     * Turns the counters on or off
+     * @param enabled - true to count the operations
+     */
+    public static void setEnabled(boolean enabled)
+    {
+        _enabled = enabled;
+    }
+
+    /**
+     * Checks if the counters are on
+     * @return true if the operations are counted
+     */
+    public static boolean isEnabled()
+    {
+        return _enabled;
+    }
+
+    /**
+     * Turns the latency timing on or off (only used while the counters are on)
+     * @param timing - true to time the operations
+     */
+    public static void setTiming(boolean timing)
+    {
+        _timing = timing;
+    }
+
+    /**
+     * Checks if the latency timing is on
+     * @return true if the operations are timed
+     */
+    public static boolean isTiming()
+    {
+        return _timing;
+    }
+
+    /**
+     * Starts an operation
+     * @return the token to pass to end
+     */
+    public static long start()
+    {
+        if (!_enabled)
+            return DISABLED;
+        return _timing ? System.nanoTime() : UNTIMED;
+    }
+
+    /**
+     * Ends an operation, counting it and recording its latency if it was timed
+     * @param op - the operation
+     * @param start - the token returned by start
+     */
+    public static void end(Op op, long start)
+    {
+        if (start == DISABLED)
+            return;
+        COUNTS[op.ordinal()].increment();
+        if (start != UNTIMED)
+            LATENCIES[op.ordinal()].record(System.nanoTime() - start);
+    }
+
+    /**
+     * Counts an operation without timing it
+     * @param op - the operation
+     */
+    public static void count(Op op)
+    {
+        if (_enabled)
+            COUNTS[op.ordinal()].increment();
+    }
+
+    /**
+     * Counts a validation fallback
+     * @param fallback - the fallback taken
+     */
+    public static void fallback(Fallback fallback)
+    {
+        if (_enabled)
+            FALLBACKS[fallback.ordinal()].increment();
+    }
+
+    /**
+     * Counts a successful upgrade
+     * @param cost - the upgrade additional cost
+     */
+    public static void upgraded(int cost)
+    {
+        if (_enabled)
+        {
+            UPGRADED.increment();
+            UPGRADE_REVENUE.add(cost);
+        }
+    }
+
+    /**
+     * Counts an overlap that merged two rents
+     */
+    public static void merged()
+    {
+        if (_enabled)
+            MERGED.increment();
+    }
+
+    /**
+     * Returns the number of times an operation ran while counting
+     * @param op - the operation
+     * @return the count
+     */
+    public static long getCount(Op op)
+    {
+        return COUNTS[op.ordinal()].sum();
+    }
+
+    /**
+     * Returns the latencies of an operation, recorded while timing
+     * @param op - the operation
+     * @return the latency histogram, in nanoseconds
+     */
+    public static LatencyHistogram getLatency(Op op)
+    {
+        return LATENCIES[op.ordinal()];
+    }
+
+    /**
+     * Returns the number of times a validation fallback was taken while counting
+     * @param fallback - the fallback
+     * @return the count
+     */
+    public static long getFallbacks(Fallback fallback)
+    {
+        return FALLBACKS[fallback.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of upgrades that changed the car
+     * @return the number of successful upgrades
+     */
+    public static long getUpgraded()
+    {
+        return UPGRADED.sum();
+    }
+
+    /**
+     * Returns the total additional cost of the successful upgrades
+     * @return the upgrade revenue
+     */
+    public static long getUpgradeRevenue()
+    {
+        return UPGRADE_REVENUE.sum();
+    }
+
+    /**
+     * Returns the number of overlaps that merged two rents
+     * @return the number of merges
+     */
+    public static long getMerged()
+    {
+        return MERGED.sum();
+    }
+
+    /**
+     * Zeroes every counter and histogram (counts made during the reset may be lost)
+     */
+    public static void reset()
+    {
+        for (LongAdder adder : COUNTS)
+            adder.reset();
+        for (LongAdder adder : FALLBACKS)
+            adder.reset();
+        for (LatencyHistogram histogram : LATENCIES)
+            histogram.reset();
+        UPGRADED.reset();
+        UPGRADE_REVENUE.reset();
+        MERGED.reset();
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server under OBJECT_NAME (once; later calls do nothing)
+     * @return the name the metrics are registered under
+     * @throws IllegalStateException if the registration fails
+     */
+    public static synchronized ObjectName register()
+    {
+        try
+        {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name))
+                server.registerMBean(new ModelMetricsBean(), name);
+            return name;
+        }
+        catch (JMException e)
+        {
+            throw new IllegalStateException("can not register " + OBJECT_NAME, e);
+        }
+    }
+
+    private static LongAdder[] adders(int count)
+    {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++)
+            adders[i] = new LongAdder();
+        return adders;
+    }
+}
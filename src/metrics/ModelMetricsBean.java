@@ -0,0 +1,98 @@
+package metrics;
+
+import metrics.ModelMetrics.Fallback;
+import metrics.ModelMetrics.Op;
+
+/**
+ * This class represents the MXBean registered by ModelMetrics.register; it reads and switches the static metrics.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+class ModelMetricsBean implements ModelMetricsMXBean
+{
+    public boolean isEnabled()
+    {
+        return ModelMetrics.isEnabled();
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        ModelMetrics.setEnabled(enabled);
+    }
+
+    public boolean isTiming()
+    {
+        return ModelMetrics.isTiming();
+    }
+
+    public void setTiming(boolean timing)
+    {
+        ModelMetrics.setTiming(timing);
+    }
+
+    public long getRentsCreated()
+    {
+        return ModelMetrics.getCount(Op.RENT_CREATE);
+    }
+
+    public long getPricings()
+    {
+        return ModelMetrics.getCount(Op.PRICE);
+    }
+
+    public long getUpgrades()
+    {
+        return ModelMetrics.getCount(Op.UPGRADE);
+    }
+
+    public long getUpgraded()
+    {
+        return ModelMetrics.getUpgraded();
+    }
+
+    public long getUpgradeRevenue()
+    {
+        return ModelMetrics.getUpgradeRevenue();
+    }
+
+    public long getOverlaps()
+    {
+        return ModelMetrics.getCount(Op.OVERLAP);
+    }
+
+    public long getMerged()
+    {
+        return ModelMetrics.getMerged();
+    }
+
+    public long getDifferences()
+    {
+        return ModelMetrics.getCount(Op.DIFFERENCE);
+    }
+
+    public long getCarIdFallbacks()
+    {
+        return ModelMetrics.getFallbacks(Fallback.CAR_ID);
+    }
+
+    public long getCarTypeFallbacks()
+    {
+        return ModelMetrics.getFallbacks(Fallback.CAR_TYPE);
+    }
+
+    public long getDateFallbacks()
+    {
+        return ModelMetrics.getFallbacks(Fallback.DATE);
+    }
+
+    public long latencyNanos(String op, double percentile)
+    {
+        return ModelMetrics.getLatency(Op.valueOf(op)).getValueAtPercentile(percentile);
+    }
+
+    public void reset()
+    {
+        ModelMetrics.reset();
+    }
+}
@@ -0,0 +1,50 @@
+package metrics;
+
+/**
+ * The JMX view of ModelMetrics. Latencies are in nanoseconds and are only recorded while timing is on.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public interface ModelMetricsMXBean
+{
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    boolean isTiming();
+
+    void setTiming(boolean timing);
+
+    long getRentsCreated();
+
+    long getPricings();
+
+    long getUpgrades();
+
+    long getUpgraded();
+
+    long getUpgradeRevenue();
+
+    long getOverlaps();
+
+    long getMerged();
+
+    long getDifferences();
+
+    long getCarIdFallbacks();
+
+    long getCarTypeFallbacks();
+
+    long getDateFallbacks();
+
+    /**
+     * Returns the latency of an operation at a percentile
+     * @param op - the operation name (RENT_CREATE, PRICE, UPGRADE, OVERLAP or DIFFERENCE)
+     * @param percentile - the percentile (0-100)
+     * @return the latency in nanoseconds, or 0 if nothing was timed
+     */
+    long latencyNanos(String op, double percentile);
+
+    void reset();
+}
@@ -0,0 +1,190 @@
+package model;
+
+import util.IntObjectMap;
+import util.IntervalTree;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents an availability index of rents, keyed by car id.
+ * Every rent occupies its car from the pickup date up to (not including) the return date,
+ * so a car returned on a day can be picked up again on that day.
+ * The ranges of every car are kept in an interval tree, so checking if a car is free takes O(log n).
+ * A rent that is changed after it was added must be re-indexed with update.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class AvailabilityIndex
+{
+    private final IntObjectMap<IntervalTree<Rent>> _byCar = new IntObjectMap<>();
+    private final Map<Rent, Entry> _entries = new IdentityHashMap<>();
+
+    // the range a rent was indexed with
+    private static class Entry
+    {
+        private final int _carId;
+        private final int _start;
+        private final long _id;
+
+        private Entry(int carId, int start, long id)
+        {
+            _carId = carId;
+            _start = start;
+            _id = id;
+        }
+    }
+
+    /**
+     * Adds a rent to the index (only if it is not already in the index)
+     * @param rent - the rent to add
+     * @return true if the rent was added, otherwise false
+     */
+    public boolean add(Rent rent)
+    {
+        if (_entries.containsKey(rent))
+            return false;
+        int carId = rent.getCarId();
+        IntervalTree<Rent> rents = _byCar.get(carId);
+        if (rents == null)
+        {
+            rents = new IntervalTree<>();
+            _byCar.put(carId, rents);
+        }
+        int start = rent.getPickEpochDay();
+        long id = rents.add(start, rent.getReturnEpochDay(), rent);
+        _entries.put(rent, new Entry(carId, start, id));
+        return true;
+    }
+
+    /**
+     * Removes a rent from the index
+     * @param rent - the rent to remove
+     * @return true if the rent was removed, false if it was not in the index
+     */
+    public boolean remove(Rent rent)
+    {
+        Entry entry = _entries.remove(rent);
+        if (entry == null)
+            return false;
+        IntervalTree<Rent> rents = _byCar.get(entry._carId);
+        rents.remove(entry._start, entry._id);
+        if (rents.isEmpty())
+            _byCar.remove(entry._carId);
+        return true;
+    }
+
+    /**
+     * Re-indexes a rent after its car or dates were changed
+     * @param rent - the changed rent
+     */
+    public void update(Rent rent)
+    {
+        remove(rent);
+        add(rent);
+    }
+
+    /**
+     * Check if the rent is in the index
+     * @param rent - the rent to look for
+     * @return true if the rent is in the index, otherwise false
+     */
+    public boolean contains(Rent rent)
+    {
+        return _entries.containsKey(rent);
+    }
+
+    /**
+     * Returns the number of rents in the index
+     * @return the number of rents
+     */
+    public int size()
+    {
+        return _entries.size();
+    }
+
+    /**
+     * Check if a car is free from one date up to (not including) another date
+     * @param carId - the id of the car
+     * @param from - the first day
+     * @param to - the day after the last day
+     * @return true if no rent of the car overlaps the days, otherwise false
+     */
+    public boolean isFree(int carId, Date from, Date to)
+    {
+        return isFree(carId, from.getEpochDay(), to.getEpochDay());
+    }
+
+    /**
+     * Check if a car is free in the days [from, to)
+     * @param carId - the id of the car
+     * @param from - the day number of the first day
+     * @param to - the day number of the day after the last day
+     * @return true if no rent of the car overlaps the days, otherwise false
+     */
+    public boolean isFree(int carId, int from, int to)
+    {
+        IntervalTree<Rent> rents = _byCar.get(carId);
+        return rents == null || !rents.overlapsAny(from, to);
+    }
+
+    /**
+     * Returns the rents of a car that overlap the days from one date up to (not including) another date
+     * @param carId - the id of the car
+     * @param from - the first day
+     * @param to - the day after the last day
+     * @return a new list holding the conflicting rents, ordered by pickup date
+     */
+    public List<Rent> conflicts(int carId, Date from, Date to)
+    {
+        return conflicts(carId, from.getEpochDay(), to.getEpochDay());
+    }
+
+    /**
+     * Returns the rents of a car that overlap the days [from, to)
+     * @param carId - the id of the car
+     * @param from - the day number of the first day
+     * @param to - the day number of the day after the last day
+     * @return a new list holding the conflicting rents, ordered by pickup date
+     */
+    public List<Rent> conflicts(int carId, int from, int to)
+    {
+        IntervalTree<Rent> rents = _byCar.get(carId);
+        if (rents == null)
+            return new ArrayList<>();
+        return rents.overlaps(from, to);
+    }
+
+    /**
+     * Returns the first date, not before the given date, from which a car is free for the given number of days
+     * @param carId - the id of the car
+     * @param from - the earliest pickup date
+     * @param days - the number of days the car should be free (at least 1)
+     * @return the first pickup date of a free window of the given length
+     */
+    public Date nextFreeWindow(int carId, Date from, int days)
+    {
+        return Date.ofEpochDay(nextFreeWindow(carId, from.getEpochDay(), days));
+    }
+
+    /**
+     * Returns the first day, not before the given day, from which a car is free for the given number of days
+     * @param carId - the id of the car
+     * @param from - the day number of the earliest pickup day
+     * @param days - the number of days the car should be free (at least 1)
+     * @return the day number of the first pickup day of a free window of the given length
+     * @throws IllegalArgumentException if days is not positive
+     */
+    public int nextFreeWindow(int carId, int from, int days)
+    {
+        if (days < 1)
+            throw new IllegalArgumentException("days must be positive");
+        IntervalTree<Rent> rents = _byCar.get(carId);
+        if (rents == null)
+            return from;
+        return rents.nextFree(from, days);
+    }
+}
@@ -0,0 +1,155 @@
+package model;
+
+/**
+ * This class holds precomputed calendar tables for the legal years of a Date (1000-9999):
+ * the day number of the first day of every year, and the first day and length of every month
+ * in leap and in common years. Checking a date and converting between dates and day numbers
+ * are table lookups, without walking months or dividing by the leap year rules.
+ * Day numbers are counted as in Date.getEpochDay.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class CalendarTable
+{
+    /** The first legal year */
+    public static final int FIRST_YEAR = 1000;
+    /** The last legal year */
+    public static final int LAST_YEAR = 9999;
+    private static final int MONTHS = 12;
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int[] COMMON_MONTH_DAYS = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    // the day number of 1 January of every year, and of the year after the last year
+    private static final int[] YEAR_START = new int[LAST_YEAR - FIRST_YEAR + 2];
+    // [leap][month] -> the number of days in the month (index 0 unused)
+    private static final int[][] MONTH_DAYS = new int[2][MONTHS + 1];
+    // [leap][month] -> the day of the year (from 0) of the first day of the month (index 0 unused)
+    private static final int[][] MONTH_START = new int[2][MONTHS + 1];
+    // [leap][day of the year] -> the month of the day
+    private static final byte[][] MONTH_OF_DAY = new byte[2][DAYS_IN_LEAP_YEAR];
+    /** The day number of 1/1/1000 */
+    public static final int FIRST_EPOCH_DAY;
+    /** The day number of 31/12/9999 */
+    public static final int LAST_EPOCH_DAY;
+
+    static
+    {
+        for (int year = FIRST_YEAR; year <= LAST_YEAR + 1; year++)
+        {
+            int before = year - 1;
+            YEAR_START[year - FIRST_YEAR] = 365 * before + before / 4 - before / 100 + before / 400 + 367;
+        }
+        for (int leap = 0; leap < 2; leap++)
+        {
+            int start = 0;
+            for (int month = 1; month <= MONTHS; month++)
+            {
+                int days = COMMON_MONTH_DAYS[month - 1] + (leap == 1 && month == 2 ? 1 : 0);
+                MONTH_DAYS[leap][month] = days;
+                MONTH_START[leap][month] = start;
+                for (int day = 0; day < days; day++)
+                    MONTH_OF_DAY[leap][start + day] = (byte) month;
+                start += days;
+            }
+        }
+        FIRST_EPOCH_DAY = YEAR_START[0];
+        LAST_EPOCH_DAY = YEAR_START[YEAR_START.length - 1] - 1;
+    }
+
+    private CalendarTable()
+    {
+    }
+
+    /**
+     * Check if a year is a leap year
+     * @param year - the year (1000-9999)
+     * @return true if the year is a leap year, otherwise false
+     */
+    public static boolean isLeap(int year)
+    {
+        return leap(year - FIRST_YEAR) == 1;
+    }
+
+    /**
+     * Returns the number of days in a month
+     * @param month - the month (1-12)
+     * @param year - the year (1000-9999)
+     * @return the number of days in the month
+     */
+    public static int daysInMonth(int month, int year)
+    {
+        return MONTH_DAYS[leap(year - FIRST_YEAR)][month];
+    }
+
+    /**
+     * Check if a date is legal, as the Date constructor checks it
+     * @param day - the day in the month
+     * @param month - the month in the year
+     * @param year - the year
+     * @return true if the date is legal, otherwise false
+     */
+    public static boolean isLegal(int day, int month, int year)
+    {
+        return year >= FIRST_YEAR && year <= LAST_YEAR && month >= 1 && month <= MONTHS
+                && day >= 1 && day <= daysInMonth(month, year);
+    }
+
+    /**
+     * Returns the day number of a legal date
+     * @param day - the day in the month
+     * @param month - the month in the year
+     * @param year - the year (1000-9999)
+     * @return the day number of the date
+     */
+    public static int epochDay(int day, int month, int year)
+    {
+        int index = year - FIRST_YEAR;
+        return YEAR_START[index] + MONTH_START[leap(index)][month] + day - 1;
+    }
+
+    /**
+     * Returns the year of a day number
+     * @param epochDay - the day number (FIRST_EPOCH_DAY to LAST_EPOCH_DAY)
+     * @return the year of the day
+     */
+    public static int yearOf(int epochDay)
+    {
+        // 146097 days in 400 years estimates the year within one year
+        int index = (int) ((long) (epochDay - FIRST_EPOCH_DAY) * 400 / 146097);
+        if (YEAR_START[index] > epochDay)
+            index--;
+        else if (YEAR_START[index + 1] <= epochDay)
+            index++;
+        return FIRST_YEAR + index;
+    }
+
+    /**
+     * Returns the month of a day number
+     * @param epochDay - the day number (FIRST_EPOCH_DAY to LAST_EPOCH_DAY)
+     * @return the month of the day (1-12)
+     */
+    public static int monthOf(int epochDay)
+    {
+        int index = yearOf(epochDay) - FIRST_YEAR;
+        return MONTH_OF_DAY[leap(index)][epochDay - YEAR_START[index]];
+    }
+
+    /**
+     * Returns the day in the month of a day number
+     * @param epochDay - the day number (FIRST_EPOCH_DAY to LAST_EPOCH_DAY)
+     * @return the day in the month (1-31)
+     */
+    public static int dayOf(int epochDay)
+    {
+        int index = yearOf(epochDay) - FIRST_YEAR;
+        int leap = leap(index);
+        int dayOfYear = epochDay - YEAR_START[index];
+        return dayOfYear - MONTH_START[leap][MONTH_OF_DAY[leap][dayOfYear]] + 1;
+    }
+
+    // 1 if the year of the index is a leap year, otherwise 0
+    private static int leap(int index)
+    {
+        return YEAR_START[index + 1] - YEAR_START[index] == DAYS_IN_LEAP_YEAR ? 1 : 0;
+    }
+}
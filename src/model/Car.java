@@ -1,5 +1,8 @@
 package model;
 
+import metrics.ModelMetrics;
+
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -14,10 +17,22 @@ public class Car
     private char _type;
     private String _brand;
     private boolean _isManual;
-    private final int MAX_ID = 9999999;
-    private final int MIN_ID = 1000000;
-    private final int DEFAULT_ID = 9999999;
-    private final char DEFAULT_TYPE = 'A';
+    private Fleet _fleet;
+    private static final int DEFAULT_ID = 9999999;
+    private static final char DEFAULT_TYPE = 'A';
+
+    /** The smallest legal car id (the smallest 7 digits number) */
+    public static final int MIN_ID = 1000000;
+    /** The largest legal car id (the largest 7 digits number) */
+    public static final int MAX_ID = 9999999;
+
+    /**
+     * Orders cars as Car.better does: by type, then a manual car before an automatic car of the same type.
+     * A car that is better than another car is ordered after it. Cars of the same type and gear are ordered
+     * as equal, so add a tie breaker (for example the id) to keep several of them in a sorted set or map.
+     */
+    public static final Comparator<Car> BETTER_ORDER =
+            Comparator.comparingInt((Car car) -> car._type).thenComparing(car -> !car._isManual);
 
     /**
      * Creates a new Car object
@@ -30,19 +45,45 @@ public class Car
      */
     public Car (int id, char type, String brand, boolean isManual)
     {
-        if (id >= MIN_ID && id <= MAX_ID)
+        if (isLegalId(id))
             _id = id;
         else
+        {
             _id = DEFAULT_ID;
-        if (type == 'A' || type == 'B' || type == 'C' || type == 'D')
+            ModelMetrics.fallback(ModelMetrics.Fallback.CAR_ID);
+        }
+        if (isLegalType(type))
             _type = type;
         else
+        {
             _type = DEFAULT_TYPE;
+            ModelMetrics.fallback(ModelMetrics.Fallback.CAR_TYPE);
+        }
 
         _brand = brand;
         _isManual = isManual;
     }
 
+    /**
+     * Checks if an id is valid for a car (a 7 digits number)
+     * @param id - the id to check
+     * @return true if the id is valid, otherwise false
+     */
+    public static boolean isLegalId(int id)
+    {
+        return id >= MIN_ID && id <= MAX_ID;
+    }
+
+    /**
+     * Checks if a type is valid for a car ('A','B','C' or 'D')
+     * @param type - the type to check
+     * @return true if the type is valid, otherwise false
+     */
+    public static boolean isLegalType(char type)
+    {
+        return type == 'A' || type == 'B' || type == 'C' || type == 'D';
+    }
+
     /**
      * Copy constructor
      * @param other - the car to be copied
@@ -92,12 +133,12 @@ public class Car
     }
 
     /**
-     * Sets the id (only if the given id is valid)
+     * Sets the id (only if the given id is valid and not taken by another car of the car's fleet)
      * @param id - the id value to be set
      */
     public void setId(int id)
     {
-        if (id >= MIN_ID && id <= MAX_ID)
+        if (isLegalId(id) && (_fleet == null || _fleet.moveId(this, id)))
             _id = id;
     }
 
@@ -107,8 +148,13 @@ public class Car
      */
     public void setType (char type)
     {
-        if (type == 'A' || type == 'B' || type == 'C' || type == 'D')
+        if (isLegalType(type))
+        {
+            char oldType = _type;
             _type = type;
+            if (_fleet != null)
+                _fleet.carChanged(this, oldType, _brand, _isManual);
+        }
     }
 
     /**
@@ -117,7 +163,10 @@ public class Car
      */
     public void setBrand(String brand)
     {
+        String oldBrand = _brand;
         _brand = brand;
+        if (_fleet != null)
+            _fleet.carChanged(this, _type, oldBrand, _isManual);
     }
 
     /**
@@ -126,7 +175,21 @@ public class Car
      */
     public void setIsManual(boolean isManual)
     {
+        boolean oldIsManual = _isManual;
         _isManual = isManual;
+        if (_fleet != null)
+            _fleet.carChanged(this, _type, _brand, oldIsManual);
+    }
+
+    // the fleet indexing this car, or null
+    Fleet getFleet()
+    {
+        return _fleet;
+    }
+
+    void setFleet(Fleet fleet)
+    {
+        _fleet = fleet;
     }
 
     /**
@@ -154,6 +217,26 @@ public class Car
         return _type == other._type && Objects.equals(_brand, other._brand) && _isManual == other._isManual;
     }
 
+    /**
+     * Check if two cars are the same, as defined by equals(Car)
+     * @param o - the object to compare this car to
+     * @return true if the object is a car with the same type, brand and gear, otherwise false
+     */
+    public boolean equals(Object o)
+    {
+        return o instanceof Car && equals((Car) o);
+    }
+
+    /**
+     * Returns a hash code of the type, brand and gear (the same hash code as the CarValue of the car).
+     * Don't change a car while it is a key of a hashed collection.
+     * @return the hash code
+     */
+    public int hashCode()
+    {
+        return Objects.hash(_type, _brand, _isManual);
+    }
+
     /**
      * Check if this car is better than the other car
      * A car is considered better than another car if its type is higher.
@@ -0,0 +1,161 @@
+package model;
+
+import metrics.ModelMetrics;
+
+import java.util.Objects;
+
+/**
+ * This class represents an immutable Car value.
+ * It has the same validation rules as Car, and can be shared freely without copying.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class CarValue
+{
+    private static final int DEFAULT_ID = 9999999;
+    private static final char DEFAULT_TYPE = 'A';
+    private final int _id;
+    private final char _type;
+    private final String _brand;
+    private final boolean _isManual;
+
+    /**
+     * Creates a new CarValue
+     * id should be a 7 digits number, otherwise set it to 9999999
+     * type should be 'A','B','C' or 'D', otherwise set it to 'A'
+     * @param id - the id of the car (7 digits number)
+     * @param type - the type of the car ('A','B','C' or 'D')
+     * @param brand - the car's brand
+     * @param isManual - flag indicating if the car is manual
+     */
+    public CarValue(int id, char type, String brand, boolean isManual)
+    {
+        if (Car.isLegalId(id))
+            _id = id;
+        else
+        {
+            _id = DEFAULT_ID;
+            ModelMetrics.fallback(ModelMetrics.Fallback.CAR_ID);
+        }
+        if (Car.isLegalType(type))
+            _type = type;
+        else
+        {
+            _type = DEFAULT_TYPE;
+            ModelMetrics.fallback(ModelMetrics.Fallback.CAR_TYPE);
+        }
+        _brand = brand;
+        _isManual = isManual;
+    }
+
+    /**
+     * Creates the value of a car
+     * @param car - the car
+     * @return a new CarValue holding the fields of the car
+     */
+    public static CarValue from(Car car)
+    {
+        return new CarValue(car.getId(), car.getType(), car.getBrand(), car.getIsManual());
+    }
+
+    /**
+     * Creates a mutable Car holding this value
+     * @return a new Car
+     */
+    public Car toCar()
+    {
+        return new Car(_id, _type, _brand, _isManual);
+    }
+
+    /**
+     * returns the id of the car.
+     * @return The id of the car.
+     */
+    public int getId()
+    {
+        return _id;
+    }
+
+    /**
+     * returns the type of the car.
+     * @return The type of the car.
+     */
+    public char getType()
+    {
+        return _type;
+    }
+
+    /**
+     * returns the brand of the car.
+     * @return The brand of the car.
+     */
+    public String getBrand()
+    {
+        return _brand;
+    }
+
+    /**
+     * returns the manual of the car.
+     * @return The manual of the car.
+     */
+    public boolean getIsManual()
+    {
+        return _isManual;
+    }
+
+    /**
+     * Check if this car is better than the other car, as defined by Car.better
+     * @param other - car to compare this car to
+     * @return true if this car is better than the other car, otherwise false
+     */
+    public boolean better(CarValue other)
+    {
+        if (other._type < _type)
+            return true;
+        if (_type == other._type)
+            return !_isManual;
+        return false;
+    }
+
+    /**
+     * Check if this car is worse than the other car
+     * @param other - car to compare this car to
+     * @return true if this car is worse than the other car, otherwise false
+     */
+    public boolean worse(CarValue other)
+    {
+        return other.better(this);
+    }
+
+    /**
+     * Check if two cars are the same, as defined by Car.equals: the same type, brand and gear
+     * @param o - the object to compare this car to
+     * @return true if the cars are the same, otherwise false
+     */
+    public boolean equals(Object o)
+    {
+        if (!(o instanceof CarValue))
+            return false;
+        CarValue other = (CarValue) o;
+        return _type == other._type && Objects.equals(_brand, other._brand) && _isManual == other._isManual;
+    }
+
+    /**
+     * Returns a hash code of the type, brand and gear
+     * @return the hash code
+     */
+    public int hashCode()
+    {
+        return Objects.hash(_type, _brand, _isManual);
+    }
+
+    /**
+     * Returns a String object that represents this car
+     * @return String that represents this car in the following format:id:1234567 type:B brand:Toyota gear:manual (or auto)
+     */
+    public String toString()
+    {
+        return "id:" + _id + " type:" + _type + " brand:" + _brand + " gear:" + (_isManual ? "manual" : "auto");
+    }
+}
@@ -0,0 +1,273 @@
+package model;
+
+import util.StringDictionary;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents a registry of customers: every distinct client name gets a compact int customer id
+ * (0, 1, 2, ...), and the rents added to the registry are indexed by customer.
+ * Names are interned: a rent added to the registry is given the registry's instance of its name, so all the
+ * rents of a customer share one String, and comparing the names of two registered rents in Rent.equals or
+ * Rent.overlap succeeds on the reference check.
+ * The rents of a customer, the rents that Rent.overlap would merge with a rent, and the totals of a customer
+ * are then found from the customer id, comparing day numbers and cars instead of names.
+ * A rent whose name, car or dates are changed after it was added must be re-indexed with update.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class CustomerRegistry
+{
+    private final StringDictionary _names = new StringDictionary();
+    // customer id -> the customer's rents
+    private final List<List<Rent>> _rents = new ArrayList<>();
+    private final Map<Rent, Integer> _customers = new IdentityHashMap<>();
+
+    /**
+     * Returns the customer id of a name, registering the name if it is new
+     * @param name - the client's name
+     * @return the customer id
+     */
+    public int idOf(String name)
+    {
+        int id = _names.idOf(name);
+        if (id == _rents.size())
+            _rents.add(new ArrayList<>());
+        return id;
+    }
+
+    /**
+     * Returns the customer id of a name, without registering it
+     * @param name - the client's name
+     * @return the customer id, or -1 if the name is not registered
+     */
+    public int find(String name)
+    {
+        return _names.find(name);
+    }
+
+    /**
+     * Returns the name of a customer
+     * @param id - the customer id
+     * @return the registry's instance of the client's name
+     * @throws IndexOutOfBoundsException if there is no such customer
+     */
+    public String getName(int id)
+    {
+        return _names.get(id);
+    }
+
+    /**
+     * Returns the registry's instance of a name, registering the name if it is new
+     * @param name - the client's name
+     * @return an equal String, the same instance for every equal name
+     */
+    public String intern(String name)
+    {
+        return _names.get(idOf(name));
+    }
+
+    /**
+     * Returns the number of customers
+     * @return the number of registered names
+     */
+    public int size()
+    {
+        return _rents.size();
+    }
+
+    /**
+     * Adds a rent to the registry (only if it is not already in the registry), and gives it the registry's
+     * instance of its name
+     * @param rent - the rent to add
+     * @return the customer id of the rent, or -1 if the rent was already in the registry
+     */
+    public int add(Rent rent)
+    {
+        if (_customers.containsKey(rent))
+            return -1;
+        int id = register(rent);
+        _customers.put(rent, id);
+        return id;
+    }
+
+    /**
+     * Removes a rent from the registry (its customer stays registered)
+     * @param rent - the rent to remove
+     * @return true if the rent was removed, false if it was not in the registry
+     */
+    public boolean remove(Rent rent)
+    {
+        Integer id = _customers.remove(rent);
+        if (id == null)
+            return false;
+        unregister(rent, id);
+        return true;
+    }
+
+    /**
+     * Re-indexes a rent after its name was changed (or adds it if it is not in the registry)
+     * @param rent - the changed rent
+     * @return the customer id of the rent
+     */
+    public int update(Rent rent)
+    {
+        Integer old = _customers.get(rent);
+        if (old == null)
+            return add(rent);
+        int id = idOf(rent.getName());
+        if (id != old)
+        {
+            unregister(rent, old);
+            register(rent);
+            _customers.put(rent, id);
+        }
+        else
+            rent.setName(_names.get(id));
+        return id;
+    }
+
+    /**
+     * Check if the rent is in the registry
+     * @param rent - the rent to look for
+     * @return true if the rent is in the registry, otherwise false
+     */
+    public boolean contains(Rent rent)
+    {
+        return _customers.containsKey(rent);
+    }
+
+    /**
+     * Returns the rents of a customer
+     * @param id - the customer id
+     * @return a new list of the customer's rents, in the order they were added
+     * @throws IndexOutOfBoundsException if there is no such customer
+     */
+    public List<Rent> getRents(int id)
+    {
+        return new ArrayList<>(_rents.get(id));
+    }
+
+    /**
+     * Returns the rents of a customer
+     * @param name - the client's name
+     * @return a new list of the customer's rents, in the order they were added (empty for an unknown name)
+     */
+    public List<Rent> getRents(String name)
+    {
+        int id = find(name);
+        return id < 0 ? new ArrayList<>() : getRents(id);
+    }
+
+    /**
+     * Returns the number of rents of a customer
+     * @param id - the customer id
+     * @return the number of rents
+     * @throws IndexOutOfBoundsException if there is no such customer
+     */
+    public int rentCount(int id)
+    {
+        return _rents.get(id).size();
+    }
+
+    /**
+     * Returns the other rents of the customer of a rent that Rent.overlap would merge with it:
+     * rents of an equal car (same type, brand and gear, as CarValue.equals) whose dates overlap or touch the rent's dates
+     * @param rent - the rent (registered or not)
+     * @return a new list of the overlapping rents, in the order they were added
+     */
+    public List<Rent> overlapping(Rent rent)
+    {
+        List<Rent> overlapping = new ArrayList<>();
+        int id = find(rent.getName());
+        if (id < 0)
+            return overlapping;
+        int pick = rent.getPickEpochDay();
+        int ret = rent.getReturnEpochDay();
+        for (Rent other : _rents.get(id))
+        {
+            if (other != rent && other.getPickEpochDay() <= ret && pick <= other.getReturnEpochDay()
+                    && other.getCarValue().equals(rent.getCarValue()))
+                overlapping.add(other);
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns the total price of the rents of a customer
+     * @param id - the customer id
+     * @return the sum of the customer's rent prices
+     * @throws IndexOutOfBoundsException if there is no such customer
+     */
+    public long totalPrice(int id)
+    {
+        long total = 0;
+        for (Rent rent : _rents.get(id))
+            total += rent.getPrice();
+        return total;
+    }
+
+    /**
+     * Returns the total number of rent days of a customer
+     * @param id - the customer id
+     * @return the sum of the customer's rent days
+     * @throws IndexOutOfBoundsException if there is no such customer
+     */
+    public long totalDays(int id)
+    {
+        long total = 0;
+        for (Rent rent : _rents.get(id))
+            total += rent.getReturnEpochDay() - rent.getPickEpochDay();
+        return total;
+    }
+
+    /**
+     * Returns the customers who paid the most, for loyalty programs
+     * @param count - the most customers to return
+     * @return the ids of up to count customers with rents, by total price from the highest (ties by id)
+     */
+    public int[] topCustomers(int count)
+    {
+        long[] totals = new long[_rents.size()];
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < totals.length; id++)
+        {
+            if (!_rents.get(id).isEmpty())
+            {
+                totals[id] = totalPrice(id);
+                ids.add(id);
+            }
+        }
+        ids.sort((a, b) -> totals[a] != totals[b] ? Long.compare(totals[b], totals[a]) : Integer.compare(a, b));
+        int[] top = new int[Math.min(Math.max(count, 0), ids.size())];
+        for (int i = 0; i < top.length; i++)
+            top[i] = ids.get(i);
+        return top;
+    }
+
+    // adds the rent to the list of its customer, with the registry's instance of its name
+    private int register(Rent rent)
+    {
+        int id = idOf(rent.getName());
+        rent.setName(_names.get(id));
+        _rents.get(id).add(rent);
+        return id;
+    }
+
+    private void unregister(Rent rent, int id)
+    {
+        List<Rent> rents = _rents.get(id);
+        for (int i = rents.size() - 1; i >= 0; i--)
+        {
+            if (rents.get(i) == rent)
+            {
+                rents.remove(i);
+                return;
+            }
+        }
+    }
+}
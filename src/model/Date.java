@@ -1,40 +1,31 @@
 package model;
+
+import metrics.ModelMetrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * This class represents a Date object.
  *
  * @author Avihu Tubi
  * @version 20/11/2022
  */
-public class Date
+public class Date implements Comparable<Date>
 {
     private int _day;
     private int _month;
     private int _year;
-    private final int MAX_DAY = 31;
-    private final int MIN_DAY = 1;
-    private final int MAX_MONTH = 12;
-    private final int MIN_MONTH = 1;
-    private final int MAX_YEAR = 9999;
-    private final int MIN_YEAR = 1000;
-    private final int DEFAULT_DAY = 1;
-    private final int DEFAULT_MONTH = 1;
-    private final int DEFAULT_YEAR = 2000;
-    private final int JANUARY_MONTH = 1;
-    private final int FEBRUARY_MONTH = 2;
-    private final int MARCH_MONTH = 3;
-    private final int APRIL_MONTH = 4;
-    private final int MAY_MONTH = 5;
-    private final int JUNE_MONTH = 6;
-    private final int JULY_MONTH = 7;
-    private final int AUGUST_MONTH = 8;
-    private final int SEPTEMBER_MONTH = 9;
-    private final int OCTOBER_MONTH = 10;
-    private final int NOVEMBER_MONTH = 11;
-    private final int DECEMBER_MONTH = 12;
-    private final int MAX_DAYS_IN_LONG_MONTH = 31;
-    private final int MAX_DAYS_IN_SHORT_MONTH = 30;
-    private final int DAYS_IN_LONG_FEBRUARY = 29;
-    private final int DAYS_IN_SHORT_FEBRUARY = 28;
+    private int _epochDay;
+    private boolean _shared;
+    private static final int DEFAULT_DAY = 1;
+    private static final int DEFAULT_MONTH = 1;
+    private static final int DEFAULT_YEAR = 2000;
+    private static final int DECEMBER_MONTH = 12;
+    private static final int CACHE_FIRST_YEAR = 1970;
+    private static final int CACHE_LAST_YEAR = 2069;
+    private static final int CACHE_FIRST_DAY = calculateDate(1, 1, CACHE_FIRST_YEAR);
+    private static final int CACHE_LAST_DAY = calculateDate(31, 12, CACHE_LAST_YEAR);
+    private static final AtomicReferenceArray<Date> CACHE = new AtomicReferenceArray<>(CACHE_LAST_DAY - CACHE_FIRST_DAY + 1);
     /**
      * If the given date is valid - creates a new Date object, otherwise creates the date 1/1/2000
      * @param day - the day in the month (1-31)
@@ -55,8 +46,18 @@ public class Date
             _day = DEFAULT_DAY;
             _month = DEFAULT_MONTH;
             _year = DEFAULT_YEAR;
+            ModelMetrics.fallback(ModelMetrics.Fallback.DATE);
         }
+        _epochDay = calculateDate(_day, _month, _year);
+    }
 
+    // creates an already validated date whose day number is known
+    private Date(int day, int month, int year, int epochDay)
+    {
+        _day = day;
+        _month = month;
+        _year = year;
+        _epochDay = epochDay;
     }
 
     /**
@@ -68,6 +69,73 @@ public class Date
         _day =other._day;
         _month = other._month;
         _year = other._year;
+        _epochDay = other._epochDay;
+    }
+
+    /**
+     * Returns a shared, read-only Date for the given day, month and year.
+     * Dates between 1970 and 2069 are interned, so repeated calls return the same object;
+     * the setters of a shared date leave it unchanged. Illegal dates fall back to 1/1/2000 as in the constructor.
+     * @param day - the day in the month (1-31)
+     * @param month - the month in the year (1-12)
+     * @param year - the year (4 digits)
+     * @return a shared Date representing the given date
+     */
+    public static Date of(int day, int month, int year)
+    {
+        if (!isLegal(day, month, year))
+        {
+            day = DEFAULT_DAY;
+            month = DEFAULT_MONTH;
+            year = DEFAULT_YEAR;
+            ModelMetrics.fallback(ModelMetrics.Fallback.DATE);
+        }
+        int epochDay = calculateDate(day, month, year);
+        int slot = epochDay - CACHE_FIRST_DAY;
+        boolean cacheable = slot >= 0 && slot < CACHE.length();
+        if (cacheable)
+        {
+            // a hit creates nothing
+            Date cached = CACHE.get(slot);
+            if (cached != null)
+                return cached;
+        }
+        Date date = new Date(day, month, year, epochDay);
+        date._shared = true;
+        if (!cacheable || CACHE.compareAndSet(slot, null, date))
+            return date;
+        return CACHE.get(slot);
+    }
+
+    /**
+     * Creates the date of the given day number (the inverse of getEpochDay)
+     * @param epochDay - the day number, counted from the beginning of the Christian counting of years
+     * @return a new Date of the given day number, or 1/1/2000 if it is out of the legal range
+     */
+    public static Date ofEpochDay(int epochDay)
+    {
+        if (epochDay < CalendarTable.FIRST_EPOCH_DAY || epochDay > CalendarTable.LAST_EPOCH_DAY)
+        {
+            ModelMetrics.fallback(ModelMetrics.Fallback.DATE);
+            return new Date(DEFAULT_DAY, DEFAULT_MONTH, DEFAULT_YEAR);
+        }
+        return new Date(CalendarTable.dayOf(epochDay), CalendarTable.monthOf(epochDay), CalendarTable.yearOf(epochDay), epochDay);
+    }
+
+    /**
+     * Returns the day number of the given date without creating a Date.
+     * Illegal dates fall back to 1/1/2000 as in the constructor.
+     * @param day - the day in the month (1-31)
+     * @param month - the month in the year (1-12)
+     * @param year - the year (4 digits)
+     * @return the day number of the date, counted from the beginning of the Christian counting of years
+     */
+    public static int epochDayOf(int day, int month, int year)
+    {
+        if (isLegal(day, month, year))
+            return calculateDate(day, month, year);
+        ModelMetrics.fallback(ModelMetrics.Fallback.DATE);
+        return calculateDate(DEFAULT_DAY, DEFAULT_MONTH, DEFAULT_YEAR);
     }
 
     /**
@@ -98,35 +166,47 @@ public class Date
     }
 
     /**
-     * Set the day (only if date remains valid)
+     * Gets the day number of this date, counted from the beginning of the Christian counting of years
+     * @return the day number
+     */
+    public int getEpochDay()
+    {
+        return _epochDay;
+    }
+
+    /**
+     * Set the day (only if date remains valid and is not shared)
      * @param dayToSet - the day value to be set
      */
     public void setDay(int dayToSet)
     {
-        if(isLegal(dayToSet, _month, _year)) {
+        if(!_shared && isLegal(dayToSet, _month, _year)) {
             _day = dayToSet;
+            _epochDay = calculateDate(_day, _month, _year);
         }
     }
 
     /**
-     * Set the month (only if date remains valid)
+     * Set the month (only if date remains valid and is not shared)
      * @param monthToSet - the month value to be set
      */
     public void setMonth(int monthToSet)
     {
-        if(isLegal(_day, monthToSet, _year)) {
+        if(!_shared && isLegal(_day, monthToSet, _year)) {
             _month = monthToSet;
+            _epochDay = calculateDate(_day, _month, _year);
         }
     }
 
     /**
-     * Sets the year (only if date remains valid)
+     * Sets the year (only if date remains valid and is not shared)
      * @param yearToSet - the year value to be set
      */
     public void setYear(int yearToSet)
     {
-        if((isLegal(_day, _month, yearToSet))) {
+        if(!_shared && isLegal(_day, _month, yearToSet)) {
             _year = yearToSet;
+            _epochDay = calculateDate(_day, _month, _year);
         }
     }
 
@@ -137,7 +217,37 @@ public class Date
      */
     public boolean equals(Date other)
     {
-        return (other._day == _day && other._month == _month && other._year == _year);
+        return other._epochDay == _epochDay;
+    }
+
+    /**
+     * Check if 2 dates are the same, as defined by equals(Date)
+     * @param o - the object to compare this date to
+     * @return true if the object is the same date, otherwise false
+     */
+    public boolean equals(Object o)
+    {
+        return o instanceof Date && equals((Date) o);
+    }
+
+    /**
+     * Returns a hash code of the date (the same hash code as the LocalDay of the date).
+     * Don't change a date while it is a key of a hashed collection.
+     * @return the day number
+     */
+    public int hashCode()
+    {
+        return _epochDay;
+    }
+
+    /**
+     * Compares this date to other date
+     * @param other - the date to compare this date to
+     * @return a negative number if this date is before other date, 0 if they are the same, otherwise a positive number
+     */
+    public int compareTo(Date other)
+    {
+        return Integer.compare(_epochDay, other._epochDay);
     }
 
     /**
@@ -147,7 +257,7 @@ public class Date
      */
     public boolean before (Date other)
     {
-        return (calculateDate(_day, _month, _year) < calculateDate(other._day, other._month, other._year));
+        return _epochDay < other._epochDay;
     }
 
     /**
@@ -157,7 +267,7 @@ public class Date
      */
     public boolean after (Date other)
     {
-        return other.before(this);
+        return other._epochDay < _epochDay;
     }
 
     /**
@@ -167,10 +277,8 @@ public class Date
      */
     public int difference(Date other)
     {
-        if(other.before(this)) {
-            return calculateDate(_day, _month, _year) - calculateDate(other._day, other._month, other._year);
-        }
-        return calculateDate(other._day, other._month, other._year) - calculateDate(_day, _month, _year);
+        ModelMetrics.count(ModelMetrics.Op.DIFFERENCE);
+        return Math.abs(_epochDay - other._epochDay);
     }
 
     /**
@@ -199,49 +307,26 @@ public class Date
      */
     public Date tomorrow()
     {
-        if(isLegal(_day + 1, _month, _year)){
-            return new Date(_day + 1, _month, _year);
-        }
-        else
-        if(isLegal(DEFAULT_DAY, _month + 1, _year)){
-            return new Date(DEFAULT_DAY, _month + 1, _year);
-        }
+        if (_day < CalendarTable.daysInMonth(_month, _year))
+            return new Date(_day + 1, _month, _year, _epochDay + 1);
+        if (_month < DECEMBER_MONTH)
+            return new Date(DEFAULT_DAY, _month + 1, _year, _epochDay + 1);
         return new Date(DEFAULT_DAY, DEFAULT_MONTH, _year + 1);
     }
-    //Checking if the date is legal
-    private boolean isLegal(int day, int month, int year)
-    {
-        if(year < MIN_YEAR || year > MAX_YEAR)
-            return false;
-        if(month < MIN_MONTH || month > MAX_MONTH)
-            return false;
-        if(day < MIN_DAY || day >MAX_DAY)
-            return false;
-        if (month == JANUARY_MONTH || month == MARCH_MONTH || month == MAY_MONTH || month == JULY_MONTH || month == AUGUST_MONTH || month == OCTOBER_MONTH || month == DECEMBER_MONTH)
-            return day <= MAX_DAYS_IN_LONG_MONTH;
-        if(month == APRIL_MONTH || month == JUNE_MONTH || month == SEPTEMBER_MONTH || month == NOVEMBER_MONTH)
-            return day <= MAX_DAYS_IN_SHORT_MONTH;
-        if(month == FEBRUARY_MONTH)
-        {
-            if(isLeap(year))
-                return day <= DAYS_IN_LONG_FEBRUARY;
-            else
-                return day <= DAYS_IN_SHORT_FEBRUARY;
-        }
-        return false;
-    }
-    // Checking if the year is leap year
-    private boolean isLeap(int year)
+    /**
+     * Checks if a date is legal (a real day of the years 1000-9999), as the constructor does
+     * @param day - the day in the month
+     * @param month - the month in the year
+     * @param year - the year
+     * @return true if the date is legal, otherwise false
+     */
+    public static boolean isLegal(int day, int month, int year)
     {
-        return (year % 400 == 0 && year % 100 == 0) || (year % 4 == 0 && year % 100 != 0);
+        return CalendarTable.isLegal(day, month, year);
     }
     // computes the day number since the beginning of the Christian counting of years
-    private int calculateDate ( int day, int month, int year)
+    private static int calculateDate(int day, int month, int year)
     {
-        if (month < 3) {
-            year--;
-            month = month + 12;
-        }
-        return 365 * year + year/4 - year/100 + year/400 + ((month+1) * 306)/10 + (day - 62);
-    } 
+        return CalendarTable.epochDay(day, month, year);
+    }
 }
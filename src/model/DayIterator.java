@@ -0,0 +1,103 @@
+package model;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * This class iterates over the days [from, to) as primitive day numbers, without creating Date objects.
+ * The day, month and year of the last returned day are kept up to date, moving to the next month
+ * or year with the CalendarTable month lengths.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class DayIterator implements PrimitiveIterator.OfInt
+{
+    private static final int MONTHS = 12;
+    private final int _to;
+    private int _next;
+    private int _day;
+    private int _month;
+    private int _year;
+    private int _monthDays;
+
+    /**
+     * Creates an iterator over the days [from, to)
+     * @param from - the day number of the first day
+     * @param to - the day number of the day after the last day
+     */
+    public DayIterator(int from, int to)
+    {
+        _next = from;
+        _to = to;
+    }
+
+    /**
+     * Check if there are more days
+     * @return true if there are more days, otherwise false
+     */
+    public boolean hasNext()
+    {
+        return _next < _to;
+    }
+
+    /**
+     * Moves to the next day
+     * @return the day number of the next day
+     * @throws NoSuchElementException if there are no more days
+     */
+    public int nextInt()
+    {
+        if (_next >= _to)
+            throw new NoSuchElementException();
+        if (_monthDays == 0)
+        {
+            _day = CalendarTable.dayOf(_next);
+            _month = CalendarTable.monthOf(_next);
+            _year = CalendarTable.yearOf(_next);
+            _monthDays = CalendarTable.daysInMonth(_month, _year);
+        }
+        else if (_day < _monthDays)
+            _day++;
+        else
+        {
+            _day = 1;
+            if (_month < MONTHS)
+                _month++;
+            else
+            {
+                _month = 1;
+                _year++;
+            }
+            _monthDays = CalendarTable.daysInMonth(_month, _year);
+        }
+        return _next++;
+    }
+
+    /**
+     * Gets the day in the month of the last returned day
+     * @return the day (1-31)
+     */
+    public int getDay()
+    {
+        return _day;
+    }
+
+    /**
+     * Gets the month of the last returned day
+     * @return the month (1-12)
+     */
+    public int getMonth()
+    {
+        return _month;
+    }
+
+    /**
+     * Gets the year of the last returned day
+     * @return the year
+     */
+    public int getYear()
+    {
+        return _year;
+    }
+}
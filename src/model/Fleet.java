@@ -0,0 +1,265 @@
+package model;
+
+import util.CompressedBitmap;
+import util.IntObjectMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents a Fleet - the cars of the company, keyed by their 7 digits id.
+ * The fleet keeps indexes on the type, gear and brand of its cars, so finding all the cars
+ * of a type, gear or brand takes time proportional to the number of cars found.
+ * The cars are held (not copied): changing a car through its setters updates the fleet indexes.
+ * A car can belong to one fleet at a time.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class Fleet
+{
+    private static final char FIRST_TYPE = 'A';
+    private static final int TYPES = 4;
+    private static final int MANUAL = 0;
+    private static final int AUTO = 1;
+    private final IntObjectMap<Car> _cars = new IntObjectMap<>();
+    // [type][gear] -> cars keyed by id
+    private final IntObjectMap<Car>[][] _byTypeAndGear;
+    private final Map<String, IntObjectMap<Car>> _byBrand = new HashMap<>();
+    // the ids of all the cars and of the cars of every type, copied out by getIds
+    private final CompressedBitmap _ids = new CompressedBitmap();
+    private final CompressedBitmap[] _idsByType = new CompressedBitmap[TYPES];
+
+    /**
+     * Creates a new empty fleet
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Fleet()
+    {
+        _byTypeAndGear = new IntObjectMap[TYPES][2];
+        for (int type = 0; type < TYPES; type++)
+        {
+            _byTypeAndGear[type][MANUAL] = new IntObjectMap<>();
+            _byTypeAndGear[type][AUTO] = new IntObjectMap<>();
+            _idsByType[type] = new CompressedBitmap();
+        }
+    }
+
+    /**
+     * Adds a car to the fleet (only if no car of the fleet has the same id)
+     * @param car - the car to add
+     * @return true if the car was added, otherwise false
+     * @throws IllegalStateException if the car already belongs to another fleet
+     */
+    public boolean add(Car car)
+    {
+        if (car.getFleet() != null && car.getFleet() != this)
+            throw new IllegalStateException("car " + car.getId() + " already belongs to another fleet");
+        if (_cars.containsKey(car.getId()))
+            return false;
+        _cars.put(car.getId(), car);
+        _ids.add(car.getId());
+        index(car, car.getType(), car.getBrand(), car.getIsManual());
+        car.setFleet(this);
+        return true;
+    }
+
+    /**
+     * Removes the car with the given id from the fleet
+     * @param id - the id of the car to remove
+     * @return the removed car, or null if there is no such car
+     */
+    public Car remove(int id)
+    {
+        Car car = _cars.remove(id);
+        if (car != null)
+        {
+            _ids.remove(id);
+            unindex(car, car.getType(), car.getBrand(), car.getIsManual());
+            car.setFleet(null);
+        }
+        return car;
+    }
+
+    /**
+     * Returns the car with the given id
+     * @param id - the id of the car
+     * @return the car, or null if there is no such car
+     */
+    public Car get(int id)
+    {
+        return _cars.get(id);
+    }
+
+    /**
+     * Check if there is a car with the given id in the fleet
+     * @param id - the id of the car
+     * @return true if the car is in the fleet, otherwise false
+     */
+    public boolean contains(int id)
+    {
+        return _cars.containsKey(id);
+    }
+
+    /**
+     * Returns the number of cars in the fleet
+     * @return the number of cars
+     */
+    public int size()
+    {
+        return _cars.size();
+    }
+
+    /**
+     * Returns all the cars of the fleet
+     * @return a new list holding the cars
+     */
+    public List<Car> getCars()
+    {
+        return _cars.values();
+    }
+
+    /**
+     * Returns all the cars of the given type and gear
+     * @param type - the car type ('A','B','C' or 'D')
+     * @param isManual - true for manual cars, false for automatic cars
+     * @return a new list holding the cars (empty for an unknown type)
+     */
+    public List<Car> find(char type, boolean isManual)
+    {
+        if (!isType(type))
+            return new ArrayList<>();
+        return bucket(type, isManual).values();
+    }
+
+    /**
+     * Returns all the cars of the given type
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return a new list holding the cars (empty for an unknown type)
+     */
+    public List<Car> findByType(char type)
+    {
+        List<Car> cars = new ArrayList<>();
+        if (isType(type))
+        {
+            bucket(type, true).forEachValue(cars::add);
+            bucket(type, false).forEachValue(cars::add);
+        }
+        return cars;
+    }
+
+    /**
+     * Returns the ids of all the cars of the fleet, for bitwise queries on an OccupancyIndex
+     * @return a new bitmap of the car ids
+     */
+    public CompressedBitmap getIds()
+    {
+        return _ids.copy();
+    }
+
+    /**
+     * Returns the ids of all the cars of the given type, for bitwise queries on an OccupancyIndex
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return a new bitmap of the car ids (empty for an unknown type)
+     */
+    public CompressedBitmap getIds(char type)
+    {
+        return isType(type) ? _idsByType[type - FIRST_TYPE].copy() : new CompressedBitmap();
+    }
+
+    /**
+     * Returns all the cars of the given gear
+     * @param isManual - true for manual cars, false for automatic cars
+     * @return a new list holding the cars
+     */
+    public List<Car> findByGear(boolean isManual)
+    {
+        List<Car> cars = new ArrayList<>();
+        for (int type = 0; type < TYPES; type++)
+            _byTypeAndGear[type][isManual ? MANUAL : AUTO].forEachValue(cars::add);
+        return cars;
+    }
+
+    /**
+     * Returns all the cars of the given brand
+     * @param brand - the car brand
+     * @return a new list holding the cars
+     */
+    public List<Car> findByBrand(String brand)
+    {
+        IntObjectMap<Car> cars = _byBrand.get(brand);
+        if (cars == null)
+            return new ArrayList<>();
+        return cars.values();
+    }
+
+    /**
+     * Returns the number of cars of the given type and gear
+     * @param type - the car type ('A','B','C' or 'D')
+     * @param isManual - true for manual cars, false for automatic cars
+     * @return the number of cars
+     */
+    public int count(char type, boolean isManual)
+    {
+        if (!isType(type))
+            return 0;
+        return bucket(type, isManual).size();
+    }
+
+    // called by a car of this fleet before its id changes, returns false if the new id is taken
+    boolean moveId(Car car, int newId)
+    {
+        if (newId == car.getId())
+            return true;
+        if (_cars.containsKey(newId))
+            return false;
+        _cars.remove(car.getId());
+        _cars.put(newId, car);
+        _ids.remove(car.getId());
+        _ids.add(newId);
+        _idsByType[car.getType() - FIRST_TYPE].remove(car.getId());
+        _idsByType[car.getType() - FIRST_TYPE].add(newId);
+        bucket(car.getType(), car.getIsManual()).remove(car.getId());
+        bucket(car.getType(), car.getIsManual()).put(newId, car);
+        IntObjectMap<Car> brand = _byBrand.get(car.getBrand());
+        brand.remove(car.getId());
+        brand.put(newId, car);
+        return true;
+    }
+
+    // called by a car of this fleet after its type, brand or gear changed
+    void carChanged(Car car, char oldType, String oldBrand, boolean oldIsManual)
+    {
+        unindex(car, oldType, oldBrand, oldIsManual);
+        index(car, car.getType(), car.getBrand(), car.getIsManual());
+    }
+
+    private void index(Car car, char type, String brand, boolean isManual)
+    {
+        bucket(type, isManual).put(car.getId(), car);
+        _idsByType[type - FIRST_TYPE].add(car.getId());
+        _byBrand.computeIfAbsent(brand, b -> new IntObjectMap<>()).put(car.getId(), car);
+    }
+
+    private void unindex(Car car, char type, String brand, boolean isManual)
+    {
+        bucket(type, isManual).remove(car.getId());
+        _idsByType[type - FIRST_TYPE].remove(car.getId());
+        IntObjectMap<Car> cars = _byBrand.get(brand);
+        cars.remove(car.getId());
+        if (cars.isEmpty())
+            _byBrand.remove(brand);
+    }
+
+    private IntObjectMap<Car> bucket(char type, boolean isManual)
+    {
+        return _byTypeAndGear[type - FIRST_TYPE][isManual ? MANUAL : AUTO];
+    }
+
+    private boolean isType(char type)
+    {
+        return type >= FIRST_TYPE && type < FIRST_TYPE + TYPES;
+    }
+}
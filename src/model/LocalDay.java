@@ -0,0 +1,174 @@
+package model;
+
+import metrics.ModelMetrics;
+
+/**
+ * This class represents an immutable Date value.
+ * It has the same validation rules as Date (an illegal date becomes 1/1/2000),
+ * and can be shared freely without copying.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class LocalDay
+{
+    private final int _day;
+    private final int _month;
+    private final int _year;
+    private final int _epochDay;
+
+    private LocalDay(int day, int month, int year, int epochDay)
+    {
+        _day = day;
+        _month = month;
+        _year = year;
+        _epochDay = epochDay;
+    }
+
+    /**
+     * Creates a LocalDay. If the given date is not valid, creates the date 1/1/2000
+     * @param day - the day in the month (1-31)
+     * @param month - the month in the year (1-12)
+     * @param year - the year (4 digits)
+     * @return a new LocalDay
+     */
+    public static LocalDay of(int day, int month, int year)
+    {
+        return from(new Date(day, month, year));
+    }
+
+    /**
+     * Creates the LocalDay of a date
+     * @param date - the date
+     * @return a new LocalDay holding the fields of the date
+     */
+    public static LocalDay from(Date date)
+    {
+        return new LocalDay(date.getDay(), date.getMonth(), date.getYear(), date.getEpochDay());
+    }
+
+    /**
+     * Creates the LocalDay of a day number
+     * @param epochDay - the day number, counted from the beginning of the Christian counting of years
+     * @return a new LocalDay of the given day number, or 1/1/2000 if it is out of the legal range
+     */
+    public static LocalDay ofEpochDay(int epochDay)
+    {
+        if (epochDay < CalendarTable.FIRST_EPOCH_DAY || epochDay > CalendarTable.LAST_EPOCH_DAY)
+            return from(Date.ofEpochDay(epochDay)); // the fallback day, counted as Date counts it
+        return new LocalDay(CalendarTable.dayOf(epochDay), CalendarTable.monthOf(epochDay), CalendarTable.yearOf(epochDay), epochDay);
+    }
+
+    /**
+     * Creates a mutable Date holding this day
+     * @return a new Date
+     */
+    public Date toDate()
+    {
+        return new Date(_day, _month, _year);
+    }
+
+    /**
+     * Gets the day
+     * @return the day
+     */
+    public int getDay()
+    {
+        return _day;
+    }
+
+    /**
+     * Gets the month
+     * @return the month
+     */
+    public int getMonth()
+    {
+        return _month;
+    }
+
+    /**
+     * Gets the year
+     * @return the year
+     */
+    public int getYear()
+    {
+        return _year;
+    }
+
+    /**
+     * Gets the day number of this date, counted from the beginning of the Christian counting of years
+     * @return the day number
+     */
+    public int getEpochDay()
+    {
+        return _epochDay;
+    }
+
+    /**
+     * Check if this day is before other day
+     * @param other - day to compare this day to
+     * @return true if this day is before other day, otherwise false
+     */
+    public boolean before(LocalDay other)
+    {
+        return _epochDay < other._epochDay;
+    }
+
+    /**
+     * Check if this day is after other day
+     * @param other - day to compare this day to
+     * @return true if this day is after other day, otherwise false
+     */
+    public boolean after(LocalDay other)
+    {
+        return other._epochDay < _epochDay;
+    }
+
+    /**
+     * Calculates the difference in days between two days
+     * @param other - the day to calculate the difference between
+     * @return the number of days between the days (non-negative value)
+     */
+    public int difference(LocalDay other)
+    {
+        ModelMetrics.count(ModelMetrics.Op.DIFFERENCE);
+        return Math.abs(_epochDay - other._epochDay);
+    }
+
+    /**
+     * Calculate the day of tomorrow
+     * @return the day of tomorrow (1/1/2000 after 31/12/9999, as Date.tomorrow)
+     */
+    public LocalDay tomorrow()
+    {
+        return ofEpochDay(_epochDay + 1);
+    }
+
+    /**
+     * Check if 2 days are the same
+     * @param o - the object to compare this day to
+     * @return true if the days are the same, otherwise false
+     */
+    public boolean equals(Object o)
+    {
+        return o instanceof LocalDay && ((LocalDay) o)._epochDay == _epochDay;
+    }
+
+    /**
+     * Returns a hash code of the day
+     * @return the day number
+     */
+    public int hashCode()
+    {
+        return _epochDay;
+    }
+
+    /**
+     * Returns a String that represents this day
+     * @return String that represents this day in the following format: day (2 digits) / month(2 digits) / year (4 digits) for example: 02/03/1998
+     */
+    public String toString()
+    {
+        return (_day < 10 ? "0" : "") + _day + "/" + (_month < 10 ? "0" : "") + _month + "/" + _year;
+    }
+}
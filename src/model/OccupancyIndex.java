@@ -0,0 +1,425 @@
+package model;
+
+import util.CompressedBitmap;
+import util.IntObjectMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * This class represents a daily occupancy index of rents: for every day, the compressed bitmap of the cars
+ * rented on that day and the number of them in each car class. A rent occupies its car from the pickup day
+ * up to (not including) the return day, as in AvailabilityIndex.
+ * The bitmaps do not hold the 7 digit car ids: every car with rents in the index gets a dense slot
+ * (0, 1, 2, ... reused after the last rent of a car is removed), so a day of thousands of rented cars is a few
+ * bitmap words per 64 cars whatever their ids are. Sets of car ids passed in (for example Fleet.getIds) are
+ * translated to slots once per query, and the cars returned are translated back to ids.
+ * The index is kept up to date rent by rent: adding or removing a rent touches only its days, and update
+ * touches only the days a changed rent gained or lost. Daily counts of a class are then read from the class
+ * counters, and counts of any set of cars and the cars free on every day of a range are bitwise operations
+ * on the day bitmaps. A car id is taken to be of one type, as in a Fleet.
+ * A rent that is changed after it was added must be re-indexed with update; after Rent.overlap merges
+ * two rents, update the rent whose dates moved and remove the other one.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class OccupancyIndex
+{
+    private static final int CLASSES = 4;
+    private static final int NONE = -1;
+    private final IntObjectMap<Day> _days = new IntObjectMap<>();
+    private final Map<Rent, Entry> _entries = new IdentityHashMap<>();
+    // car id -> its slot
+    private final IntObjectMap<Slot> _slots = new IntObjectMap<>();
+    // slot -> car id
+    private int[] _ids = new int[16];
+    private int _nextSlot;
+    private int[] _freeSlots = new int[16];
+    private int _freeCount;
+    // (day, slot) pairs occupied by more than one rent, with the number of extra rents
+    private final Map<Long, Integer> _extra = new HashMap<>();
+
+    // the slots of the cars rented on a day, and how many of them are of each class
+    private static class Day
+    {
+        private final CompressedBitmap _cars = new CompressedBitmap();
+        private final int[] _classCounts = new int[CLASSES];
+    }
+
+    // the slot of a car, its class and the number of its rents in the index
+    private static class Slot
+    {
+        private final int _slot;
+        private final int _carId;
+        private final int _classIndex;
+        private int _rents;
+
+        private Slot(int slot, int carId, int classIndex)
+        {
+            _slot = slot;
+            _carId = carId;
+            _classIndex = classIndex;
+        }
+    }
+
+    // the car slot and the range a rent was indexed with
+    private static class Entry
+    {
+        private final Slot _slot;
+        private final int _start;
+        private final int _end;
+
+        private Entry(Slot slot, int start, int end)
+        {
+            _slot = slot;
+            _start = start;
+            _end = end;
+        }
+    }
+
+    /**
+     * Adds a rent to the index (only if it is not already in the index)
+     * @param rent - the rent to add
+     * @return true if the rent was added, otherwise false
+     */
+    public boolean add(Rent rent)
+    {
+        if (_entries.containsKey(rent))
+            return false;
+        Entry entry = new Entry(acquire(rent), rent.getPickEpochDay(), rent.getReturnEpochDay());
+        _entries.put(rent, entry);
+        occupy(entry._slot, entry._start, entry._end);
+        return true;
+    }
+
+    /**
+     * Removes a rent from the index
+     * @param rent - the rent to remove
+     * @return true if the rent was removed, false if it was not in the index
+     */
+    public boolean remove(Rent rent)
+    {
+        Entry entry = _entries.remove(rent);
+        if (entry == null)
+            return false;
+        release(entry._slot, entry._start, entry._end);
+        unslot(entry._slot);
+        return true;
+    }
+
+    /**
+     * Re-indexes a rent after its car or dates were changed (or adds it if it is not in the index).
+     * When the car is the same only the days gained or lost are touched, so extending a rent costs
+     * the number of days added.
+     * @param rent - the changed rent
+     */
+    public void update(Rent rent)
+    {
+        Entry old = _entries.get(rent);
+        if (old == null)
+        {
+            add(rent);
+            return;
+        }
+        if (old._slot._carId != rent.getCarId())
+        {
+            release(old._slot, old._start, old._end);
+            unslot(old._slot);
+            Entry entry = new Entry(acquire(rent), rent.getPickEpochDay(), rent.getReturnEpochDay());
+            _entries.put(rent, entry);
+            occupy(entry._slot, entry._start, entry._end);
+            return;
+        }
+        Entry entry = new Entry(old._slot, rent.getPickEpochDay(), rent.getReturnEpochDay());
+        _entries.put(rent, entry);
+        // release the old days outside the new range, then occupy the new days outside the old range
+        release(old._slot, old._start, Math.min(old._end, entry._start));
+        release(old._slot, Math.max(old._start, entry._end), old._end);
+        occupy(entry._slot, entry._start, Math.min(entry._end, old._start));
+        occupy(entry._slot, Math.max(entry._start, old._end), entry._end);
+    }
+
+    /**
+     * Check if the rent is in the index
+     * @param rent - the rent to look for
+     * @return true if the rent is in the index, otherwise false
+     */
+    public boolean contains(Rent rent)
+    {
+        return _entries.containsKey(rent);
+    }
+
+    /**
+     * Returns the number of rents in the index
+     * @return the number of rents
+     */
+    public int size()
+    {
+        return _entries.size();
+    }
+
+    /**
+     * Returns the cars rented on a day
+     * @param epochDay - the day number
+     * @return a new bitmap of the ids of the cars rented on the day
+     */
+    public CompressedBitmap getCars(int epochDay)
+    {
+        Day day = _days.get(epochDay);
+        return day == null ? new CompressedBitmap() : idsOf(day._cars);
+    }
+
+    /**
+     * Returns the number of cars rented on a day
+     * @param epochDay - the day number
+     * @return the number of cars
+     */
+    public int count(int epochDay)
+    {
+        Day day = _days.get(epochDay);
+        return day == null ? 0 : day._cars.cardinality();
+    }
+
+    /**
+     * Returns the number of cars of a class rented on a day
+     * @param epochDay - the day number
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return the number of cars of the class rented on the day (0 for an unknown type)
+     */
+    public int count(int epochDay, char type)
+    {
+        int classIndex = PricingEngine.classIndex(type);
+        Day day = _days.get(epochDay);
+        return day == null || classIndex < 0 ? 0 : day._classCounts[classIndex];
+    }
+
+    /**
+     * Returns the number of cars of a set rented on a day
+     * @param epochDay - the day number
+     * @param cars - the ids of the cars to count (for example Fleet.getIds of a brand)
+     * @return the number of cars of the set rented on the day
+     */
+    public int count(int epochDay, CompressedBitmap cars)
+    {
+        Day day = _days.get(epochDay);
+        return day == null ? 0 : day._cars.andCardinality(slotsOf(cars));
+    }
+
+    /**
+     * Returns the number of cars rented on every day from one day up to (not including) another day
+     * @param from - the day number of the first day
+     * @param to - the day number after the last day
+     * @return the number of cars rented on each day, indexed from the first day
+     */
+    public int[] countPerDay(int from, int to)
+    {
+        int[] counts = new int[Math.max(to - from, 0)];
+        for (int day = from; day < to; day++)
+            counts[day - from] = count(day);
+        return counts;
+    }
+
+    /**
+     * Returns the number of cars of a class rented on every day from one date up to (not including) another date
+     * @param from - the first date
+     * @param to - the date after the last date
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return the number of cars of the class rented on each day, indexed from the first day
+     */
+    public int[] countPerDay(Date from, Date to, char type)
+    {
+        return countPerDay(from.getEpochDay(), to.getEpochDay(), type);
+    }
+
+    /**
+     * Returns the number of cars of a class rented on every day from one day up to (not including) another day
+     * @param from - the day number of the first day
+     * @param to - the day number after the last day
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return the number of cars of the class rented on each day, indexed from the first day
+     */
+    public int[] countPerDay(int from, int to, char type)
+    {
+        int[] counts = new int[Math.max(to - from, 0)];
+        for (int day = from; day < to; day++)
+            counts[day - from] = count(day, type);
+        return counts;
+    }
+
+    /**
+     * Returns the number of cars of a set rented on every day from one date up to (not including) another date
+     * @param from - the first date
+     * @param to - the date after the last date
+     * @param cars - the ids of the cars to count (for example Fleet.getIds of a brand)
+     * @return the number of cars of the set rented on each day, indexed from the first day
+     */
+    public int[] countPerDay(Date from, Date to, CompressedBitmap cars)
+    {
+        return countPerDay(from.getEpochDay(), to.getEpochDay(), cars);
+    }
+
+    /**
+     * Returns the number of cars of a set rented on every day from one day up to (not including) another day
+     * @param from - the day number of the first day
+     * @param to - the day number after the last day
+     * @param cars - the ids of the cars to count (for example Fleet.getIds of a brand)
+     * @return the number of cars of the set rented on each day, indexed from the first day
+     */
+    public int[] countPerDay(int from, int to, CompressedBitmap cars)
+    {
+        int[] counts = new int[Math.max(to - from, 0)];
+        CompressedBitmap slots = slotsOf(cars);
+        for (int day = from; day < to; day++)
+        {
+            Day rented = _days.get(day);
+            counts[day - from] = rented == null ? 0 : rented._cars.andCardinality(slots);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the cars of a set that are free on every day from one date up to (not including) another date
+     * @param cars - the ids of the candidate cars (for example Fleet.getIds)
+     * @param from - the first date
+     * @param to - the date after the last date
+     * @return a new bitmap of the ids of the candidate cars not rented on any day of the range
+     */
+    public CompressedBitmap freeCars(CompressedBitmap cars, Date from, Date to)
+    {
+        return freeCars(cars, from.getEpochDay(), to.getEpochDay());
+    }
+
+    /**
+     * Returns the cars of a set that are free on every day from one day up to (not including) another day
+     * @param cars - the ids of the candidate cars (for example Fleet.getIds)
+     * @param from - the day number of the first day
+     * @param to - the day number after the last day
+     * @return a new bitmap of the ids of the candidate cars not rented on any day of the range
+     */
+    public CompressedBitmap freeCars(CompressedBitmap cars, int from, int to)
+    {
+        int[] ids = cars.toArray();
+        int[] slots = new int[ids.length];
+        long[] words = new long[(_nextSlot + 63) >>> 6];
+        for (int i = 0; i < ids.length; i++)
+        {
+            Slot slot = _slots.get(ids[i]);
+            slots[i] = slot == null ? NONE : slot._slot;
+            if (slot != null)
+                words[slot._slot >>> 6] |= 1L << slot._slot;
+        }
+        // the slots are dense, so the candidates are a word per 64 slots and a rented car clears its bit
+        for (int day = from; day < to; day++)
+        {
+            Day rented = _days.get(day);
+            if (rented != null)
+                rented._cars.forEach(slot -> words[slot >>> 6] &= ~(1L << slot));
+        }
+        // the ids come in order, so the result is built by appending; cars without a slot have no rents
+        CompressedBitmap free = new CompressedBitmap();
+        for (int i = 0; i < ids.length; i++)
+            if (slots[i] == NONE || (words[slots[i] >>> 6] & 1L << slots[i]) != 0)
+                free.add(ids[i]);
+        return free;
+    }
+
+    // the slot of the car of a rent, given a slot if the car has none
+    private Slot acquire(Rent rent)
+    {
+        Slot slot = _slots.get(rent.getCarId());
+        if (slot == null)
+        {
+            int number = _freeCount > 0 ? _freeSlots[--_freeCount] : _nextSlot++;
+            if (number == _ids.length)
+                _ids = Arrays.copyOf(_ids, number * 2);
+            _ids[number] = rent.getCarId();
+            slot = new Slot(number, rent.getCarId(), PricingEngine.classIndex(rent.getCarType()));
+            _slots.put(slot._carId, slot);
+        }
+        slot._rents++;
+        return slot;
+    }
+
+    // drops one rent of a slot, freeing the slot after the last rent of its car
+    private void unslot(Slot slot)
+    {
+        if (--slot._rents > 0)
+            return;
+        _slots.remove(slot._carId);
+        if (_freeCount == _freeSlots.length)
+            _freeSlots = Arrays.copyOf(_freeSlots, _freeCount * 2);
+        _freeSlots[_freeCount++] = slot._slot;
+    }
+
+    // the slots of the given car ids (ids without a slot have no rents and are left out); the slots are not in
+    // the order of the ids, so they are set in a word per 64 slots and read back in order
+    private CompressedBitmap slotsOf(CompressedBitmap ids)
+    {
+        long[] words = new long[(_nextSlot + 63) >>> 6];
+        ids.forEach(id -> {
+            Slot slot = _slots.get(id);
+            if (slot != null)
+                words[slot._slot >>> 6] |= 1L << slot._slot;
+        });
+        return CompressedBitmap.ofWords(words);
+    }
+
+    // the car ids of the given slots
+    private CompressedBitmap idsOf(CompressedBitmap slots)
+    {
+        int[] ids = slots.toArray();
+        for (int i = 0; i < ids.length; i++)
+            ids[i] = _ids[ids[i]];
+        return CompressedBitmap.of(ids);
+    }
+
+    // marks the car as rented on the days [start, end)
+    private void occupy(Slot slot, int start, int end)
+    {
+        for (int epochDay = start; epochDay < end; epochDay++)
+        {
+            Day day = _days.get(epochDay);
+            if (day == null)
+            {
+                day = new Day();
+                _days.put(epochDay, day);
+            }
+            if (!day._cars.add(slot._slot))
+                _extra.merge(key(epochDay, slot._slot), 1, Integer::sum);
+            else if (slot._classIndex >= 0)
+                day._classCounts[slot._classIndex]++;
+        }
+    }
+
+    // drops one rent of the car from the days [start, end)
+    private void release(Slot slot, int start, int end)
+    {
+        for (int epochDay = start; epochDay < end; epochDay++)
+        {
+            Long key = key(epochDay, slot._slot);
+            Integer extra = _extra.get(key);
+            if (extra != null)
+            {
+                if (extra == 1)
+                    _extra.remove(key);
+                else
+                    _extra.put(key, extra - 1);
+                continue;
+            }
+            Day day = _days.get(epochDay);
+            day._cars.remove(slot._slot);
+            if (slot._classIndex >= 0)
+                day._classCounts[slot._classIndex]--;
+            if (day._cars.isEmpty())
+                _days.remove(epochDay);
+        }
+    }
+
+    private static long key(int day, int slot)
+    {
+        return (long) day << 32 | (slot & 0xFFFFFFFFL);
+    }
+}
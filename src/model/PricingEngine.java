@@ -0,0 +1,145 @@
+package model;
+
+/**
+ * This class represents a table driven pricing engine.
+ * Each car class ('A','B','C' or 'D') has a price for a day and a price for a full week,
+ * and a rent is priced as: days / 7 * weekPrice + days % 7 * dayPrice.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class PricingEngine
+{
+    private static final PricingEngine DEFAULT = new PricingEngine();
+    private static final char FIRST_CLASS = 'A';
+    private static final char LAST_CLASS = 'D';
+    private static final int DAYS_IN_WEEK = 7;
+    private final int[] _dayPrices;
+    private final int[] _weekPrices;
+
+    /**
+     * Creates a new PricingEngine with the standard prices:
+     * A - 100/630, B - 150/945, C - 180/1134, D - 240/1512 (day/week)
+     */
+    public PricingEngine()
+    {
+        this(new int[] {100, 150, 180, 240}, new int[] {630, 945, 1134, 1512});
+    }
+
+    /**
+     * Creates a new PricingEngine with the given prices
+     * @param dayPrices - the price of one day, indexed by class (0 for 'A', 1 for 'B', ...)
+     * @param weekPrices - the price of one week, indexed by class (0 for 'A', 1 for 'B', ...)
+     * @throws IllegalArgumentException if the tables are not of the same length
+     */
+    public PricingEngine(int[] dayPrices, int[] weekPrices)
+    {
+        if (dayPrices.length != weekPrices.length)
+            throw new IllegalArgumentException("day and week price tables must have the same length");
+        _dayPrices = dayPrices.clone();
+        _weekPrices = weekPrices.clone();
+    }
+
+    /**
+     * Returns the engine holding the standard prices, used by Rent
+     * @return the default pricing engine
+     */
+    public static PricingEngine getDefault()
+    {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the class index of the given car type
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return the class index (0 for 'A', 1 for 'B', ...), or -1 if the type is not a car class
+     */
+    public static int classIndex(char type)
+    {
+        if (type < FIRST_CLASS || type > LAST_CLASS)
+            return -1;
+        return type - FIRST_CLASS;
+    }
+
+    /**
+     * Returns the number of car classes priced by this engine
+     * @return the number of car classes
+     */
+    public int getClassCount()
+    {
+        return _dayPrices.length;
+    }
+
+    /**
+     * Returns the price of one day for the given class
+     * @param classIndex - the class index (0 for 'A', 1 for 'B', ...)
+     * @return the price of one day, or 0 for an unknown class
+     */
+    public int getDayPrice(int classIndex)
+    {
+        if (classIndex < 0 || classIndex >= _dayPrices.length)
+            return 0;
+        return _dayPrices[classIndex];
+    }
+
+    /**
+     * Returns the price of one week for the given class
+     * @param classIndex - the class index (0 for 'A', 1 for 'B', ...)
+     * @return the price of one week, or 0 for an unknown class
+     */
+    public int getWeekPrice(int classIndex)
+    {
+        if (classIndex < 0 || classIndex >= _weekPrices.length)
+            return 0;
+        return _weekPrices[classIndex];
+    }
+
+    /**
+     * Returns the price of renting a car of the given class for the given number of days
+     * @param classIndex - the class index (0 for 'A', 1 for 'B', ...)
+     * @param days - the number of rent days
+     * @return the rent total price, or 0 for an unknown class
+     */
+    public int price(int classIndex, int days)
+    {
+        if (classIndex < 0 || classIndex >= _dayPrices.length)
+            return 0;
+        return days / DAYS_IN_WEEK * _weekPrices[classIndex] + days % DAYS_IN_WEEK * _dayPrices[classIndex];
+    }
+
+    /**
+     * Returns the price of renting a car of the given type for the given number of days
+     * @param type - the car type ('A','B','C' or 'D')
+     * @param days - the number of rent days
+     * @return the rent total price, or 0 for an unknown type
+     */
+    public int price(char type, int days)
+    {
+        return price(classIndex(type), days);
+    }
+
+    /**
+     * Returns the total price of the given rent
+     * @param rent - the rent to price
+     * @return the rent total price
+     */
+    public int price(Rent rent)
+    {
+        return price(classIndex(rent.getCarType()), rent.howManyDays());
+    }
+
+    /**
+     * Prices many (class, days) pairs at once
+     * @param classes - the class index of every row (0 for 'A', 1 for 'B', ...)
+     * @param days - the number of rent days of every row
+     * @param out - receives the price of every row
+     * @throws IllegalArgumentException if the arrays are not of the same length
+     */
+    public void priceAll(int[] classes, int[] days, long[] out)
+    {
+        if (classes.length != days.length || classes.length != out.length)
+            throw new IllegalArgumentException("classes, days and out must have the same length");
+        for (int i = 0; i < classes.length; i++)
+            out[i] = price(classes[i], days[i]);
+    }
+}
@@ -1,5 +1,9 @@
 package model;
 
+import metrics.ModelMetrics;
+
+import java.util.Objects;
+
 /**
  * This class represents a Rent object
  *
@@ -8,18 +12,26 @@ package model;
  */
 public class Rent {
     private String _name;
-    private Car _car;
-    private Date _pickDate;
-    private Date _returnDate;
-    private final int PRICE_A_CLASS = 100;
-    private final int PRICE_B_CLASS = 150;
-    private final int PRICE_C_CLASS = 180;
-    private final int PRICE_D_CLASS = 240;
-    private final int DAYS_IN_WEEK = 7;
-    private final int PRICE_A_CLASS_FOR_WEEK = 630;
-    private final int PRICE_B_CLASS_FOR_WEEK = 945;
-    private final int PRICE_C_CLASS_FOR_WEEK = 1134;
-    private final int PRICE_D_CLASS_FOR_WEEK = 1512;
+    private CarValue _car;
+    private LocalDay _pickDate;
+    private LocalDay _returnDate;
+    // the price with the car and dates it was computed from; it is used only while they are still the rent's,
+    // so a price computed by a racing reader from an old car or old dates is computed again, never kept
+    private volatile Price _price;
+
+    private static final class Price {
+        private final CarValue _car;
+        private final LocalDay _pickDate;
+        private final LocalDay _returnDate;
+        private final int _value;
+
+        private Price(CarValue car, LocalDay pickDate, LocalDay returnDate) {
+            _car = car;
+            _pickDate = pickDate;
+            _returnDate = returnDate;
+            _value = PricingEngine.getDefault().price(car.getType(), pickDate.difference(returnDate));
+        }
+    }
 
     /**
      * Creates a new Rent object
@@ -31,13 +43,40 @@ public class Rent {
      * @param ret  - the return date
      */
     public Rent(String name, Car car, Date pick, Date ret) {
+        this(name, CarValue.from(car), LocalDay.from(pick), LocalDay.from(ret));
+    }
+
+    /**
+     * Creates a new Rent object from immutable values
+     * The return date must be at least one day after the pickup date, otherwise set it to one day after the pickup date.
+     *
+     * @param name - the client's name
+     * @param car  - the rented car
+     * @param pick - the pickup date
+     * @param ret  - the return date
+     */
+    public Rent(String name, CarValue car, LocalDay pick, LocalDay ret) {
         _name = name;
-        _car = new Car(car);
-        _pickDate = new Date(pick);
+        _car = car;
+        _pickDate = pick;
         if (ret.after(pick)) {
-            _returnDate = new Date(ret);
+            _returnDate = ret;
         } else
             _returnDate = pick.tomorrow();
+        ModelMetrics.count(ModelMetrics.Op.RENT_CREATE);
+    }
+
+    /**
+     * Creates a new Rent object holding the values of a RentRecord
+     *
+     * @param record - the rent value
+     */
+    public Rent(RentRecord record) {
+        _name = record.getName();
+        _car = record.getCar();
+        _pickDate = record.getPickDate();
+        _returnDate = record.getReturnDate();
+        ModelMetrics.count(ModelMetrics.Op.RENT_CREATE);
     }
 
     /**
@@ -47,9 +86,11 @@ public class Rent {
      */
     public Rent(Rent other) {
         _name = other._name;
-        _car = new Car(other._car);
-        _pickDate = new Date(other._pickDate);
-        _returnDate = new Date(other._returnDate);
+        _car = other._car;
+        _pickDate = other._pickDate;
+        _returnDate = other._returnDate;
+        _price = other._price;
+        ModelMetrics.count(ModelMetrics.Op.RENT_CREATE);
     }
 
     /**
@@ -58,7 +99,16 @@ public class Rent {
      * @return the car;
      */
     public Car getCar() {
-        return new Car(_car);
+        return _car.toCar();
+    }
+
+    /**
+     * Gets the car as an immutable value (without copying)
+     *
+     * @return the car;
+     */
+    public CarValue getCarValue() {
+        return _car;
     }
 
     /**
@@ -76,7 +126,16 @@ public class Rent {
      * @return the pickup date;
      */
     public Date getPickDate() {
-        return new Date(_pickDate);
+        return _pickDate.toDate();
+    }
+
+    /**
+     * Gets the pickup date as an immutable value (without copying)
+     *
+     * @return the pickup date;
+     */
+    public LocalDay getPickDay() {
+        return _pickDate;
     }
 
     /**
@@ -85,7 +144,61 @@ public class Rent {
      * @return the return date;
      */
     public Date getReturnDate() {
-        return new Date(_returnDate);
+        return _returnDate.toDate();
+    }
+
+    /**
+     * Gets the return date as an immutable value (without copying)
+     *
+     * @return the return date;
+     */
+    public LocalDay getReturnDay() {
+        return _returnDate;
+    }
+
+    /**
+     * Returns an immutable value of this rent
+     *
+     * @return a RentRecord holding the name, car and dates of this rent
+     */
+    public RentRecord toRecord() {
+        return new RentRecord(_name, _car, _pickDate, _returnDate);
+    }
+
+    /**
+     * Gets the id of the rented car (without copying the car)
+     *
+     * @return the id of the rented car
+     */
+    public int getCarId() {
+        return _car.getId();
+    }
+
+    /**
+     * Gets the type of the rented car (without copying the car)
+     *
+     * @return the type of the rented car
+     */
+    public char getCarType() {
+        return _car.getType();
+    }
+
+    /**
+     * Gets the day number of the pickup date (without copying the date)
+     *
+     * @return the day number of the pickup date
+     */
+    public int getPickEpochDay() {
+        return _pickDate.getEpochDay();
+    }
+
+    /**
+     * Gets the day number of the return date (without copying the date)
+     *
+     * @return the day number of the return date
+     */
+    public int getReturnEpochDay() {
+        return _returnDate.getEpochDay();
     }
 
     /**
@@ -94,7 +207,7 @@ public class Rent {
      * @param car - the rented car (You can assume that car is not null)
      */
     public void setCar(Car car) {
-        _car = new Car(car);
+        _car = CarValue.from(car);
     }
 
     /**
@@ -113,8 +226,8 @@ public class Rent {
      * @param pickDate - the pickup date (You can assume that pick up date is not null)
      */
     public void setPickDate(Date pickDate) {
-        if (pickDate.before(_returnDate)) {
-            _pickDate = new Date(_pickDate);
+        if (pickDate.getEpochDay() < _returnDate.getEpochDay()) {
+            _pickDate = LocalDay.from(pickDate);
         }
     }
 
@@ -125,8 +238,8 @@ public class Rent {
      * @param returnDate - the return date (You can assume that return date is not null)
      */
     public void setReturnDate(Date returnDate) {
-        if (returnDate.after(_pickDate)) {
-            _returnDate = new Date(returnDate);
+        if (returnDate.getEpochDay() > _pickDate.getEpochDay()) {
+            _returnDate = LocalDay.from(returnDate);
         }
     }
 
@@ -140,6 +253,36 @@ public class Rent {
         return _name.equals(other._name) && _pickDate.equals(other._pickDate) && _returnDate.equals(other._returnDate) && _car.equals(other._car);
     }
 
+    /**
+     * Check if 2 rents are the same, as defined by equals(Rent)
+     *
+     * @param o - the object to compare this rent to
+     * @return true if the object is the same rent, otherwise false
+     */
+    public boolean equals(Object o) {
+        return o instanceof Rent && equals((Rent) o);
+    }
+
+    /**
+     * Returns a hash code of the name, car and dates (the same hash code as the RentRecord of the rent)
+     * Don't change a rent while it is a key of a hashed collection.
+     *
+     * @return the hash code
+     */
+    public int hashCode() {
+        return Objects.hash(_name, _car, _pickDate, _returnDate);
+    }
+
+    /**
+     * Returns an iterator over the rent days, from the pickup day up to (not including) the return day
+     * The days are primitive day numbers; no Date objects are created.
+     *
+     * @return a new iterator over the rent days
+     */
+    public DayIterator days() {
+        return new DayIterator(_pickDate.getEpochDay(), _returnDate.getEpochDay());
+    }
+
     /**
      * Returns the number of rent days
      *
@@ -150,36 +293,22 @@ public class Rent {
     }
 
     /**
-     * Returns the rent total price
+     * Returns the rent total price (computed once, and again after the car or the dates change)
      *
      * @return the rent total price;
      */
     public int getPrice() {
-        if (_car.getType() == 'A') {
-            if (howManyDays() < DAYS_IN_WEEK) {
-                return howManyDays() * PRICE_A_CLASS;
-            }
-            return (howManyDays() / DAYS_IN_WEEK * PRICE_A_CLASS_FOR_WEEK) + (howManyDays() % DAYS_IN_WEEK * PRICE_A_CLASS);
+        long start = ModelMetrics.start();
+        CarValue car = _car;
+        LocalDay pick = _pickDate;
+        LocalDay ret = _returnDate;
+        Price price = _price;
+        if (price == null || price._car != car || price._pickDate != pick || price._returnDate != ret) {
+            price = new Price(car, pick, ret);
+            _price = price;
         }
-        if (_car.getType() == 'B') {
-            if (howManyDays() < DAYS_IN_WEEK) {
-                return howManyDays() * PRICE_B_CLASS;
-            }
-            return (howManyDays() / DAYS_IN_WEEK * PRICE_B_CLASS_FOR_WEEK) + (howManyDays() % DAYS_IN_WEEK * PRICE_B_CLASS);
-        }
-        if (_car.getType() == 'C') {
-            if (howManyDays() < DAYS_IN_WEEK) {
-                return howManyDays() * PRICE_C_CLASS;
-            }
-            return (howManyDays() / DAYS_IN_WEEK * PRICE_C_CLASS_FOR_WEEK) + (howManyDays() % DAYS_IN_WEEK * PRICE_C_CLASS);
-        }
-        if (_car.getType() == 'D') {
-            if (howManyDays() < DAYS_IN_WEEK) {
-                return howManyDays() * PRICE_D_CLASS;
-            }
-            return (howManyDays() / DAYS_IN_WEEK * PRICE_D_CLASS_FOR_WEEK) + (howManyDays() % DAYS_IN_WEEK * PRICE_D_CLASS);
-        }
-        return 0;
+        ModelMetrics.end(ModelMetrics.Op.PRICE, start);
+        return price._value;
     }
 
     /**
@@ -190,14 +319,17 @@ public class Rent {
      * @return the upgrade cost
      */
     public int upgrade(Car newCar) {
-
-        if (newCar.better(_car)) {
+        long start = ModelMetrics.start();
+        int cost = 0;
+        CarValue candidate = CarValue.from(newCar);
+        if (candidate.better(_car)) {
             int price = this.getPrice();
-            _car = new Car(newCar);
-            int newPrice = this.getPrice() - price;
-            return newPrice;
+            _car = candidate;
+            cost = this.getPrice() - price;
+            ModelMetrics.upgraded(cost);
         }
-        return 0;
+        ModelMetrics.end(ModelMetrics.Op.UPGRADE, start);
+        return cost;
     }
 
     /**
@@ -208,7 +340,16 @@ public class Rent {
      * @return the unified rent or null
      */
     public Rent overlap(Rent other) {
+        long start = ModelMetrics.start();
+        Rent merged = merge(other);
+        if (merged != null)
+            ModelMetrics.merged();
+        ModelMetrics.end(ModelMetrics.Op.OVERLAP, start);
+        return merged;
+    }
 
+    // the overlap rules; may move the dates of this rent
+    private Rent merge(Rent other) {
         if (!_name.equals(other._name) || !_car.equals(other._car)) {
             return null;
         }
@@ -252,7 +393,7 @@ public class Rent {
      * Name:Rama From:30/10/2022 To:12/11/2022 Type:B Days:13 Price:1845
      */
     public String toString() {
-        return "Name:" + _name + " From:" + new Date(_pickDate) + " To:" + new Date(_returnDate) + " Type:" + _car.getType() + " Days:" + howManyDays() + " Price:" + getPrice();
+        return "Name:" + _name + " From:" + _pickDate + " To:" + _returnDate + " Type:" + _car.getType() + " Days:" + howManyDays() + " Price:" + getPrice();
     }
 
 }
@@ -0,0 +1,223 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * This class represents a growable batch of rents held as primitive columns: the car class index,
+ * the pickup day number and the return day number of every rent. It prices every rent of the batch at once
+ * under any PricingEngine, with the rule of Rent.getPrice (days / 7 * weekPrice + days % 7 * dayPrice).
+ * When the runtime has the jdk.incubator.vector module (run with --add-modules jdk.incubator.vector)
+ * the pricing runs on SIMD lanes; otherwise, or with -Dmodel.vector=false, it runs as a scalar loop.
+ * Both give the same prices as Rent.getPrice, int overflow included.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentBatch
+{
+    private static final boolean VECTORIZED = !"false".equals(System.getProperty("model.vector"))
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int CHUNK = 4096;
+    private int[] _classes;
+    private int[] _pickDays;
+    private int[] _returnDays;
+    private int _size;
+
+    /**
+     * Creates a new empty RentBatch
+     */
+    public RentBatch()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty RentBatch
+     * @param capacity - the number of rents to make room for
+     */
+    public RentBatch(int capacity)
+    {
+        capacity = Math.max(capacity, 1);
+        _classes = new int[capacity];
+        _pickDays = new int[capacity];
+        _returnDays = new int[capacity];
+    }
+
+    /**
+     * Creates a batch of the given rents
+     * @param rents - the rents
+     * @return a new RentBatch holding the rents, in iteration order
+     */
+    public static RentBatch of(Collection<Rent> rents)
+    {
+        RentBatch batch = new RentBatch(rents.size());
+        for (Rent rent : rents)
+            batch.add(rent);
+        return batch;
+    }
+
+    /**
+     * Checks if the pricing runs on SIMD lanes
+     * @return true if the vector kernel is used
+     */
+    public static boolean isVectorized()
+    {
+        return VECTORIZED;
+    }
+
+    /**
+     * Adds a rent to the batch (later changes of the rent are not seen by the batch)
+     * @param rent - the rent
+     */
+    public void add(Rent rent)
+    {
+        add(rent.getCarType(), rent.getPickEpochDay(), rent.getReturnEpochDay());
+    }
+
+    /**
+     * Adds a rent to the batch
+     * If the return day is not after the pickup day the rent is of one day, as in the Rent constructor.
+     * @param type - the car type ('A','B','C' or 'D'; other types are priced 0)
+     * @param pickEpochDay - the day number of the pickup date
+     * @param returnEpochDay - the day number of the return date
+     */
+    public void add(char type, int pickEpochDay, int returnEpochDay)
+    {
+        if (_size == _classes.length)
+        {
+            int capacity = _size * 2;
+            _classes = Arrays.copyOf(_classes, capacity);
+            _pickDays = Arrays.copyOf(_pickDays, capacity);
+            _returnDays = Arrays.copyOf(_returnDays, capacity);
+        }
+        _classes[_size] = PricingEngine.classIndex(type);
+        _pickDays[_size] = pickEpochDay;
+        _returnDays[_size] = returnEpochDay > pickEpochDay ? returnEpochDay : pickEpochDay + 1;
+        _size++;
+    }
+
+    /**
+     * Returns the number of rents in the batch
+     * @return the number of rents
+     */
+    public int size()
+    {
+        return _size;
+    }
+
+    /**
+     * Returns the number of days of a rent of the batch
+     * @param index - the rent index (0 to size - 1)
+     * @return the number of rent days
+     * @throws IndexOutOfBoundsException if the index is not of a rent of the batch
+     */
+    public int getDays(int index)
+    {
+        checkIndex(index);
+        return _returnDays[index] - _pickDays[index];
+    }
+
+    /**
+     * Returns the car class index of a rent of the batch
+     * @param index - the rent index (0 to size - 1)
+     * @return the class index (0 for 'A', 1 for 'B', ...), or -1 for an unknown type
+     * @throws IndexOutOfBoundsException if the index is not of a rent of the batch
+     */
+    public int getClassIndex(int index)
+    {
+        checkIndex(index);
+        return _classes[index];
+    }
+
+    /**
+     * Prices every rent of the batch
+     * @param pricing - the prices
+     * @param out - receives the price of every rent, at the rent index
+     * @throws IllegalArgumentException if out is shorter than the batch
+     */
+    public void priceAll(PricingEngine pricing, int[] out)
+    {
+        priceAll(pricing, out, VECTORIZED);
+    }
+
+    /**
+     * Prices every rent of the batch with the chosen kernel
+     * @param pricing - the prices
+     * @param out - receives the price of every rent, at the rent index
+     * @param vectorized - true for the SIMD kernel (used only if isVectorized), false for the scalar loop
+     * @throws IllegalArgumentException if out is shorter than the batch
+     */
+    public void priceAll(PricingEngine pricing, int[] out, boolean vectorized)
+    {
+        if (out.length < _size)
+            throw new IllegalArgumentException("out must hold " + _size + " prices");
+        Prices prices = new Prices(pricing, vectorized && VECTORIZED);
+        price(prices, 0, _size, out, 0);
+    }
+
+    /**
+     * Returns the total price of the rents of the batch
+     * @param pricing - the prices
+     * @return the sum of the rent prices
+     */
+    public long totalPrice(PricingEngine pricing)
+    {
+        Prices prices = new Prices(pricing, VECTORIZED);
+        int[] chunk = new int[Math.min(_size, CHUNK)];
+        long total = 0;
+        for (int from = 0; from < _size; from += CHUNK)
+        {
+            int to = Math.min(from + CHUNK, _size);
+            price(prices, from, to, chunk, 0);
+            for (int i = 0; i < to - from; i++)
+                total += chunk[i];
+        }
+        return total;
+    }
+
+    // prices the rents [from, to) into out, starting at outFrom
+    private void price(Prices prices, int from, int to, int[] out, int outFrom)
+    {
+        int i = from;
+        if (prices._dayPrices != null)
+            i = VectorPricing.price(_classes, _pickDays, _returnDays, from, to, prices._dayPrices, prices._weekPrices, out, outFrom);
+        for (; i < to; i++)
+            out[outFrom + i - from] = prices._pricing.price(_classes[i], _returnDays[i] - _pickDays[i]);
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= _size)
+            throw new IndexOutOfBoundsException("no rent " + index + " in a batch of " + _size);
+    }
+
+    // the prices of one pricing call; the class price tables are read once, and only for the SIMD kernel
+    private static final class Prices
+    {
+        private final PricingEngine _pricing;
+        private final int[] _dayPrices;
+        private final int[] _weekPrices;
+
+        private Prices(PricingEngine pricing, boolean vectorized)
+        {
+            _pricing = pricing;
+            if (vectorized)
+            {
+                _dayPrices = new int[pricing.getClassCount()];
+                _weekPrices = new int[_dayPrices.length];
+                for (int c = 0; c < _dayPrices.length; c++)
+                {
+                    _dayPrices[c] = pricing.getDayPrice(c);
+                    _weekPrices[c] = pricing.getWeekPrice(c);
+                }
+            }
+            else
+            {
+                _dayPrices = null;
+                _weekPrices = null;
+            }
+        }
+    }
+}
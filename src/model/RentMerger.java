@@ -0,0 +1,101 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * This class merges double listings of many rents at once.
+ * Rents are grouped by client name and car (cars are the same as defined by Car.equals),
+ * every group is sorted by pickup date and overlapping or touching rents are unified in one sweep,
+ * the same way Rent.overlap unifies two rents.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentMerger
+{
+    private static final Comparator<Rent> BY_PICK_DATE = Comparator.comparingInt(Rent::getPickEpochDay);
+
+    // the client name and the car (CarValue compares cars as Car.equals does)
+    private static class GroupKey
+    {
+        private final String _name;
+        private final CarValue _car;
+
+        private GroupKey(Rent rent)
+        {
+            _name = rent.getName();
+            _car = rent.getCarValue();
+        }
+
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof GroupKey))
+                return false;
+            GroupKey other = (GroupKey) o;
+            return Objects.equals(_name, other._name) && _car.equals(other._car);
+        }
+
+        public int hashCode()
+        {
+            return 31 * Objects.hashCode(_name) + _car.hashCode();
+        }
+    }
+
+    /**
+     * Unifies the overlapping or touching rents of the same client and car
+     * @param rents - the rents to merge (not changed)
+     * @return a new list of new rents: the groups in the order they first appear, each group ordered by pickup date
+     */
+    public static List<Rent> merge(Iterable<Rent> rents)
+    {
+        Map<GroupKey, List<Rent>> groups = new LinkedHashMap<>();
+        for (Rent rent : rents)
+            groups.computeIfAbsent(new GroupKey(rent), k -> new ArrayList<>()).add(rent);
+        List<Rent> merged = new ArrayList<>();
+        for (List<Rent> group : groups.values())
+            mergeGroup(group, merged);
+        return merged;
+    }
+
+    /**
+     * Unifies the overlapping or touching rents of the same client and car
+     * @param rents - the rents to merge (not changed)
+     * @return a new list of new rents: the groups in the order they first appear, each group ordered by pickup date
+     */
+    public static List<Rent> merge(Stream<Rent> rents)
+    {
+        return merge(rents::iterator);
+    }
+
+    // sorts a group of the same client and car, and adds its unified rents to merged
+    private static void mergeGroup(List<Rent> group, List<Rent> merged)
+    {
+        group.sort(BY_PICK_DATE);
+        Rent first = group.get(0);
+        Rent last = first;
+        int end = first.getReturnEpochDay();
+        for (int i = 1; i < group.size(); i++)
+        {
+            Rent rent = group.get(i);
+            if (rent.getPickEpochDay() > end)
+            {
+                merged.add(new Rent(first.getName(), first.getCarValue(), first.getPickDay(), last.getReturnDay()));
+                first = rent;
+                last = rent;
+                end = rent.getReturnEpochDay();
+            }
+            else if (rent.getReturnEpochDay() > end)
+            {
+                last = rent;
+                end = rent.getReturnEpochDay();
+            }
+        }
+        merged.add(new Rent(first.getName(), first.getCarValue(), first.getPickDay(), last.getReturnDay()));
+    }
+}
@@ -0,0 +1,141 @@
+package model;
+
+import java.util.Objects;
+
+/**
+ * This class represents an immutable Rent value.
+ * It has the same validation rules as Rent, and can be shared freely without copying.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public final class RentRecord
+{
+    private final String _name;
+    private final CarValue _car;
+    private final LocalDay _pickDate;
+    private final LocalDay _returnDate;
+
+    /**
+     * Creates a new RentRecord
+     * The return date must be at least one day after the pickup date, otherwise set it to one day after the pickup date.
+     *
+     * @param name - the client's name
+     * @param car  - the rented car
+     * @param pick - the pickup date
+     * @param ret  - the return date
+     */
+    public RentRecord(String name, CarValue car, LocalDay pick, LocalDay ret)
+    {
+        _name = name;
+        _car = car;
+        _pickDate = pick;
+        _returnDate = ret.after(pick) ? ret : pick.tomorrow();
+    }
+
+    /**
+     * Creates the value of a rent
+     * @param rent - the rent
+     * @return a RentRecord holding the fields of the rent
+     */
+    public static RentRecord from(Rent rent)
+    {
+        return rent.toRecord();
+    }
+
+    /**
+     * Creates a mutable Rent holding this value
+     * @return a new Rent
+     */
+    public Rent toRent()
+    {
+        return new Rent(this);
+    }
+
+    /**
+     * Gets the name
+     * @return the name
+     */
+    public String getName()
+    {
+        return _name;
+    }
+
+    /**
+     * Gets the car
+     * @return the car
+     */
+    public CarValue getCar()
+    {
+        return _car;
+    }
+
+    /**
+     * Gets the pickup date
+     * @return the pickup date
+     */
+    public LocalDay getPickDate()
+    {
+        return _pickDate;
+    }
+
+    /**
+     * Gets the return date
+     * @return the return date
+     */
+    public LocalDay getReturnDate()
+    {
+        return _returnDate;
+    }
+
+    /**
+     * Returns the number of rent days
+     * @return the number of rent days
+     */
+    public int howManyDays()
+    {
+        return _pickDate.difference(_returnDate);
+    }
+
+    /**
+     * Returns the rent total price
+     * @return the rent total price
+     */
+    public int getPrice()
+    {
+        return PricingEngine.getDefault().price(_car.getType(), howManyDays());
+    }
+
+    /**
+     * Check if 2 rents are the same, as defined by Rent.equals
+     * @param o - the object to compare this rent to
+     * @return true if the rents are the same, otherwise false
+     */
+    public boolean equals(Object o)
+    {
+        if (!(o instanceof RentRecord))
+            return false;
+        RentRecord other = (RentRecord) o;
+        return Objects.equals(_name, other._name) && _pickDate.equals(other._pickDate)
+                && _returnDate.equals(other._returnDate) && _car.equals(other._car);
+    }
+
+    /**
+     * Returns a hash code of the name, car and dates
+     * @return the hash code
+     */
+    public int hashCode()
+    {
+        return Objects.hash(_name, _car, _pickDate, _returnDate);
+    }
+
+    /**
+     * Returns a String that represents this rent
+     * @return String that represents this rent in the following format:
+     * Name:Rama From:30/10/2022 To:12/11/2022 Type:B Days:13 Price:1845
+     */
+    public String toString()
+    {
+        return "Name:" + _name + " From:" + _pickDate + " To:" + _returnDate + " Type:" + _car.getType() + " Days:" + howManyDays() + " Price:" + getPrice();
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class holds the SIMD pricing kernel of RentBatch. It is only loaded when the runtime has the
+ * jdk.incubator.vector module.
+ * There is no SIMD integer division, so days / 7 is taken as (days * 18725) >>> 17, which is exact for every
+ * day count below 43693 (about 119 years); vectors holding longer (or negative, overflowed) day counts are
+ * priced lane by lane. Converting to floats and back would also divide, but JDK 17 does not compile those
+ * conversions to SIMD instructions. The week and day prices of every lane are picked by comparing the class
+ * with each class index, so unknown classes stay at 0.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+final class VectorPricing
+{
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int SEVENTH_MULTIPLIER = 18725;
+    private static final int SEVENTH_SHIFT = 17;
+    private static final int EXACT_DAYS = 43693;
+
+    private VectorPricing()
+    {
+    }
+
+    /**
+     * Prices whole vectors of rents in [from, to), leaving the tail to the caller
+     * @return the index of the first rent not priced
+     */
+    static int price(int[] classes, int[] pickDays, int[] returnDays, int from, int to,
+                     int[] dayPrices, int[] weekPrices, int[] out, int outFrom)
+    {
+        int i = from;
+        for (int end = from + SPECIES.loopBound(to - from); i < end; i += SPECIES.length())
+        {
+            IntVector days = IntVector.fromArray(SPECIES, returnDays, i).sub(IntVector.fromArray(SPECIES, pickDays, i));
+            if (days.compare(VectorOperators.UNSIGNED_GE, EXACT_DAYS).anyTrue())
+            {
+                for (int lane = i; lane < i + SPECIES.length(); lane++)
+                    out[outFrom + lane - from] = price(classes[lane], returnDays[lane] - pickDays[lane], dayPrices, weekPrices);
+                continue;
+            }
+            IntVector weeks = days.mul(SEVENTH_MULTIPLIER).lanewise(VectorOperators.LSHR, SEVENTH_SHIFT);
+            IntVector rest = days.sub(weeks.mul(DAYS_IN_WEEK));
+
+            IntVector type = IntVector.fromArray(SPECIES, classes, i);
+            IntVector week = IntVector.zero(SPECIES);
+            IntVector day = IntVector.zero(SPECIES);
+            for (int c = 0; c < dayPrices.length; c++)
+            {
+                VectorMask<Integer> isClass = type.compare(VectorOperators.EQ, c);
+                week = week.blend(weekPrices[c], isClass);
+                day = day.blend(dayPrices[c], isClass);
+            }
+            weeks.mul(week).add(rest.mul(day)).intoArray(out, outFrom + i - from);
+        }
+        return i;
+    }
+
+    // the scalar rule, as PricingEngine.price
+    private static int price(int classIndex, int days, int[] dayPrices, int[] weekPrices)
+    {
+        if (classIndex < 0 || classIndex >= dayPrices.length)
+            return 0;
+        return days / DAYS_IN_WEEK * weekPrices[classIndex] + days % DAYS_IN_WEEK * dayPrices[classIndex];
+    }
+}
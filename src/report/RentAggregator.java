@@ -0,0 +1,105 @@
+package report;
+
+import model.Date;
+import model.Rent;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class computes the revenue, rented days and utilization of rents in a date window, by car class and by brand.
+ * The rents are split into chunks that are totaled in parallel on a ForkJoinPool, and the chunk totals are merged.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentAggregator
+{
+    private static final int DEFAULT_CHUNK = 8192;
+    private final ForkJoinPool _pool;
+    private final int _chunk;
+
+    /**
+     * Creates a new RentAggregator running on the common ForkJoinPool
+     */
+    public RentAggregator()
+    {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+    }
+
+    /**
+     * Creates a new RentAggregator
+     * @param pool - the pool to run on
+     * @param chunk - the number of rents totaled by one task without splitting (at least 1)
+     * @throws IllegalArgumentException if chunk is not positive
+     */
+    public RentAggregator(ForkJoinPool pool, int chunk)
+    {
+        if (chunk < 1)
+            throw new IllegalArgumentException("chunk must be positive");
+        _pool = pool;
+        _chunk = chunk;
+    }
+
+    /**
+     * Totals the rents from one date up to (not including) another date
+     * @param rents - the rents (not changed while totaling)
+     * @param from - the first day of the window
+     * @param to - the day after the last day of the window
+     * @return the totals of the window
+     */
+    public RentTotals aggregate(Collection<Rent> rents, Date from, Date to)
+    {
+        return aggregate(rents.toArray(new Rent[0]), from.getEpochDay(), to.getEpochDay());
+    }
+
+    /**
+     * Totals the rents in the days [from, to)
+     * @param rents - the rents (not changed while totaling)
+     * @param from - the day number of the first day of the window
+     * @param to - the day number of the day after the last day of the window
+     * @return the totals of the window
+     */
+    public RentTotals aggregate(Rent[] rents, int from, int to)
+    {
+        return _pool.invoke(new TotalTask(rents, 0, rents.length, from, to));
+    }
+
+    // totals rents[start, end), splitting in two while the range is larger than a chunk
+    private class TotalTask extends RecursiveTask<RentTotals>
+    {
+        private static final long serialVersionUID = 1L;
+        private final Rent[] _rents;
+        private final int _start;
+        private final int _end;
+        private final int _from;
+        private final int _to;
+
+        private TotalTask(Rent[] rents, int start, int end, int from, int to)
+        {
+            _rents = rents;
+            _start = start;
+            _end = end;
+            _from = from;
+            _to = to;
+        }
+
+        protected RentTotals compute()
+        {
+            if (_end - _start <= _chunk)
+            {
+                RentTotals totals = new RentTotals(_from, _to);
+                for (int i = _start; i < _end; i++)
+                    totals.add(_rents[i]);
+                return totals;
+            }
+            int middle = (_start + _end) >>> 1;
+            TotalTask left = new TotalTask(_rents, _start, middle, _from, _to);
+            left.fork();
+            RentTotals totals = new TotalTask(_rents, middle, _end, _from, _to).compute();
+            totals.merge(left.join());
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package report;
+
+import model.Rent;
+import util.StringDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents the revenue and rented days of rents in a date window, by car class and by brand.
+ * A rent's days are counted only inside the window, and its price is counted if it is picked up inside the window.
+ * Totals are kept in primitive arrays, and totals of disjoint rent sets can be merged.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentTotals
+{
+    private static final int CLASSES = 4;
+    private static final char FIRST_CLASS = 'A';
+    private static final int PERCENT = 100;
+    private final int _from;
+    private final int _to;
+    private final long[] _revenueByClass = new long[CLASSES];
+    private final long[] _daysByClass = new long[CLASSES];
+    private final StringDictionary _brands = new StringDictionary();
+    private long[] _revenueByBrand = new long[8];
+    private long[] _daysByBrand = new long[8];
+    private long _rents;
+
+    /**
+     * Creates empty totals of the window [from, to)
+     * @param from - the day number of the first day of the window
+     * @param to - the day number of the day after the last day of the window
+     */
+    RentTotals(int from, int to)
+    {
+        _from = from;
+        _to = to;
+    }
+
+    // adds a rent, if it overlaps the window
+    void add(Rent rent)
+    {
+        int pick = rent.getPickEpochDay();
+        int days = Math.min(rent.getReturnEpochDay(), _to) - Math.max(pick, _from);
+        if (days <= 0)
+            return;
+        int classIndex = rent.getCarType() - FIRST_CLASS;
+        int brand = brandId(rent.getCarValue().getBrand());
+        long revenue = pick >= _from && pick < _to ? rent.getPrice() : 0;
+        _revenueByClass[classIndex] += revenue;
+        _daysByClass[classIndex] += days;
+        _revenueByBrand[brand] += revenue;
+        _daysByBrand[brand] += days;
+        _rents++;
+    }
+
+    // adds the totals of other rents of the same window
+    void merge(RentTotals other)
+    {
+        for (int i = 0; i < CLASSES; i++)
+        {
+            _revenueByClass[i] += other._revenueByClass[i];
+            _daysByClass[i] += other._daysByClass[i];
+        }
+        for (int otherBrand = 0; otherBrand < other._brands.size(); otherBrand++)
+        {
+            int brand = brandId(other._brands.get(otherBrand));
+            _revenueByBrand[brand] += other._revenueByBrand[otherBrand];
+            _daysByBrand[brand] += other._daysByBrand[otherBrand];
+        }
+        _rents += other._rents;
+    }
+
+    /**
+     * Returns the number of days in the window
+     * @return the number of days in the window
+     */
+    public int getWindowDays()
+    {
+        return _to - _from;
+    }
+
+    /**
+     * Returns the number of rents overlapping the window
+     * @return the number of rents
+     */
+    public long getRentCount()
+    {
+        return _rents;
+    }
+
+    /**
+     * Returns the revenue of a car class
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return the revenue of the rents of the class picked up in the window
+     */
+    public long getRevenue(char type)
+    {
+        return isType(type) ? _revenueByClass[type - FIRST_CLASS] : 0;
+    }
+
+    /**
+     * Returns the rented days of a car class
+     * @param type - the car type ('A','B','C' or 'D')
+     * @return the rented days of the class inside the window
+     */
+    public long getDays(char type)
+    {
+        return isType(type) ? _daysByClass[type - FIRST_CLASS] : 0;
+    }
+
+    /**
+     * Returns the revenue of a brand
+     * @param brand - the car brand
+     * @return the revenue of the rents of the brand picked up in the window
+     */
+    public long getRevenue(String brand)
+    {
+        int id = _brands.find(brand);
+        return id < 0 ? 0 : _revenueByBrand[id];
+    }
+
+    /**
+     * Returns the rented days of a brand
+     * @param brand - the car brand
+     * @return the rented days of the brand inside the window
+     */
+    public long getDays(String brand)
+    {
+        int id = _brands.find(brand);
+        return id < 0 ? 0 : _daysByBrand[id];
+    }
+
+    /**
+     * Returns the brands of the rents
+     * @return a new list holding the brands
+     */
+    public List<String> getBrands()
+    {
+        List<String> brands = new ArrayList<>(_brands.size());
+        for (int id = 0; id < _brands.size(); id++)
+            brands.add(_brands.get(id));
+        return brands;
+    }
+
+    /**
+     * Returns the total revenue of all the classes
+     * @return the total revenue
+     */
+    public long getTotalRevenue()
+    {
+        long total = 0;
+        for (long revenue : _revenueByClass)
+            total += revenue;
+        return total;
+    }
+
+    /**
+     * Returns the total rented days of all the classes
+     * @return the total rented days
+     */
+    public long getTotalDays()
+    {
+        long total = 0;
+        for (long days : _daysByClass)
+            total += days;
+        return total;
+    }
+
+    /**
+     * Returns the utilization of a car class: its rented days out of all the days its cars could be rented in the window
+     * @param type - the car type ('A','B','C' or 'D')
+     * @param carCount - the number of cars of the class
+     * @return the utilization percentage (0 if there are no cars)
+     */
+    public double getUtilization(char type, int carCount)
+    {
+        return utilization(getDays(type), carCount);
+    }
+
+    /**
+     * Returns the utilization of a brand: its rented days out of all the days its cars could be rented in the window
+     * @param brand - the car brand
+     * @param carCount - the number of cars of the brand
+     * @return the utilization percentage (0 if there are no cars)
+     */
+    public double getUtilization(String brand, int carCount)
+    {
+        return utilization(getDays(brand), carCount);
+    }
+
+    private double utilization(long days, int carCount)
+    {
+        if (carCount <= 0 || _to <= _from)
+            return 0;
+        return (double) PERCENT * days / ((long) carCount * (_to - _from));
+    }
+
+    private int brandId(String brand)
+    {
+        int id = _brands.idOf(brand);
+        if (id == _revenueByBrand.length)
+        {
+            _revenueByBrand = Arrays.copyOf(_revenueByBrand, id * 2);
+            _daysByBrand = Arrays.copyOf(_daysByBrand, id * 2);
+        }
+        return id;
+    }
+
+    private boolean isType(char type)
+    {
+        return type >= FIRST_CLASS && type < FIRST_CLASS + CLASSES;
+    }
+}
@@ -0,0 +1,306 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.DateCodec;
+import model.Car;
+import model.Date;
+import model.Fleet;
+import model.PricingEngine;
+import model.Rent;
+import service.BookingService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class represents a small embedded HTTP API over a fleet and a booking service, on the JDK HTTP server.
+ * Every request runs on its own virtual thread when the runtime has them (Java 21 and later), so requests
+ * blocking on persistence do not hold platform threads; older runtimes use a fixed pool of platform threads.
+ * Dates are passed as dd/mm/yyyy and answers are small JSON objects:
+ * <pre>
+ * GET  /quote?type=B&amp;from=15/06/2023&amp;to=20/06/2023     {"type":"B","days":5,"price":750}
+ * GET  /available?car=1234567&amp;from=..&amp;to=..          {"car":1234567,"free":true}
+ * POST /book?name=Rama&amp;car=1234567&amp;from=..&amp;to=..     {"rent":0,"price":750}  (409 if the car is not free)
+ * POST /upgrade?rent=0&amp;car=7654321                   {"rent":0,"cost":450}   (409 if not upgraded)
+ * </pre>
+ * The fleet must not change while the server runs.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class BookingServer implements Closeable
+{
+    private static final int FALLBACK_THREADS = 256;
+    private static final int BACKLOG = 4096;
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int BAD_METHOD = 405;
+    private static final int CONFLICT = 409;
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private final HttpServer _server;
+    private final ExecutorService _executor;
+    private final Fleet _fleet;
+    private final BookingService _bookings;
+    private final Map<Integer, Rent> _rents = new ConcurrentHashMap<>();
+    private final AtomicInteger _nextRentId = new AtomicInteger();
+    private volatile PricingEngine _pricing = PricingEngine.getDefault();
+
+    /**
+     * Creates a new server (not started yet)
+     * @param address - the address to listen on (port 0 for any free port)
+     * @param fleet - the cars that can be booked
+     * @param bookings - the booking service holding the rents
+     * @throws IOException if the address can not be bound
+     */
+    public BookingServer(InetSocketAddress address, Fleet fleet, BookingService bookings) throws IOException
+    {
+        _fleet = fleet;
+        _bookings = bookings;
+        _server = HttpServer.create(address, BACKLOG);
+        _executor = newRequestExecutor();
+        _server.setExecutor(_executor);
+        _server.createContext("/quote", exchange -> handle(exchange, GET, this::quote));
+        _server.createContext("/available", exchange -> handle(exchange, GET, this::available));
+        _server.createContext("/book", exchange -> handle(exchange, POST, this::book));
+        _server.createContext("/upgrade", exchange -> handle(exchange, POST, this::upgrade));
+    }
+
+    /**
+     * Creates an executor running every task on a new virtual thread, or on a fixed pool of platform threads
+     * if the runtime has no virtual threads
+     * @return the executor
+     */
+    public static ExecutorService newRequestExecutor()
+    {
+        try
+        {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            return Executors.newFixedThreadPool(FALLBACK_THREADS);
+        }
+    }
+
+    /**
+     * Starts answering requests
+     */
+    public void start()
+    {
+        _server.start();
+    }
+
+    /**
+     * Gets the port the server listens on
+     * @return the port
+     */
+    public int getPort()
+    {
+        return _server.getAddress().getPort();
+    }
+
+    /**
+     * Returns a rent booked through the server
+     * @param id - the rent id returned by /book
+     * @return the rent, or null if there is no such rent
+     */
+    public Rent getRent(int id)
+    {
+        return _rents.get(id);
+    }
+
+    /**
+     * Returns the prices answering /quote
+     * @return the pricing engine of the quotes
+     */
+    public PricingEngine getPricing()
+    {
+        return _pricing;
+    }
+
+    /**
+     * Replaces the prices answering /quote
+     * @param pricing - the new prices
+     */
+    public void setPricing(PricingEngine pricing)
+    {
+        _pricing = pricing;
+    }
+
+    /**
+     * Stops the server and its executor
+     */
+    public void close()
+    {
+        _server.stop(0);
+        _executor.shutdown();
+    }
+
+    // an answer: a status code and a JSON body
+    private static class Answer
+    {
+        private final int _status;
+        private final String _body;
+
+        private Answer(int status, String body)
+        {
+            _status = status;
+            _body = body;
+        }
+    }
+
+    private interface Endpoint
+    {
+        Answer answer(Map<String, String> query);
+    }
+
+    private Answer quote(Map<String, String> query)
+    {
+        String type = query.get("type");
+        if (type == null || type.length() != 1 || PricingEngine.classIndex(type.charAt(0)) < 0)
+            return error(BAD_REQUEST, "type must be A, B, C or D");
+        int pick = date(query, "from").getEpochDay();
+        int ret = date(query, "to").getEpochDay();
+        int days = ret > pick ? ret - pick : 1;
+        return new Answer(OK, "{\"type\":\"" + type + "\",\"days\":" + days + ",\"price\":" + _pricing.price(type.charAt(0), days) + "}");
+    }
+
+    private Answer available(Map<String, String> query)
+    {
+        Car car = car(query, "car");
+        if (car == null)
+            return error(NOT_FOUND, "no such car");
+        boolean free = _bookings.isFree(car.getId(), date(query, "from"), date(query, "to"));
+        return new Answer(OK, "{\"car\":" + car.getId() + ",\"free\":" + free + "}");
+    }
+
+    private Answer book(Map<String, String> query)
+    {
+        if (query.get("name") == null)
+            return error(BAD_REQUEST, "name is required");
+        Car car = car(query, "car");
+        if (car == null)
+            return error(NOT_FOUND, "no such car");
+        Rent rent = _bookings.book(query.get("name"), car, date(query, "from"), date(query, "to"));
+        if (rent == null)
+            return error(CONFLICT, "the car is not free");
+        int id = _nextRentId.getAndIncrement();
+        _rents.put(id, rent);
+        return new Answer(CREATED, "{\"rent\":" + id + ",\"price\":" + rent.getPrice() + "}");
+    }
+
+    private Answer upgrade(Map<String, String> query)
+    {
+        int id = number(query, "rent");
+        Rent rent = _rents.get(id);
+        Car car = car(query, "car");
+        if (rent == null || car == null)
+            return error(NOT_FOUND, rent == null ? "no such rent" : "no such car");
+        int cost = _bookings.upgrade(rent, car);
+        if (cost < 0)
+            return error(CONFLICT, "the rent was not upgraded");
+        return new Answer(OK, "{\"rent\":" + id + ",\"cost\":" + cost + "}");
+    }
+
+    // answers a request, turning bad parameters into 400 answers
+    private static void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException
+    {
+        Answer answer;
+        if (!method.equals(exchange.getRequestMethod()))
+            answer = error(BAD_METHOD, "use " + method);
+        else
+        {
+            try
+            {
+                answer = endpoint.answer(parseQuery(exchange.getRequestURI().getRawQuery()));
+            }
+            catch (IllegalArgumentException e)
+            {
+                answer = error(BAD_REQUEST, e.getMessage());
+            }
+        }
+        byte[] body = answer._body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(answer._status, body.length);
+        try (OutputStream out = exchange.getResponseBody())
+        {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query)
+    {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null)
+            return parameters;
+        for (String pair : query.split("&"))
+        {
+            int equals = pair.indexOf('=');
+            if (equals > 0)
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private Car car(Map<String, String> query, String parameter)
+    {
+        return _fleet.get(number(query, parameter));
+    }
+
+    private static Date date(Map<String, String> query, String parameter)
+    {
+        String value = query.get(parameter);
+        if (value == null)
+            throw new IllegalArgumentException(parameter + " is required");
+        if (value.length() != DateCodec.LENGTH)
+            throw new IllegalArgumentException(parameter + " is not a date dd/mm/yyyy");
+        return Date.ofEpochDay(DateCodec.parseLegal(value, 0));
+    }
+
+    private static int number(Map<String, String> query, String parameter)
+    {
+        String value = query.get(parameter);
+        if (value == null)
+            throw new IllegalArgumentException(parameter + " is required");
+        return Integer.parseInt(value);
+    }
+
+    private static Answer error(int status, String message)
+    {
+        return new Answer(status, "{\"error\":\"" + escape(String.valueOf(message)) + "\"}");
+    }
+
+    // escapes a string for a JSON string literal: quotes, backslashes and control characters
+    private static String escape(String text)
+    {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++)
+        {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\')
+                escaped.append('\\').append(c);
+            else if (c < 0x20)
+                escaped.append(String.format("\\u%04x", (int) c));
+            else
+                escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
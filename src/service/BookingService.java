@@ -0,0 +1,268 @@
+package service;
+
+import model.AvailabilityIndex;
+import model.Car;
+import model.CarValue;
+import model.Date;
+import model.Rent;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This class represents a thread safe booking service.
+ * Cars are spread over lock stripes by id; every stripe has its own lock and availability index,
+ * so two agents can never double-book a car, and bookings of cars in different stripes never contend.
+ * The rents returned by the service belong to it: change them only through extend, upgrade and cancel.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class BookingService
+{
+    private static final int DEFAULT_STRIPES = 64;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private final Stripe[] _stripes;
+    private final int _mask;
+
+    // a lock and the availability of the cars hashed to it
+    private static class Stripe
+    {
+        private final ReentrantReadWriteLock _lock = new ReentrantReadWriteLock();
+        private final AvailabilityIndex _index = new AvailabilityIndex();
+    }
+
+    /**
+     * Creates a new BookingService with 64 lock stripes
+     */
+    public BookingService()
+    {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a new BookingService
+     * @param stripes - the number of lock stripes (rounded up to a power of two)
+     * @throws IllegalArgumentException if stripes is not positive
+     */
+    public BookingService(int stripes)
+    {
+        if (stripes < 1)
+            throw new IllegalArgumentException("stripes must be positive");
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes)
+            size <<= 1;
+        _stripes = new Stripe[size];
+        for (int i = 0; i < size; i++)
+            _stripes[i] = new Stripe();
+        _mask = size - 1;
+    }
+
+    /**
+     * Books a car, only if the car is free for the rent days
+     * The return date must be at least one day after the pickup date, otherwise it is set to one day after the pickup date (as in Rent).
+     * @param name - the client's name
+     * @param car - the car to rent
+     * @param pick - the pickup date
+     * @param ret - the return date
+     * @return the booked rent, or null if the car is not free
+     */
+    public Rent book(String name, Car car, Date pick, Date ret)
+    {
+        Rent rent = new Rent(name, car, pick, ret);
+        Stripe stripe = stripeOf(rent.getCarId());
+        stripe._lock.writeLock().lock();
+        try
+        {
+            if (!stripe._index.isFree(rent.getCarId(), rent.getPickEpochDay(), rent.getReturnEpochDay()))
+                return null;
+            stripe._index.add(rent);
+            return rent;
+        }
+        finally
+        {
+            stripe._lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes the return date of a booked rent, with the rules of Rent.setReturnDate
+     * The rent is extended only if its car is free for the added days.
+     * @param rent - a rent booked by this service
+     * @param returnDate - the new return date
+     * @return true if the return date was changed, otherwise false
+     */
+    public boolean extend(Rent rent, Date returnDate)
+    {
+        while (true)
+        {
+            int carId = rent.getCarId();
+            Stripe stripe = stripeOf(carId);
+            stripe._lock.writeLock().lock();
+            try
+            {
+                // the rent may have been upgraded to another car before we got the lock
+                if (rent.getCarId() != carId)
+                    continue;
+                if (!stripe._index.contains(rent))
+                    return false;
+                int oldReturn = rent.getReturnEpochDay();
+                int newReturn = returnDate.getEpochDay();
+                if (newReturn <= rent.getPickEpochDay() || newReturn == oldReturn)
+                    return false;
+                if (newReturn > oldReturn && !stripe._index.isFree(carId, oldReturn, newReturn))
+                    return false;
+                rent.setReturnDate(returnDate);
+                stripe._index.update(rent);
+                return true;
+            }
+            finally
+            {
+                stripe._lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Upgrades a booked rent to a better car, with the rules of Rent.upgrade
+     * The rent is upgraded only if the new car is free for the rent days.
+     * @param rent - a rent booked by this service
+     * @param newCar - the car to upgrade to
+     * @return the upgrade cost (0 for a car of the same class), or -1 if the rent was not upgraded
+     */
+    public int upgrade(Rent rent, Car newCar)
+    {
+        while (true)
+        {
+            int carId = rent.getCarId();
+            int newCarId = newCar.getId();
+            int fromIndex = stripeIndex(carId);
+            int toIndex = stripeIndex(newCarId);
+            Stripe from = _stripes[fromIndex];
+            Stripe to = _stripes[toIndex];
+            // lock the stripes in a fixed order, so two upgrades can not deadlock
+            Stripe first = _stripes[Math.min(fromIndex, toIndex)];
+            Stripe second = _stripes[Math.max(fromIndex, toIndex)];
+            first._lock.writeLock().lock();
+            second._lock.writeLock().lock();
+            try
+            {
+                if (rent.getCarId() != carId)
+                    continue;
+                if (!from._index.contains(rent) || !CarValue.from(newCar).better(rent.getCarValue()))
+                    return -1;
+                if (newCarId != carId && !to._index.isFree(newCarId, rent.getPickEpochDay(), rent.getReturnEpochDay()))
+                    return -1;
+                from._index.remove(rent);
+                int cost = rent.upgrade(newCar);
+                to._index.add(rent);
+                return cost;
+            }
+            finally
+            {
+                second._lock.writeLock().unlock();
+                first._lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Cancels a booked rent
+     * @param rent - a rent booked by this service
+     * @return true if the rent was cancelled, false if it is not booked
+     */
+    public boolean cancel(Rent rent)
+    {
+        while (true)
+        {
+            int carId = rent.getCarId();
+            Stripe stripe = stripeOf(carId);
+            stripe._lock.writeLock().lock();
+            try
+            {
+                if (rent.getCarId() != carId)
+                    continue;
+                return stripe._index.remove(rent);
+            }
+            finally
+            {
+                stripe._lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Check if a car is free from one date up to (not including) another date
+     * @param carId - the id of the car
+     * @param from - the first day
+     * @param to - the day after the last day
+     * @return true if no booked rent of the car overlaps the days, otherwise false
+     */
+    public boolean isFree(int carId, Date from, Date to)
+    {
+        Stripe stripe = stripeOf(carId);
+        stripe._lock.readLock().lock();
+        try
+        {
+            return stripe._index.isFree(carId, from, to);
+        }
+        finally
+        {
+            stripe._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the booked rents of a car that overlap the days from one date up to (not including) another date
+     * @param carId - the id of the car
+     * @param from - the first day
+     * @param to - the day after the last day
+     * @return a new list holding the rents, ordered by pickup date
+     */
+    public List<Rent> conflicts(int carId, Date from, Date to)
+    {
+        Stripe stripe = stripeOf(carId);
+        stripe._lock.readLock().lock();
+        try
+        {
+            return stripe._index.conflicts(carId, from, to);
+        }
+        finally
+        {
+            stripe._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of booked rents
+     * @return the number of booked rents
+     */
+    public int size()
+    {
+        int size = 0;
+        for (Stripe stripe : _stripes)
+        {
+            stripe._lock.readLock().lock();
+            try
+            {
+                size += stripe._index.size();
+            }
+            finally
+            {
+                stripe._lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(int carId)
+    {
+        return _stripes[stripeIndex(carId)];
+    }
+
+    private int stripeIndex(int carId)
+    {
+        int h = carId * GOLDEN_RATIO;
+        return (h ^ (h >>> 16)) & _mask;
+    }
+}
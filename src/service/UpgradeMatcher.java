@@ -0,0 +1,109 @@
+package service;
+
+import model.AvailabilityIndex;
+import model.Car;
+import model.CarValue;
+import model.PricingEngine;
+import model.Rent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * This class assigns upgrades to a batch of waiting rents, for example the rents of an overbooked day.
+ * A car can upgrade a rent if it is better than the rent's car (as defined by Car.better) and is free for the rent days.
+ * The available cars are ordered by the better ordering (type, then automatic over manual), and every rent
+ * gets the cheapest car that can upgrade it. Each car upgrades at most one rent of a batch.
+ * The rents needing the best cars are matched first, so cheap cars are left to the rents that can use them.
+ * With n rents and m cars the matching takes O((n + m) log m), plus the cars skipped for not being free.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class UpgradeMatcher
+{
+    private static final char FIRST_TYPE = 'A';
+    private static final Comparator<CarValue> BY_RANK = Comparator.comparingInt(UpgradeMatcher::rank).thenComparingInt(CarValue::getId);
+    private final AvailabilityIndex _index;
+    private final PricingEngine _pricing;
+
+    /**
+     * Creates a new UpgradeMatcher
+     * @param index - the booked rents, used to check the cars are free (null to treat all the cars as free)
+     */
+    public UpgradeMatcher(AvailabilityIndex index)
+    {
+        this(index, PricingEngine.getDefault());
+    }
+
+    /**
+     * Creates a new UpgradeMatcher
+     * @param index - the booked rents, used to check the cars are free (null to treat all the cars as free)
+     * @param pricing - the prices used to compute the upgrade costs
+     */
+    public UpgradeMatcher(AvailabilityIndex index, PricingEngine pricing)
+    {
+        _index = index;
+        _pricing = pricing;
+    }
+
+    /**
+     * Matches upgrades to rents. The rents and cars are not changed; apply the returned plan to upgrade.
+     * @param rents - the rents waiting for an upgrade
+     * @param cars - the available cars
+     * @return the plan of upgrades
+     */
+    public UpgradePlan match(Collection<Rent> rents, Collection<Car> cars)
+    {
+        TreeSet<CarValue> available = new TreeSet<>(BY_RANK);
+        for (Car car : cars)
+            available.add(CarValue.from(car));
+        List<Rent> waiting = new ArrayList<>(rents);
+        waiting.sort(Comparator.comparingInt((Rent rent) -> minimumRank(rent.getCarValue())).reversed()
+                .thenComparingInt(Rent::getPickEpochDay));
+        UpgradePlan plan = new UpgradePlan(_index);
+        // each search starts at the first car of the rent's minimum rank
+        for (Rent rent : waiting)
+        {
+            CarValue car = available.ceiling(probe(minimumRank(rent.getCarValue())));
+            while (car != null && !canUpgrade(rent, car))
+                car = available.higher(car);
+            if (car != null)
+            {
+                available.remove(car);
+                int days = rent.howManyDays();
+                int cost = _pricing.price(car.getType(), days) - _pricing.price(rent.getCarType(), days);
+                plan.add(rent, car, cost);
+            }
+        }
+        return plan;
+    }
+
+    private boolean canUpgrade(Rent rent, CarValue car)
+    {
+        if (car.getId() == rent.getCarId() || !car.better(rent.getCarValue()))
+            return false;
+        return _index == null || _index.isFree(car.getId(), rent.getPickEpochDay(), rent.getReturnEpochDay());
+    }
+
+    // the position of a car in the better ordering: a car is better than any car of a lower rank
+    private static int rank(CarValue car)
+    {
+        return (car.getType() - FIRST_TYPE) * 2 + (car.getIsManual() ? 0 : 1);
+    }
+
+    // the lowest rank of a car better than the given car: the automatic car of the same type
+    private static int minimumRank(CarValue car)
+    {
+        return (car.getType() - FIRST_TYPE) * 2 + 1;
+    }
+
+    // the first car of a rank in the better ordering
+    private static CarValue probe(int rank)
+    {
+        return new CarValue(Car.MIN_ID, (char) (FIRST_TYPE + rank / 2), null, rank % 2 == 0);
+    }
+}
@@ -0,0 +1,96 @@
+package service;
+
+import model.AvailabilityIndex;
+import model.CarValue;
+import model.Rent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents the upgrades matched to a batch of rents by an UpgradeMatcher.
+ * The plan only records the upgrades; apply upgrades the rents and re-indexes them.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class UpgradePlan
+{
+    private final AvailabilityIndex _index;
+    private final List<Rent> _rents = new ArrayList<>();
+    private final List<CarValue> _cars = new ArrayList<>();
+    private final Map<Rent, CarValue> _carsByRent = new IdentityHashMap<>();
+    private long _cost;
+
+    // creates an empty plan, re-indexing the upgraded rents in the given index (if not null)
+    UpgradePlan(AvailabilityIndex index)
+    {
+        _index = index;
+    }
+
+    // adds the upgrade of a rent to a car
+    void add(Rent rent, CarValue car, int cost)
+    {
+        _rents.add(rent);
+        _cars.add(car);
+        _carsByRent.put(rent, car);
+        _cost += cost;
+    }
+
+    /**
+     * Returns the number of upgraded rents
+     * @return the number of upgrades
+     */
+    public int size()
+    {
+        return _rents.size();
+    }
+
+    /**
+     * Returns the upgraded rents
+     * @return the rents, in the order they were matched
+     */
+    public List<Rent> getRents()
+    {
+        return Collections.unmodifiableList(_rents);
+    }
+
+    /**
+     * Returns the car a rent is upgraded to
+     * @param rent - the rent
+     * @return the car of the upgrade, or null if the rent is not upgraded
+     */
+    public CarValue getCarFor(Rent rent)
+    {
+        return _carsByRent.get(rent);
+    }
+
+    /**
+     * Returns the total cost of the upgrades: the price differences between the new and the old cars
+     * @return the total upgrade cost
+     */
+    public long getCost()
+    {
+        return _cost;
+    }
+
+    /**
+     * Upgrades the rents to their matched cars
+     * @return the total cost of the upgrades
+     */
+    public long apply()
+    {
+        long cost = 0;
+        for (int i = 0; i < _rents.size(); i++)
+        {
+            Rent rent = _rents.get(i);
+            cost += rent.upgrade(_cars.get(i).toCar());
+            if (_index != null && _index.contains(rent))
+                _index.update(rent);
+        }
+        return cost;
+    }
+}
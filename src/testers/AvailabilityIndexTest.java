@@ -0,0 +1,108 @@
+package testers;
+
+import model.AvailabilityIndex;
+import model.Car;
+import model.Date;
+import model.Rent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the AvailabilityIndex
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class AvailabilityIndexTest {
+
+    private AvailabilityIndex index;
+    private Car car;
+    private Rent july;
+    private Rent august;
+
+    @BeforeEach
+    void setUp() {
+        index = new AvailabilityIndex();
+        car = new Car(1234567, 'B', "Toyota", true);
+        july = new Rent("Alice", car, new Date(3, 7, 2023), new Date(10, 7, 2023));
+        august = new Rent("Bob", car, new Date(1, 8, 2023), new Date(5, 8, 2023));
+        index.add(july);
+        index.add(august);
+    }
+
+    @Test
+    @DisplayName("AvailabilityIndex - Free And Busy Checks")
+    void testIsFree() {
+        assertFalse(index.isFree(1234567, new Date(5, 7, 2023), new Date(6, 7, 2023)));
+        assertFalse(index.isFree(1234567, new Date(1, 7, 2023), new Date(4, 7, 2023)));
+        assertTrue(index.isFree(1234567, new Date(10, 7, 2023), new Date(1, 8, 2023))); // return day is free
+        assertTrue(index.isFree(1234567, new Date(1, 6, 2023), new Date(3, 7, 2023)));
+        assertTrue(index.isFree(7654321, new Date(5, 7, 2023), new Date(6, 7, 2023)));
+    }
+
+    @Test
+    @DisplayName("AvailabilityIndex - Conflicts")
+    void testConflicts() {
+        List<Rent> conflicts = index.conflicts(1234567, new Date(8, 7, 2023), new Date(3, 8, 2023));
+        assertEquals(2, conflicts.size());
+        assertSame(july, conflicts.get(0));
+        assertSame(august, conflicts.get(1));
+    }
+
+    @Test
+    @DisplayName("AvailabilityIndex - Next Free Window")
+    void testNextFreeWindow() {
+        Date from = new Date(1, 7, 2023);
+        assertTrue(index.nextFreeWindow(1234567, from, 2).equals(from));
+        assertTrue(index.nextFreeWindow(1234567, from, 3).equals(new Date(10, 7, 2023)));
+        assertTrue(index.nextFreeWindow(1234567, new Date(4, 7, 2023), 30).equals(new Date(5, 8, 2023)));
+        assertThrows(IllegalArgumentException.class, () -> index.nextFreeWindow(1234567, from, 0));
+    }
+
+    @Test
+    @DisplayName("AvailabilityIndex - Remove And Update")
+    void testRemoveAndUpdate() {
+        july.setReturnDate(new Date(20, 7, 2023));
+        index.update(july);
+        assertFalse(index.isFree(1234567, new Date(15, 7, 2023), new Date(16, 7, 2023)));
+
+        assertTrue(index.remove(july));
+        assertFalse(index.remove(july));
+        assertTrue(index.isFree(1234567, new Date(1, 7, 2023), new Date(1, 8, 2023)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("AvailabilityIndex - Matches Pairwise Checks")
+    void testMatchesPairwise() {
+        Random random = new Random(7);
+        AvailabilityIndex randomIndex = new AvailabilityIndex();
+        Rent[] rents = new Rent[300];
+        Date start = new Date(1, 1, 2023);
+        for (int i = 0; i < rents.length; i++) {
+            Date pick = Date.ofEpochDay(start.getEpochDay() + random.nextInt(365));
+            Date ret = Date.ofEpochDay(pick.getEpochDay() + 1 + random.nextInt(20));
+            rents[i] = new Rent("C" + i, car, pick, ret);
+            randomIndex.add(rents[i]);
+        }
+        for (int i = 0; i < rents.length; i += 2)
+            randomIndex.remove(rents[i]);
+        for (int q = 0; q < 500; q++) {
+            int from = start.getEpochDay() + random.nextInt(380);
+            int to = from + 1 + random.nextInt(15);
+            int expected = 0;
+            for (int i = 1; i < rents.length; i += 2) {
+                if (rents[i].getPickEpochDay() < to && from < rents[i].getReturnEpochDay())
+                    expected++;
+            }
+            assertEquals(expected == 0, randomIndex.isFree(1234567, from, to));
+            assertEquals(expected, randomIndex.conflicts(1234567, from, to).size());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package testers;
+
+import model.Car;
+import model.Fleet;
+import model.PricingEngine;
+import server.BookingServer;
+import service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the BookingServer
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class BookingServerTest {
+
+    private BookingServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Fleet fleet = new Fleet();
+        fleet.add(new Car(1234567, 'B', "Toyota", true));
+        fleet.add(new Car(7654321, 'C', "BMW", false));
+        server = new BookingServer(new InetSocketAddress("127.0.0.1", 0), fleet, new BookingService());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("BookingServer - Quote, Book, Availability And Upgrade")
+    void testEndpoints() throws IOException, InterruptedException {
+        HttpResponse<String> quote = send("GET", "/quote?type=B&from=15/06/2023&to=20/06/2023");
+        assertEquals(200, quote.statusCode());
+        assertEquals("{\"type\":\"B\",\"days\":5,\"price\":750}", quote.body());
+        server.setPricing(new PricingEngine(new int[] {10, 20, 30, 40}, new int[] {60, 120, 180, 240}));
+        assertEquals("{\"type\":\"B\",\"days\":8,\"price\":140}", send("GET", "/quote?type=B&from=15/06/2023&to=23/06/2023").body());
+        server.setPricing(PricingEngine.getDefault());
+
+        HttpResponse<String> book = send("POST", "/book?name=John+Doe&car=1234567&from=15/06/2023&to=20/06/2023");
+        assertEquals(201, book.statusCode());
+        assertEquals("{\"rent\":0,\"price\":750}", book.body());
+        assertEquals("John Doe", server.getRent(0).getName());
+        assertEquals(409, send("POST", "/book?name=Jane&car=1234567&from=18/06/2023&to=22/06/2023").statusCode());
+
+        assertEquals("{\"car\":1234567,\"free\":false}", send("GET", "/available?car=1234567&from=19/06/2023&to=25/06/2023").body());
+        assertEquals("{\"car\":1234567,\"free\":true}", send("GET", "/available?car=1234567&from=20/06/2023&to=25/06/2023").body());
+
+        HttpResponse<String> upgrade = send("POST", "/upgrade?rent=0&car=7654321");
+        assertEquals(200, upgrade.statusCode());
+        assertEquals("{\"rent\":0,\"cost\":150}", upgrade.body());
+        assertEquals(409, send("POST", "/upgrade?rent=0&car=1234567").statusCode());
+    }
+
+    @Test
+    @DisplayName("BookingServer - Bad Requests")
+    void testErrors() throws IOException, InterruptedException {
+        assertEquals(400, send("GET", "/quote?type=X&from=15/06/2023&to=20/06/2023").statusCode());
+        assertEquals(400, send("GET", "/quote?type=B&from=15-06-2023&to=20/06/2023").statusCode());
+        assertEquals(400, send("GET", "/quote?type=B&from=31/02/2023&to=20/06/2023").statusCode());
+        assertEquals(400, send("GET", "/quote?type=B&from=15/06/2023&to=20/06/20234").statusCode());
+        assertEquals(400, send("POST", "/book?car=1234567&from=15/06/2023&to=20/06/2023").statusCode());
+        assertEquals(400, send("GET", "/available?car=abc&from=15/06/2023&to=20/06/2023").statusCode());
+        HttpResponse<String> escaped = send("GET", "/available?car=a%5C%22%01&from=15/06/2023&to=20/06/2023");
+        assertEquals(400, escaped.statusCode());
+        assertEquals("{\"error\":\"For input string: \\\"a\\\\\\\"\\u0001\\\"\"}", escaped.body());
+        assertEquals(404, send("GET", "/available?car=1111111&from=15/06/2023&to=20/06/2023").statusCode());
+        assertEquals(404, send("POST", "/upgrade?rent=9&car=7654321").statusCode());
+        assertEquals(405, send("GET", "/book?name=A&car=1234567&from=15/06/2023&to=20/06/2023").statusCode());
+    }
+}
@@ -0,0 +1,108 @@
+package testers;
+
+import model.Car;
+import model.Date;
+import model.Rent;
+import service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the BookingService
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class BookingServiceTest {
+
+    private BookingService service;
+    private Car car;
+
+    @BeforeEach
+    void setUp() {
+        service = new BookingService();
+        car = new Car(1234567, 'B', "Toyota", true);
+    }
+
+    @Test
+    @DisplayName("BookingService - No Double Booking")
+    void testBook() {
+        Rent rent = service.book("Alice", car, new Date(1, 7, 2023), new Date(10, 7, 2023));
+        assertNotNull(rent);
+        assertNull(service.book("Bob", car, new Date(5, 7, 2023), new Date(12, 7, 2023)));
+        assertNotNull(service.book("Bob", car, new Date(10, 7, 2023), new Date(12, 7, 2023)));
+        assertFalse(service.isFree(1234567, new Date(9, 7, 2023), new Date(11, 7, 2023)));
+        assertEquals(2, service.size());
+    }
+
+    @Test
+    @DisplayName("BookingService - Extend")
+    void testExtend() {
+        Rent rent = service.book("Alice", car, new Date(1, 7, 2023), new Date(10, 7, 2023));
+        service.book("Bob", car, new Date(15, 7, 2023), new Date(20, 7, 2023));
+
+        assertTrue(service.extend(rent, new Date(15, 7, 2023)));
+        assertEquals(14, rent.howManyDays());
+        assertFalse(service.extend(rent, new Date(16, 7, 2023))); // Bob has the car
+        assertFalse(service.extend(rent, new Date(1, 7, 2023))); // not after the pickup date
+        assertTrue(service.extend(rent, new Date(5, 7, 2023)));
+        assertTrue(service.isFree(1234567, new Date(5, 7, 2023), new Date(15, 7, 2023)));
+    }
+
+    @Test
+    @DisplayName("BookingService - Upgrade Moves The Rent To The New Car")
+    void testUpgrade() {
+        Car better = new Car(7654321, 'D', "BMW", false);
+        Rent rent = service.book("Alice", car, new Date(1, 7, 2023), new Date(4, 7, 2023));
+        Rent other = service.book("Bob", better, new Date(3, 7, 2023), new Date(5, 7, 2023));
+
+        assertEquals(-1, service.upgrade(rent, better)); // the better car is busy
+        assertTrue(service.cancel(other));
+        assertEquals(3 * 240 - 3 * 150, service.upgrade(rent, better));
+        assertEquals(7654321, rent.getCarId());
+        assertTrue(service.isFree(1234567, new Date(1, 7, 2023), new Date(4, 7, 2023)));
+        assertFalse(service.isFree(7654321, new Date(1, 7, 2023), new Date(4, 7, 2023)));
+        assertEquals(-1, service.upgrade(rent, car)); // not better
+
+        // a same-class upgrade costs nothing but still happens
+        Rent manual = service.book("Carol", car, new Date(10, 7, 2023), new Date(12, 7, 2023));
+        assertEquals(0, service.upgrade(manual, new Car(1111111, car.getType(), "Kia", false)));
+        assertEquals(1111111, manual.getCarId());
+    }
+
+    @Test
+    @DisplayName("BookingService - Concurrent Agents Never Double Book")
+    void testConcurrentBooking() throws Exception {
+        ExecutorService agents = Executors.newFixedThreadPool(8);
+        List<Callable<Rent>> tasks = new ArrayList<>();
+        for (int agent = 0; agent < 64; agent++) {
+            int day = 1 + agent % 20;
+            tasks.add(() -> service.book("Agent", car, new Date(day, 7, 2023), new Date(day + 3, 7, 2023)));
+        }
+        List<Rent> booked = new ArrayList<>();
+        for (Future<Rent> result : agents.invokeAll(tasks)) {
+            if (result.get() != null)
+                booked.add(result.get());
+        }
+        agents.shutdown();
+
+        for (int i = 0; i < booked.size(); i++) {
+            for (int j = i + 1; j < booked.size(); j++) {
+                Rent a = booked.get(i);
+                Rent b = booked.get(j);
+                assertFalse(a.getPickEpochDay() < b.getReturnEpochDay() && b.getPickEpochDay() < a.getReturnEpochDay());
+            }
+        }
+        assertEquals(booked.size(), service.size());
+    }
+}
@@ -0,0 +1,156 @@
+package testers;
+
+import io.BulkImporter;
+import io.ImportFormat;
+import io.ImportRejection;
+import io.ImportStats;
+import model.Car;
+import model.CarValue;
+import model.Fleet;
+import model.Rent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming bulk importer
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class BulkImporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Bulk Importer - CSV Cars Are Validated Instead Of Defaulted")
+    void testCars() throws IOException {
+        Path file = dir.resolve("cars.csv");
+        Files.writeString(file, String.join("\n",
+                "id,type,brand,manual",
+                "1000001,A,Toyota,true",
+                "1000002,D,\"Mercedes, Benz\",false",
+                "",
+                "123,B,Kia,true",
+                "1000003,E,Kia,true",
+                "1000001,C,Mazda,false",
+                "1000004,B,Kia,maybe",
+                "1000005,B,Kia",
+                "abc,B,Kia,true",
+                "1000006,C,Mazda,FALSE"));
+        Fleet fleet = new Fleet();
+        List<ImportRejection> rejects = new ArrayList<>();
+        ImportStats stats = new BulkImporter(2, 2).importCars(file, fleet, rejects::add);
+
+        assertEquals(3, fleet.size());
+        assertEquals("Mercedes, Benz", fleet.get(1000002).getBrand());
+        assertFalse(fleet.get(1000006).getIsManual());
+        assertEquals('A', fleet.get(1000001).getType());
+        assertFalse(fleet.contains(9999999));
+        long[] lines = rejects.stream().mapToLong(ImportRejection::getLine).toArray();
+        assertArrayEquals(new long[]{5, 6, 7, 8, 9, 10}, lines);
+        assertEquals("id must be a 7 digits number", rejects.get(0).getReason());
+        assertEquals("type must be A, B, C or D", rejects.get(1).getReason());
+        assertEquals("duplicate car id 1000001", rejects.get(2).getReason());
+        assertEquals("manual must be true or false", rejects.get(3).getReason());
+        assertEquals("expected 4 fields", rejects.get(4).getReason());
+        assertEquals("line 10: id is not a number: abc,B,Kia,true", rejects.get(5).toString());
+        assertEquals(9, stats.getRowsRead());
+        assertEquals(3, stats.getRowsImported());
+        assertEquals(6, stats.getRowsRejected());
+        assertTrue(stats.isDone());
+    }
+
+    @Test
+    @DisplayName("Bulk Importer - Parallel JSONL Rents Reach The Sink In Line Order")
+    void testRents() throws IOException {
+        CarValue car = new CarValue(1000001, 'B', "Toyota", true);
+        StringBuilder jsonl = new StringBuilder();
+        List<Long> rejectedLines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int day = 1 + i % 28;
+            if (i % 500 == 7) {
+                jsonl.append("{\"name\":\"Bad\",\"carId\":1000001,\"from\":\"31/02/2022\",\"to\":\"05/03/2022\"}\n");
+                rejectedLines.add(i + 1L);
+            } else if (i % 500 == 8) {
+                jsonl.append("{\"name\":\"Bad\",\"carId\":1000002,\"from\":\"01/03/2022\",\"to\":\"05/03/2022\"}\n");
+                rejectedLines.add(i + 1L);
+            } else if (i % 500 == 9) {
+                jsonl.append("{\"name\":\"Bad\",\"carId\":1000001,\"from\":\"05/03/2022\",\"to\":\"05/03/2022\"}\n");
+                rejectedLines.add(i + 1L);
+            } else {
+                jsonl.append("{ \"name\": \"Client \\\"").append(i).append("\\\"\", \"carId\": 1000001, \"from\": \"")
+                        .append(String.format("%02d", day)).append("/01/2022\", \"to\": \"")
+                        .append(String.format("%02d", day)).append("/02/2022\", \"note\": null }\n");
+            }
+        }
+        List<Rent> rents = new ArrayList<>();
+        List<ImportRejection> rejects = new ArrayList<>();
+        ImportStats stats = new BulkImporter(4, 16, 3).importRents(new StringReader(jsonl.toString()),
+                ImportFormat.JSONL, id -> id == car.getId() ? car : null, rents::add, rejects::add);
+
+        assertEquals(5000 - 30, rents.size());
+        assertEquals(30, stats.getRowsRejected());
+        for (int r = 0, i = 0; r < rents.size(); i++) {
+            if (rejectedLines.contains(i + 1L))
+                continue;
+            Rent rent = rents.get(r++);
+            assertEquals("Client \"" + i + "\"", rent.getName());
+            assertEquals(1 + i % 28, rent.getPickDate().getDay());
+            assertEquals(31, rent.howManyDays());
+            assertSame(car, rent.getCarValue());
+        }
+        assertEquals(rejectedLines, rejects.stream().map(ImportRejection::getLine).collect(Collectors.toList()));
+        assertEquals("from: illegal date 31/02/2022", rejects.get(0).getReason());
+        assertEquals("unknown car id 1000002", rejects.get(1).getReason());
+        assertEquals("return date must be after the pickup date", rejects.get(2).getReason());
+    }
+
+    @Test
+    @DisplayName("Bulk Importer - Failures Of The Sink Or The Input Stop The Import")
+    void testFailures() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 100000; i++)
+            csv.append(1000000 + i).append(",A,Kia,true\n");
+        BulkImporter importer = new BulkImporter(2, 64, 2);
+        int[] sunk = new int[1];
+        IllegalStateException sinkFailure = assertThrows(IllegalStateException.class, () ->
+                importer.importCars(new StringReader(csv.toString()), ImportFormat.CSV, car -> {
+                    if (++sunk[0] == 1000)
+                        throw new IllegalStateException("disk full");
+                }, reject -> fail(reject.toString())));
+        assertEquals("disk full", sinkFailure.getMessage());
+        // the window of 2 batches kept the reader close to the sink
+        assertTrue(importer.getStats().getRowsRead() <= 1000 + 3 * 64);
+        assertTrue(importer.getStats().isDone());
+
+        Reader broken = new Reader() {
+            private final Reader _in = new StringReader(csv.substring(0, 20000));
+
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int read = _in.read(buffer, offset, length);
+                if (read < 0)
+                    throw new IOException("connection reset");
+                return read;
+            }
+
+            public void close() {
+            }
+        };
+        IOException inputFailure = assertThrows(IOException.class, () ->
+                importer.importCars(broken, ImportFormat.CSV, car -> { }, reject -> { }));
+        assertEquals("connection reset", inputFailure.getMessage());
+    }
+}
@@ -0,0 +1,78 @@
+package testers;
+
+import model.CalendarTable;
+import model.Car;
+import model.Date;
+import model.DayIterator;
+import model.Rent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the CalendarTable and the DayIterator
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class CalendarTableTest {
+
+    @Test
+    @DisplayName("CalendarTable - Every Legal Day Matches java.time")
+    void testAllDays() {
+        int offset = new Date(1, 1, 1970).getEpochDay();
+        LocalDate day = LocalDate.of(1000, 1, 1);
+        assertEquals(CalendarTable.FIRST_EPOCH_DAY, offset + day.toEpochDay());
+        for (int epochDay = CalendarTable.FIRST_EPOCH_DAY; epochDay <= CalendarTable.LAST_EPOCH_DAY; epochDay++) {
+            assertEquals(day.getYear(), CalendarTable.yearOf(epochDay));
+            assertEquals(day.getMonthValue(), CalendarTable.monthOf(epochDay));
+            assertEquals(day.getDayOfMonth(), CalendarTable.dayOf(epochDay));
+            if (day.getDayOfMonth() == 1)
+                assertEquals(day.lengthOfMonth(), CalendarTable.daysInMonth(day.getMonthValue(), day.getYear()));
+            day = day.plusDays(1);
+        }
+        assertEquals(LocalDate.of(9999, 12, 31).toEpochDay() + offset, CalendarTable.LAST_EPOCH_DAY);
+    }
+
+    @Test
+    @DisplayName("CalendarTable - Legal Dates And Leap Years")
+    void testLegal() {
+        assertTrue(CalendarTable.isLeap(2000));
+        assertTrue(CalendarTable.isLeap(2024));
+        assertFalse(CalendarTable.isLeap(1900));
+        assertFalse(CalendarTable.isLeap(2023));
+        assertTrue(CalendarTable.isLegal(29, 2, 2024));
+        assertFalse(CalendarTable.isLegal(29, 2, 2100));
+        assertFalse(CalendarTable.isLegal(31, 6, 2023));
+        assertFalse(CalendarTable.isLegal(0, 1, 2023));
+        assertFalse(CalendarTable.isLegal(1, 13, 2023));
+        assertFalse(CalendarTable.isLegal(1, 1, 999));
+        assertFalse(CalendarTable.isLegal(1, 1, 10000));
+        assertEquals(new Date(1, 1, 2000), new Date(31, 12, 9999).tomorrow());
+        assertEquals(new Date(1, 3, 2100), new Date(28, 2, 2100).tomorrow());
+    }
+
+    @Test
+    @DisplayName("DayIterator - Rent Days Without Dates")
+    void testRentDays() {
+        Rent rent = new Rent("Alice", new Car(1234567, 'B', "Toyota", true), new Date(27, 12, 2023), new Date(2, 3, 2024));
+        DayIterator days = rent.days();
+        Date expected = new Date(27, 12, 2023);
+        int count = 0;
+        while (days.hasNext()) {
+            assertEquals(expected.getEpochDay(), days.nextInt());
+            assertEquals(expected.getDay(), days.getDay());
+            assertEquals(expected.getMonth(), days.getMonth());
+            assertEquals(expected.getYear(), days.getYear());
+            expected = expected.tomorrow();
+            count++;
+        }
+        assertEquals(rent.howManyDays(), count);
+        assertEquals(rent.getReturnDate(), expected);
+        assertThrows(NoSuchElementException.class, days::nextInt);
+    }
+}
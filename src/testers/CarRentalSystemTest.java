@@ -334,6 +334,41 @@ public class CarRentalSystemTest {
         assertEquals(2024, nextYear.getYear());
     }
 
+    @Test
+    @DisplayName("Date Epoch Day - Kept In Sync With Setters")
+    void testDateEpochDay() {
+        Date date = new Date(28, 2, 2024);
+        Date next = date.tomorrow();
+
+        assertEquals(date.getEpochDay() + 1, next.getEpochDay());
+        assertEquals(29, next.getDay());
+        assertEquals(1, next.tomorrow().getDay());
+        assertEquals(3, next.tomorrow().getMonth());
+
+        date.setYear(2023);
+        assertEquals(365, date.difference(new Date(28, 2, 2024)));
+        assertEquals(next.tomorrow().getEpochDay(), new Date(1, 3, 2024).getEpochDay());
+    }
+
+    @Test
+    @DisplayName("Date of - Interned And Read-Only")
+    void testDateOf() {
+        Date first = Date.of(15, 6, 2023);
+        Date second = Date.of(15, 6, 2023);
+
+        assertSame(first, second);
+        assertTrue(first.equals(new Date(15, 6, 2023)));
+
+        first.setDay(20);
+        assertEquals(15, first.getDay());
+
+        Date invalid = Date.of(31, 4, 2023);
+        assertSame(Date.of(1, 1, 2000), invalid);
+
+        Date outOfRange = Date.of(1, 1, 1900);
+        assertEquals(1900, outOfRange.getYear());
+    }
+
     // ==================== RENT CLASS TESTS ====================
 
     @Test
@@ -571,6 +606,49 @@ public class CarRentalSystemTest {
         assertEquals(100, rent.getPrice()); // 1 * 100
     }
 
+    @Test
+    @DisplayName("Rent getPrice Method - Cached Price Follows Every Change")
+    void testPriceAfterChanges() {
+        Car car = new Car(1234567, 'A', "Toyota", true);
+        Rent rent = new Rent("John Doe", car, new Date(1, 6, 2023), new Date(4, 6, 2023));
+        assertEquals(300, rent.getPrice());
+        Rent copy = new Rent(rent);
+
+        rent.setReturnDate(new Date(8, 6, 2023));
+        assertEquals(630, rent.getPrice());      // 1 week
+        rent.setPickDate(new Date(2, 6, 2023));
+        assertEquals(600, rent.getPrice());      // 6 days
+        rent.setCar(new Car(7654321, 'B', "BMW", true));
+        assertEquals(900, rent.getPrice());
+        assertEquals(540, rent.upgrade(new Car(7654321, 'D', "BMW", true)));
+        assertEquals(1440, rent.getPrice());
+        assertEquals(300, copy.getPrice());
+
+        // overlap moves the dates of both the rent and the merged rent
+        Rent other = new Rent("John Doe", car, new Date(3, 6, 2023), new Date(10, 6, 2023));
+        assertNotNull(copy.overlap(other));
+        assertEquals(9, copy.howManyDays());
+        assertEquals(830, copy.getPrice());      // 630 + 2 * 100
+    }
+
+    @Test
+    @DisplayName("Rent getPrice Method - Racing Reader Never Keeps An Old Price")
+    void testPriceWithRacingReader() throws InterruptedException {
+        Car cheap = new Car(1234567, 'A', "Toyota", true);
+        Car dear = new Car(7654321, 'D', "BMW", true);
+        Rent rent = new Rent("John Doe", cheap, new Date(1, 6, 2023), new Date(4, 6, 2023));
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 200000; i++)
+                rent.getPrice();
+        });
+        reader.start();
+        for (int i = 0; i < 200000; i++)
+            rent.setCar(i % 2 == 0 ? dear : cheap);
+        reader.join();
+        assertEquals(300, rent.getPrice());    // the last car set is the cheap one
+        assertEquals(300, new Rent(rent).getPrice());
+    }
+
     @Test
     @DisplayName("Integration Test - Complete Rental Scenario")
     void testCompleteRentalScenario() {
@@ -0,0 +1,82 @@
+package testers;
+
+import io.ColumnarLedger;
+import io.LedgerCursor;
+import model.Car;
+import model.Date;
+import model.PricingEngine;
+import model.Rent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ColumnarLedger
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class ColumnarLedgerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("ColumnarLedger - Cursor And Scans Match The Rents")
+    void testLedger() throws IOException {
+        char[] types = {'A', 'B', 'C', 'D'};
+        List<Rent> rents = new ArrayList<>();
+        int start = new Date(1, 1, 2023).getEpochDay();
+        for (int i = 0; i < 5000; i++) {
+            Car car = new Car(1000000 + i % 40, types[i % 4], "Toyota", i % 3 == 0);
+            Date pick = Date.ofEpochDay(start + i % 365);
+            rents.add(new Rent("Client" + i % 50, car, pick, Date.ofEpochDay(pick.getEpochDay() + 1 + i % 20)));
+        }
+        Path file = dir.resolve("ledger.bin");
+        ColumnarLedger.write(file, rents);
+        ColumnarLedger ledger = ColumnarLedger.open(file);
+
+        assertEquals(rents.size(), ledger.size());
+        long revenue = 0;
+        long days = 0;
+        long[] byClass = new long[4];
+        LedgerCursor cursor = ledger.cursor();
+        for (Rent rent : rents) {
+            assertTrue(cursor.next());
+            assertEquals(rent.getName(), cursor.getName());
+            assertEquals(rent.getCarId(), cursor.getCarId());
+            assertEquals(rent.getCarType(), cursor.getCarType());
+            assertEquals(rent.getPickEpochDay(), cursor.getPickEpochDay());
+            assertEquals(rent.howManyDays(), cursor.howManyDays());
+            assertEquals(rent.getPrice(), cursor.getPrice());
+            revenue += rent.getPrice();
+            days += rent.howManyDays();
+            byClass[rent.getCarType() - 'A'] += rent.getPrice();
+        }
+        assertFalse(cursor.next());
+
+        PricingEngine pricing = PricingEngine.getDefault();
+        assertEquals(revenue, ledger.totalRevenue(pricing));
+        assertEquals(days, ledger.totalDays());
+        assertArrayEquals(byClass, ledger.revenueByClass(pricing));
+
+        int from = start + 100;
+        int expected = 0;
+        for (Rent rent : rents) {
+            if (rent.getCarId() == 1000007 && rent.getPickEpochDay() < from + 10 && from < rent.getReturnEpochDay())
+                expected++;
+        }
+        assertEquals(expected, ledger.countOverlaps(1000007, from, from + 10));
+
+        cursor.moveTo(42);
+        assertEquals(rents.get(42).getName(), cursor.getName());
+        assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(rents.size()));
+    }
+}
@@ -0,0 +1,107 @@
+package testers;
+
+import model.Car;
+import model.CustomerRegistry;
+import model.Date;
+import model.Rent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the CustomerRegistry
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class CustomerRegistryTest {
+
+    private final Car carB = new Car(1000001, 'B', "Toyota", true);
+    private final Car carD = new Car(1000002, 'D', "BMW", false);
+
+    private static String copy(String name) {
+        return new String(name.toCharArray());
+    }
+
+    @Test
+    @DisplayName("Customer Registry - Names Get Ids And Rents Share One Name")
+    void testInterning() {
+        CustomerRegistry registry = new CustomerRegistry();
+        assertEquals(0, registry.idOf("Rama"));
+        assertEquals(1, registry.idOf("Dana"));
+        assertEquals(0, registry.idOf(copy("Rama")));
+        assertEquals(-1, registry.find("Avi"));
+        assertEquals(2, registry.size());
+        assertSame(registry.getName(1), registry.intern(copy("Dana")));
+
+        Rent first = new Rent(copy("Avi"), carB, new Date(1, 1, 2024), new Date(5, 1, 2024));
+        Rent second = new Rent(copy("Avi"), carD, new Date(1, 2, 2024), new Date(3, 2, 2024));
+        assertNotSame(first.getName(), second.getName());
+        assertEquals(2, registry.add(first));
+        assertEquals(2, registry.add(second));
+        assertEquals(-1, registry.add(second));
+        assertSame(first.getName(), second.getName());
+        assertSame(registry.getName(2), first.getName());
+        assertEquals(List.of(first, second), registry.getRents("Avi"));
+        assertTrue(registry.getRents("Nobody").isEmpty());
+        assertEquals(2, registry.rentCount(2));
+    }
+
+    @Test
+    @DisplayName("Customer Registry - Overlapping Rents Are Those Rent.overlap Merges")
+    void testOverlapping() {
+        CustomerRegistry registry = new CustomerRegistry();
+        Rent rent = new Rent("Rama", carB, new Date(10, 3, 2024), new Date(20, 3, 2024));
+        Rent inside = new Rent("Rama", carB, new Date(12, 3, 2024), new Date(14, 3, 2024));
+        Rent touching = new Rent("Rama", carB, new Date(20, 3, 2024), new Date(25, 3, 2024));
+        Rent later = new Rent("Rama", carB, new Date(21, 3, 2024), new Date(25, 3, 2024));
+        Rent otherCar = new Rent("Rama", carD, new Date(12, 3, 2024), new Date(14, 3, 2024));
+        Rent sameCar = new Rent("Rama", new Car(1000003, 'B', "Toyota", true), new Date(18, 3, 2024), new Date(22, 3, 2024));
+        Rent otherClient = new Rent("Dana", carB, new Date(12, 3, 2024), new Date(14, 3, 2024));
+        for (Rent r : new Rent[]{rent, inside, touching, later, otherCar, sameCar, otherClient})
+            registry.add(r);
+
+        List<Rent> overlapping = registry.overlapping(rent);
+        assertEquals(List.of(inside, touching, sameCar), overlapping, "an equal car of another id overlaps");
+        for (Rent r : new Rent[]{inside, touching, later, otherCar, sameCar, otherClient})
+            assertEquals(overlapping.contains(r), new Rent(rent).overlap(r) != null, r.toString());
+        assertTrue(registry.overlapping(new Rent("Nobody", carB, new Date(12, 3, 2024), new Date(14, 3, 2024))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Customer Registry - Loyalty Totals Follow Removes And Renames")
+    void testLoyalty() {
+        CustomerRegistry registry = new CustomerRegistry();
+        Rent rama = new Rent("Rama", carD, new Date(1, 1, 2024), new Date(8, 1, 2024));
+        Rent dana1 = new Rent("Dana", carB, new Date(1, 1, 2024), new Date(3, 1, 2024));
+        Rent dana2 = new Rent("Dana", carB, new Date(1, 2, 2024), new Date(3, 2, 2024));
+        Rent avi = new Rent("Avi", carB, new Date(1, 1, 2024), new Date(2, 1, 2024));
+        registry.add(rama);
+        registry.add(dana1);
+        registry.add(dana2);
+        registry.add(avi);
+        int ramaId = registry.find("Rama");
+        int danaId = registry.find("Dana");
+        int aviId = registry.find("Avi");
+        assertEquals(rama.getPrice(), registry.totalPrice(ramaId));
+        assertEquals(dana1.getPrice() + dana2.getPrice(), registry.totalPrice(danaId));
+        assertEquals(4, registry.totalDays(danaId));
+        assertArrayEquals(new int[]{ramaId, danaId}, registry.topCustomers(2));
+
+        assertTrue(registry.remove(rama));
+        assertFalse(registry.remove(rama));
+        assertEquals(0, registry.totalPrice(ramaId));
+        assertArrayEquals(new int[]{danaId, aviId}, registry.topCustomers(5));
+
+        dana2.setName("Avi");
+        assertEquals(aviId, registry.update(dana2));
+        assertSame(registry.getName(aviId), dana2.getName());
+        assertEquals(List.of(dana1), registry.getRents(danaId));
+        assertEquals(List.of(avi, dana2), registry.getRents(aviId));
+        assertArrayEquals(new int[]{aviId, danaId}, registry.topCustomers(5));
+        assertEquals(0, registry.topCustomers(0).length);
+    }
+}
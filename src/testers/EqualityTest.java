@@ -0,0 +1,101 @@
+package testers;
+
+import model.Car;
+import model.CarValue;
+import model.Date;
+import model.LocalDay;
+import model.Rent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for equals, hashCode and the orderings of Car, Date and Rent
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class EqualityTest {
+
+    @Test
+    @DisplayName("Car - Hashed By Type Brand And Gear")
+    void testCarHash() {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        Car sameOtherId = new Car(7654321, 'B', "Toyota", true);
+        Object asObject = sameOtherId;
+
+        assertTrue(car.equals(asObject));
+        assertEquals(car.hashCode(), sameOtherId.hashCode());
+        assertEquals(CarValue.from(car).hashCode(), car.hashCode());
+        assertNotEquals(car, new Car(1234567, 'B', "Toyota", false));
+        assertNotEquals(car, "Toyota");
+        assertTrue(new HashSet<>(List.of(car)).contains(sameOtherId));
+    }
+
+    @Test
+    @DisplayName("Car - Better Order")
+    void testBetterOrder() {
+        Car manualA = new Car(1000001, 'A', "Kia", true);
+        Car autoA = new Car(1000002, 'A', "Kia", false);
+        Car manualB = new Car(1000003, 'B', "Kia", true);
+        Car autoD = new Car(1000004, 'D', "Kia", false);
+        List<Car> cars = new ArrayList<>(List.of(autoD, manualB, autoA, manualA));
+        cars.sort(Car.BETTER_ORDER);
+
+        assertEquals(List.of(manualA, autoA, manualB, autoD), cars);
+        for (int i = 1; i < cars.size(); i++)
+            assertTrue(cars.get(i).better(cars.get(i - 1)));
+
+        TreeMap<Car, Integer> byRank = new TreeMap<>(Car.BETTER_ORDER.thenComparingInt(Car::getId));
+        for (Car car : cars)
+            byRank.put(car, car.getId());
+        assertSame(manualB, byRank.higherKey(autoA));
+    }
+
+    @Test
+    @DisplayName("Date - Hashed And Sorted By Day")
+    void testDate() {
+        Date date = new Date(29, 2, 2024);
+        Object same = Date.of(29, 2, 2024);
+
+        assertTrue(date.equals(same));
+        assertEquals(date.hashCode(), same.hashCode());
+        assertEquals(LocalDay.from(date).hashCode(), date.hashCode());
+        assertTrue(date.compareTo(new Date(1, 3, 2024)) < 0);
+        assertTrue(date.compareTo(new Date(28, 2, 2024)) > 0);
+        assertEquals(0, date.compareTo(Date.of(29, 2, 2024)));
+
+        TreeSet<Date> dates = new TreeSet<>(List.of(new Date(3, 1, 2024), date, new Date(1, 1, 2023)));
+        assertEquals(new Date(1, 1, 2023), dates.first());
+        assertEquals(date, dates.last());
+    }
+
+    @Test
+    @DisplayName("Rent - Dedup In Hashed And Sorted Collections")
+    void testRentDedup() {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        Rent rent = new Rent("Alice", car, new Date(1, 7, 2023), new Date(5, 7, 2023));
+        Rent copy = new Rent(rent);
+        Rent other = new Rent("Bob", car, new Date(1, 7, 2023), new Date(5, 7, 2023));
+
+        assertEquals(rent, copy);
+        assertEquals(rent.hashCode(), copy.hashCode());
+        assertEquals(rent.toRecord().hashCode(), rent.hashCode());
+        Set<Rent> unique = new HashSet<>(List.of(rent, copy, other));
+        assertEquals(2, unique.size());
+
+        ConcurrentSkipListMap<Date, Rent> byPick = new ConcurrentSkipListMap<>();
+        byPick.put(rent.getPickDate(), rent);
+        byPick.put(new Date(10, 7, 2023), other);
+        assertSame(rent, byPick.floorEntry(new Date(4, 7, 2023)).getValue());
+    }
+}
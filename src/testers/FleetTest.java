@@ -0,0 +1,88 @@
+package testers;
+
+import model.Car;
+import model.Fleet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Fleet
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class FleetTest {
+
+    private Fleet fleet;
+    private Car toyotaAutoC;
+    private Car toyotaManualB;
+    private Car hondaAutoC;
+
+    @BeforeEach
+    void setUp() {
+        fleet = new Fleet();
+        toyotaAutoC = new Car(1000001, 'C', "Toyota", false);
+        toyotaManualB = new Car(1000002, 'B', "Toyota", true);
+        hondaAutoC = new Car(1000003, 'C', "Honda", false);
+        fleet.add(toyotaAutoC);
+        fleet.add(toyotaManualB);
+        fleet.add(hondaAutoC);
+    }
+
+    @Test
+    @DisplayName("Fleet - Lookups By Id And Indexes")
+    void testLookups() {
+        assertEquals(3, fleet.size());
+        assertSame(hondaAutoC, fleet.get(1000003));
+        assertNull(fleet.get(1234567));
+        assertEquals(2, fleet.find('C', false).size());
+        assertEquals(0, fleet.find('C', true).size());
+        assertEquals(1, fleet.findByType('B').size());
+        assertEquals(2, fleet.findByGear(false).size());
+        assertEquals(2, fleet.findByBrand("Toyota").size());
+        assertTrue(fleet.findByBrand("BMW").isEmpty());
+        assertTrue(fleet.find('E', false).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Fleet - Duplicate Id Is Rejected")
+    void testDuplicateId() {
+        assertFalse(fleet.add(new Car(1000001, 'A', "Mazda", true)));
+        assertEquals(3, fleet.size());
+        assertThrows(IllegalStateException.class, () -> new Fleet().add(toyotaAutoC));
+    }
+
+    @Test
+    @DisplayName("Fleet - Indexes Follow Car Setters")
+    void testIndexesFollowSetters() {
+        toyotaManualB.setType('C');
+        toyotaManualB.setIsManual(false);
+        hondaAutoC.setBrand("Toyota");
+
+        assertEquals(3, fleet.find('C', false).size());
+        assertTrue(fleet.findByType('B').isEmpty());
+        assertEquals(3, fleet.findByBrand("Toyota").size());
+        assertTrue(fleet.findByBrand("Honda").isEmpty());
+
+        toyotaAutoC.setId(1000009);
+        assertNull(fleet.get(1000001));
+        assertSame(toyotaAutoC, fleet.get(1000009));
+
+        hondaAutoC.setId(1000009); // taken by another car of the fleet
+        assertEquals(1000003, hondaAutoC.getId());
+    }
+
+    @Test
+    @DisplayName("Fleet - Removed Car Is Detached")
+    void testRemove() {
+        assertSame(toyotaManualB, fleet.remove(1000002));
+        assertNull(fleet.remove(1000002));
+        toyotaManualB.setType('D');
+
+        assertEquals(2, fleet.size());
+        assertTrue(fleet.findByType('D').isEmpty());
+        assertEquals(1, fleet.findByBrand("Toyota").size());
+    }
+}
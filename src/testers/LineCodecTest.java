@@ -0,0 +1,81 @@
+package testers;
+
+import io.DateCodec;
+import io.RentLineCodec;
+import model.Car;
+import model.CarValue;
+import model.Date;
+import model.LocalDay;
+import model.Rent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the DateCodec and the RentLineCodec
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class LineCodecTest {
+
+    @Test
+    @DisplayName("DateCodec - Parse With Date Validation")
+    void testParse() {
+        assertEquals(new Date(29, 2, 2024).getEpochDay(), DateCodec.parse("29/02/2024", 0));
+        assertEquals(new Date(5, 7, 1999).getEpochDay(), DateCodec.parse("From:05/07/1999", 5));
+        int fallback = new Date(1, 1, 2000).getEpochDay();
+        assertEquals(fallback, DateCodec.parse("29/02/2023", 0)); // not a leap year
+        assertEquals(fallback, DateCodec.parse("31/04/2023", 0));
+        assertEquals(fallback, DateCodec.parse("01/01/0999", 0));
+        assertThrows(IllegalArgumentException.class, () -> DateCodec.parse("1/1/2023", 0));
+        assertThrows(IllegalArgumentException.class, () -> DateCodec.parse("01-01-2023", 0));
+        assertThrows(IllegalArgumentException.class, () -> DateCodec.parse("01/0x/2023", 0));
+
+        ByteBuffer bytes = ByteBuffer.wrap("..12/11/2022".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(new Date(12, 11, 2022).getEpochDay(), DateCodec.parse(bytes, 2));
+        assertEquals(0, bytes.position());
+    }
+
+    @Test
+    @DisplayName("DateCodec - Format Like Date.toString")
+    void testFormat() {
+        Date date = new Date(2, 3, 1998);
+        StringBuilder out = new StringBuilder("at ");
+        DateCodec.format(date, out);
+        assertEquals("at " + date, out.toString());
+        assertEquals("31/12/2069", DateCodec.formatEpochDay(new Date(31, 12, 2069).getEpochDay(), new StringBuilder()).toString());
+        assertEquals("01/01/2000", DateCodec.formatEpochDay(-1, new StringBuilder()).toString());
+        assertEquals("15/06/2023", DateCodec.format(LocalDay.of(15, 6, 2023), new StringBuilder()).toString());
+
+        ByteBuffer buffer = ByteBuffer.allocate(DateCodec.LENGTH);
+        DateCodec.put(LocalDay.from(date), buffer);
+        assertEquals(date.toString(), new String(buffer.array(), StandardCharsets.US_ASCII));
+        assertEquals(date.getEpochDay(), DateCodec.parse(buffer, 0));
+    }
+
+    @Test
+    @DisplayName("RentLineCodec - Round Trip Of Rent.toString")
+    void testRentLine() {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        Rent rent = new Rent("Rama From:Haifa", car, new Date(30, 10, 2022), new Date(12, 11, 2022));
+        String line = rent.toString();
+        assertEquals(line, RentLineCodec.format(rent, new StringBuilder()).toString());
+
+        RentLineCodec codec = new RentLineCodec();
+        codec.parse(line);
+        assertEquals("Rama From:Haifa", codec.getName());
+        assertEquals('B', codec.getCarType());
+        assertEquals(13, codec.getDays());
+        assertEquals(rent.getPrice(), codec.getPrice());
+        assertEquals(rent, codec.toRent(CarValue.from(car)));
+
+        assertThrows(IllegalArgumentException.class, () -> codec.parse("Name:Rama From:30/10/2022 Type:B Days:13 Price:1845"));
+        assertThrows(IllegalArgumentException.class, () -> codec.parse("Rama From:30/10/2022 To:12/11/2022 Type:B Days:13 Price:1845"));
+        assertThrows(IllegalArgumentException.class, () -> codec.parse(""));
+    }
+}
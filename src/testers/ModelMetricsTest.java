@@ -0,0 +1,140 @@
+package testers;
+
+import metrics.LatencyHistogram;
+import metrics.ModelMetrics;
+import metrics.ModelMetrics.Fallback;
+import metrics.ModelMetrics.Op;
+import model.Car;
+import model.Date;
+import model.Rent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ModelMetrics and the LatencyHistogram
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class ModelMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        ModelMetrics.reset();
+        ModelMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ModelMetrics.setEnabled(false);
+        ModelMetrics.setTiming(false);
+        ModelMetrics.reset();
+    }
+
+    @Test
+    @DisplayName("ModelMetrics - Counts Rent Operations And Upgrade Revenue")
+    void testCounts() {
+        Car car = new Car(1234567, 'A', "Toyota", true);
+        Rent rent = new Rent("Rama", car, new Date(1, 6, 2023), new Date(4, 6, 2023));
+        Rent other = new Rent("Rama", car, new Date(3, 6, 2023), new Date(8, 6, 2023));
+        assertEquals(2, ModelMetrics.getCount(Op.RENT_CREATE));
+
+        assertNotNull(rent.overlap(other));             // creates the merged rent
+        assertNull(rent.overlap(new Rent("Dan", car, new Date(1, 6, 2023), new Date(2, 6, 2023))));
+        assertEquals(2, ModelMetrics.getCount(Op.OVERLAP));
+        assertEquals(1, ModelMetrics.getMerged());
+        assertEquals(4, ModelMetrics.getCount(Op.RENT_CREATE));
+
+        rent = new Rent("Rama", car, new Date(1, 6, 2023), new Date(4, 6, 2023));
+        assertEquals(150, rent.upgrade(new Car(7654321, 'B', "BMW", true)));
+        assertEquals(0, rent.upgrade(new Car(7654321, 'A', "BMW", true)));
+        assertEquals(2, ModelMetrics.getCount(Op.UPGRADE));
+        assertEquals(1, ModelMetrics.getUpgraded());
+        assertEquals(150, ModelMetrics.getUpgradeRevenue());
+
+        long prices = ModelMetrics.getCount(Op.PRICE);
+        rent.getPrice();
+        assertEquals(prices + 1, ModelMetrics.getCount(Op.PRICE));
+        long differences = ModelMetrics.getCount(Op.DIFFERENCE);
+        new Date(1, 1, 2023).difference(new Date(5, 1, 2023));
+        assertEquals(differences + 1, ModelMetrics.getCount(Op.DIFFERENCE));
+    }
+
+    @Test
+    @DisplayName("ModelMetrics - Counts Validation Fallbacks")
+    void testFallbacks() {
+        new Car(12, 'Z', "Toyota", true);
+        new Car(1234567, 'Z', "Toyota", true);
+        new Date(31, 2, 2023);
+        Date.ofEpochDay(-1);
+        assertEquals(new Date(1, 1, 2000).getEpochDay(), Date.epochDayOf(30, 2, 2024));
+        new Date(28, 2, 2023);
+        Date.epochDayOf(29, 2, 2024);
+        assertEquals(1, ModelMetrics.getFallbacks(Fallback.CAR_ID));
+        assertEquals(2, ModelMetrics.getFallbacks(Fallback.CAR_TYPE));
+        assertEquals(3, ModelMetrics.getFallbacks(Fallback.DATE));
+    }
+
+    @Test
+    @DisplayName("ModelMetrics - Disabled Counts Nothing, Timing Records Latencies")
+    void testSwitches() {
+        Car car = new Car(1234567, 'A', "Toyota", true);
+        Rent rent = new Rent("Rama", car, new Date(1, 6, 2023), new Date(4, 6, 2023));
+        ModelMetrics.setEnabled(false);
+        ModelMetrics.reset();
+        rent.getPrice();
+        new Car(12, 'A', "Toyota", true);
+        assertEquals(0, ModelMetrics.getCount(Op.PRICE));
+        assertEquals(0, ModelMetrics.getFallbacks(Fallback.CAR_ID));
+
+        ModelMetrics.setEnabled(true);
+        rent.getPrice();
+        assertEquals(1, ModelMetrics.getCount(Op.PRICE));
+        assertEquals(0, ModelMetrics.getLatency(Op.PRICE).getCount());
+        ModelMetrics.setTiming(true);
+        for (int i = 0; i < 100; i++)
+            rent.getPrice();
+        assertEquals(100, ModelMetrics.getLatency(Op.PRICE).getCount());
+        assertTrue(ModelMetrics.getLatency(Op.PRICE).getValueAtPercentile(99) <= ModelMetrics.getLatency(Op.PRICE).getMax());
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram - Percentiles Within Bucket Precision")
+    void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        for (long value = 1; value <= 1000; value++)
+            histogram.record(value * 1000);
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / 16.0);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / 16.0);
+        assertEquals(1_000_000, histogram.getMax(), 1_000_000 / 16.0);
+        histogram.record(7);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(7, histogram.getValueAtPercentile(0));
+        assertTrue(histogram.getMax() > Long.MAX_VALUE / 2);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    @DisplayName("ModelMetrics - Readable Through JMX")
+    void testJmx() throws Exception {
+        ObjectName name = ModelMetrics.register();
+        assertEquals(name, ModelMetrics.register());
+        new Date(30, 2, 2023);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(name, "DateFallbacks"));
+        assertEquals(true, server.getAttribute(name, "Enabled"));
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, server.getAttribute(name, "DateFallbacks"));
+    }
+}
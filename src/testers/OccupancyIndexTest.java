@@ -0,0 +1,205 @@
+package testers;
+
+import model.AvailabilityIndex;
+import model.Car;
+import model.Date;
+import model.Fleet;
+import model.OccupancyIndex;
+import model.Rent;
+import util.CompressedBitmap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the OccupancyIndex and the CompressedBitmap
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class OccupancyIndexTest {
+
+    private static final int FIRST_DAY = Date.epochDayOf(1, 1, 2023);
+
+    private static BitSet bits(CompressedBitmap bitmap) {
+        BitSet bits = new BitSet();
+        bitmap.forEach(bits::set);
+        return bits;
+    }
+
+    @Test
+    @DisplayName("CompressedBitmap - Sparse And Dense Chunks Match A BitSet")
+    void testBitmap() {
+        Random random = new Random(5);
+        CompressedBitmap a = new CompressedBitmap();
+        CompressedBitmap b = new CompressedBitmap();
+        BitSet setA = new BitSet();
+        BitSet setB = new BitSet();
+        // chunk 0 dense in a (bitmap), chunk 1 sparse in both (arrays), chunk 2 only in b
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(65536);
+            assertEquals(!setA.get(value), a.add(value));
+            setA.set(value);
+        }
+        for (int i = 0; i < 3000; i++) {
+            int value = 65536 + random.nextInt(65536);
+            a.add(value);
+            setA.set(value);
+            value = 65536 + random.nextInt(65536);
+            b.add(value);
+            setB.set(value);
+            value = random.nextBoolean() ? random.nextInt(65536) : 2 * 65536 + random.nextInt(65536);
+            b.add(value);
+            setB.set(value);
+        }
+        assertEquals(setA.cardinality(), a.cardinality());
+        assertEquals(setA, bits(a));
+
+        BitSet and = (BitSet) setA.clone();
+        and.and(setB);
+        assertEquals(and, bits(a.and(b)));
+        assertEquals(and.cardinality(), a.andCardinality(b));
+        assertEquals(and.cardinality(), b.andCardinality(a));
+        BitSet or = (BitSet) setA.clone();
+        or.or(setB);
+        assertEquals(or, bits(a.or(b)));
+        BitSet andNot = (BitSet) setA.clone();
+        andNot.andNot(setB);
+        assertEquals(andNot, bits(a.andNot(b)));
+        BitSet bNotA = (BitSet) setB.clone();
+        bNotA.andNot(setA);
+        assertEquals(bNotA, bits(b.andNot(a)));
+
+        // removing most of the dense chunk turns it back into an array
+        CompressedBitmap copy = a.copy();
+        for (int value = 0; value < 65000; value++)
+            assertEquals(setA.get(value), copy.remove(value));
+        assertEquals(setA.get(65000, 1 << 20).cardinality(), copy.cardinality());
+        assertEquals(setA, bits(a));
+        assertEquals(a, a.copy());
+        assertFalse(copy.contains(10));
+        assertTrue(copy.contains(setA.nextSetBit(65000)));
+        assertEquals("{3, 1000000}", CompressedBitmap.of(1000000, 3, 3).toString());
+        assertEquals(CompressedBitmap.of(-1, 5, 70000), CompressedBitmap.of(70000, -1, 5, 5));
+        assertEquals(CompressedBitmap.of(3, 63, 64, 130), CompressedBitmap.ofWords(new long[] {1L << 3 | 1L << 63, 1, 1 << 2}));
+    }
+
+    @Test
+    @DisplayName("OccupancyIndex - Counts Match Expanding Every Rent")
+    void testCounts() {
+        Random random = new Random(9);
+        Fleet fleet = new Fleet();
+        char[] types = {'A', 'B', 'C', 'D'};
+        for (int i = 0; i < 300; i++)
+            fleet.add(new Car(1000000 + i * 31, types[i % 4], "Toyota", i % 3 == 0));
+        List<Car> cars = fleet.getCars();
+        OccupancyIndex index = new OccupancyIndex();
+        List<Rent> rents = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int pick = FIRST_DAY + random.nextInt(365);
+            Rent rent = new Rent("Client" + i, cars.get(random.nextInt(cars.size())),
+                    Date.ofEpochDay(pick), Date.ofEpochDay(pick + 1 + random.nextInt(20)));
+            rents.add(rent);
+            assertTrue(index.add(rent));
+        }
+        assertFalse(index.add(rents.get(0)));
+
+        // extend, shorten, move and re-car some rents, and remove others
+        for (int i = 0; i < 500; i++) {
+            Rent rent = rents.get(random.nextInt(rents.size()));
+            switch (random.nextInt(4)) {
+                case 0: rent.setReturnDate(Date.ofEpochDay(rent.getReturnEpochDay() + random.nextInt(10))); break;
+                case 1: rent.setPickDate(Date.ofEpochDay(rent.getPickEpochDay() + random.nextInt(5))); break;
+                case 2: rent.setCar(cars.get(random.nextInt(cars.size()))); break;
+                default:
+                    rents.remove(rent);
+                    assertTrue(index.remove(rent));
+                    continue;
+            }
+            index.update(rent);
+        }
+        assertEquals(rents.size(), index.size());
+
+        CompressedBitmap classB = fleet.getIds('B');
+        assertEquals(75, classB.cardinality());
+        int[] counts = index.countPerDay(FIRST_DAY - 5, FIRST_DAY + 400);
+        int[] countsB = index.countPerDay(Date.ofEpochDay(FIRST_DAY - 5), Date.ofEpochDay(FIRST_DAY + 400), classB);
+        int[] countsOfB = index.countPerDay(Date.ofEpochDay(FIRST_DAY - 5), Date.ofEpochDay(FIRST_DAY + 400), 'B');
+        for (int day = FIRST_DAY - 5; day < FIRST_DAY + 400; day++) {
+            BitSet out = new BitSet();
+            BitSet outB = new BitSet();
+            for (Rent rent : rents) {
+                if (rent.getPickEpochDay() <= day && day < rent.getReturnEpochDay()) {
+                    out.set(rent.getCarId());
+                    if (rent.getCarType() == 'B')
+                        outB.set(rent.getCarId());
+                }
+            }
+            assertEquals(out, bits(index.getCars(day)), "day " + day);
+            assertEquals(out.cardinality(), counts[day - FIRST_DAY + 5]);
+            assertEquals(outB.cardinality(), countsB[day - FIRST_DAY + 5]);
+            assertEquals(outB.cardinality(), countsOfB[day - FIRST_DAY + 5]);
+        }
+    }
+
+    @Test
+    @DisplayName("OccupancyIndex - Double Bookings And Free Cars")
+    void testFreeCars() {
+        Fleet fleet = new Fleet();
+        Car car1 = new Car(1234567, 'B', "Toyota", true);
+        Car car2 = new Car(7654321, 'B', "BMW", false);
+        Car car3 = new Car(2345678, 'A', "Kia", true);
+        fleet.add(car1);
+        fleet.add(car2);
+        fleet.add(car3);
+        OccupancyIndex index = new OccupancyIndex();
+        AvailabilityIndex availability = new AvailabilityIndex();
+        Rent first = new Rent("Rama", car1, new Date(1, 6, 2023), new Date(10, 6, 2023));
+        Rent second = new Rent("Dan", car1, new Date(5, 6, 2023), new Date(8, 6, 2023));   // double booked
+        Rent third = new Rent("Noa", car2, new Date(9, 6, 2023), new Date(12, 6, 2023));
+        for (Rent rent : new Rent[] {first, second, third}) {
+            index.add(rent);
+            availability.add(rent);
+        }
+        int june6 = Date.epochDayOf(6, 6, 2023);
+        assertEquals(1, index.count(june6));
+        index.remove(second);
+        assertEquals(1, index.count(june6));                  // still out with the first rent
+        index.remove(first);
+        assertEquals(0, index.count(june6));
+        // the slot of the first car is free now, and goes to the next new car
+        Rent other = new Rent("Avi", car3, new Date(6, 6, 2023), new Date(7, 6, 2023));
+        index.add(other);
+        assertEquals(CompressedBitmap.of(car3.getId()), index.getCars(june6));
+        assertEquals(1, index.count(june6, 'A'));
+        assertEquals(0, index.count(june6, 'B'));
+        index.remove(other);
+        index.add(first);
+        assertEquals(1, index.count(june6, 'B'));
+        assertEquals(0, index.count(june6, 'E'));
+
+        Date from = new Date(7, 6, 2023);
+        Date to = new Date(10, 6, 2023);
+        CompressedBitmap free = index.freeCars(fleet.getIds(), from, to);
+        assertEquals(CompressedBitmap.of(car3.getId()), free);
+        for (Car car : fleet.getCars())
+            assertEquals(availability.isFree(car.getId(), from, to), free.contains(car.getId()));
+        assertEquals(CompressedBitmap.of(car2.getId()), index.freeCars(fleet.getIds('B'), new Date(1, 6, 2023), new Date(9, 6, 2023)));
+        assertEquals(0, index.count(june6, fleet.getIds('A')));
+        assertTrue(fleet.getIds('E').isEmpty());
+
+        // the fleet keeps its id bitmaps up to date
+        car3.setType('B');
+        car2.setId(7654322);
+        assertEquals(CompressedBitmap.of(car1.getId(), 7654322, car3.getId()), fleet.getIds('B'));
+        fleet.remove(car1.getId());
+        assertEquals(CompressedBitmap.of(7654322, car3.getId()), fleet.getIds());
+        assertTrue(fleet.getIds('A').isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+package testers;
+
+import io.OffHeapStore;
+import model.Car;
+import model.CarValue;
+import model.Date;
+import model.PricingEngine;
+import model.Rent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the off-heap car and rent store
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class OffHeapStoreTest {
+
+    @Test
+    @DisplayName("Off-Heap Store - Getters Mirror Rent Across Chunks")
+    void testGetters() {
+        Car[] cars = {
+                new Car(1000001, 'A', "Toyota", true),
+                new Car(1000002, 'D', "BMW", false),
+                new Car(1000003, 'C', null, true)
+        };
+        OffHeapStore store = new OffHeapStore(64);
+        for (Car car : cars)
+            assertTrue(store.addCar(car));
+        assertFalse(store.addCar(new Car(1000001, 'B', "Kia", false)));
+        assertEquals(3, store.carCount());
+
+        Rent[] rents = new Rent[1000];
+        int[] slots = new int[rents.length];
+        long revenue = 0;
+        for (int i = 0; i < rents.length; i++) {
+            Date pick = Date.ofEpochDay(new Date(1, 1, 2020).getEpochDay() + i % 700);
+            Date ret = Date.ofEpochDay(pick.getEpochDay() + 1 + i % 30);
+            rents[i] = new Rent("Client" + i % 97, cars[i % cars.length], pick, ret);
+            slots[i] = store.addRent(rents[i]);
+            revenue += rents[i].getPrice();
+        }
+        assertEquals(rents.length, store.rentCount());
+        assertEquals(16 * 1024 + 16 * 64, store.getOffHeapBytes(), "16 rent chunks and a car chunk of 64 slots");
+        for (int i = 0; i < rents.length; i++) {
+            Rent rent = rents[i];
+            int slot = slots[i];
+            assertEquals(rent.getName(), store.getName(slot));
+            assertEquals(rent.getCarId(), store.getCarId(slot));
+            assertEquals(rent.getCarType(), store.getCarType(slot));
+            assertEquals(rent.getCarValue(), store.getCarValue(slot));
+            assertEquals(rent.getPickDay(), store.getPickDay(slot));
+            assertEquals(rent.getReturnEpochDay(), store.getReturnEpochDay(slot));
+            assertEquals(rent.howManyDays(), store.howManyDays(slot));
+            assertEquals(rent.getPrice(), store.getPrice(slot));
+            assertTrue(rent.equals(store.toRent(slot)));
+        }
+        assertEquals(revenue, store.totalRevenue(PricingEngine.getDefault()));
+        assertNull(store.getCar(1000003).getBrand());
+        assertEquals(1, store.howManyDays(store.addRent("Same Day", 1000001, 500, 500)));
+        assertThrows(IllegalArgumentException.class, () -> store.addRent("Nobody", 1000009, 1, 2));
+    }
+
+    @Test
+    @DisplayName("Off-Heap Store - Freed Slots Are Reused")
+    void testFreeList() {
+        OffHeapStore store = new OffHeapStore(16);
+        store.addCar(new CarValue(1000001, 'B', "Kia", true));
+        store.addCar(new CarValue(1000002, 'C', "Kia", false));
+        for (int i = 0; i < 100; i++)
+            store.addRent("Client" + i, 1000001 + i % 2, 1000 + i, 1005 + i);
+        for (int slot = 0; slot < 100; slot += 2)
+            store.removeRent(slot);
+        assertEquals(50, store.rentCount());
+        assertFalse(store.isRent(10));
+        assertTrue(store.isRent(11));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getName(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.removeRent(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getName(100));
+
+        long bytes = store.getOffHeapBytes();
+        for (int i = 0; i < 50; i++) {
+            int slot = store.addRent("New" + i, 1000002, 2000, 2003);
+            assertEquals(0, slot % 2, "a freed slot is reused");
+            assertEquals("New" + i, store.getName(slot));
+            assertEquals('C', store.getCarType(slot));
+        }
+        assertEquals(100, store.rentCount());
+        assertEquals(100, store.rentSlots());
+        assertEquals(bytes, store.getOffHeapBytes());
+        int[] count = new int[1];
+        store.forEachRent(slot -> count[0]++);
+        assertEquals(100, count[0]);
+
+        // a car is removed only after its rents
+        assertThrows(IllegalStateException.class, () -> store.removeCar(1000002));
+        store.forEachRent(slot -> {
+            if (store.getCarId(slot) == 1000002)
+                store.removeRent(slot);
+        });
+        assertTrue(store.removeCar(1000002));
+        assertFalse(store.removeCar(1000002));
+        assertNull(store.getCar(1000002));
+        assertTrue(store.addCar(new CarValue(1000003, 'D', "BMW", false)));
+        assertEquals(2, store.carCount());
+        assertEquals('D', store.getCarType(store.addRent("Dana", 1000003, 10, 12)));
+    }
+}
@@ -0,0 +1,69 @@
+package testers;
+
+import model.Car;
+import model.Date;
+import model.PricingEngine;
+import model.Rent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the PricingEngine
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class PricingEngineTest {
+
+    private final PricingEngine engine = PricingEngine.getDefault();
+
+    @Test
+    @DisplayName("PricingEngine - Matches Rent.getPrice For All Types")
+    void testPriceMatchesRent() {
+        char[] types = {'A', 'B', 'C', 'D'};
+        Date pick = new Date(1, 1, 2023);
+        for (char type : types) {
+            Car car = new Car(1234567, type, "Toyota", true);
+            Date ret = pick.tomorrow();
+            for (int days = 1; days <= 40; days++) {
+                Rent rent = new Rent("Test", car, pick, ret);
+                assertEquals(rent.getPrice(), engine.price(rent));
+                assertEquals(rent.getPrice(), engine.price(type, days));
+                ret = ret.tomorrow();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("PricingEngine - Unknown Class Costs Nothing")
+    void testUnknownClass() {
+        assertEquals(-1, PricingEngine.classIndex('E'));
+        assertEquals(0, engine.price('E', 10));
+        assertEquals(0, engine.price(7, 10));
+    }
+
+    @Test
+    @DisplayName("PricingEngine - priceAll")
+    void testPriceAll() {
+        int[] classes = {0, 1, 2, 3, 1};
+        int[] days = {3, 7, 9, 14, 0};
+        long[] out = new long[5];
+
+        engine.priceAll(classes, days, out);
+
+        assertArrayEquals(new long[] {300, 945, 1494, 3024, 0}, out);
+        assertThrows(IllegalArgumentException.class, () -> engine.priceAll(classes, days, new long[4]));
+    }
+
+    @Test
+    @DisplayName("PricingEngine - Custom Tariff")
+    void testCustomTariff() {
+        PricingEngine custom = new PricingEngine(new int[] {10, 20}, new int[] {60, 120});
+
+        assertEquals(2, custom.getClassCount());
+        assertEquals(60 + 20, custom.price(0, 9));
+        assertEquals(0, custom.price('C', 9));
+        assertThrows(IllegalArgumentException.class, () -> new PricingEngine(new int[1], new int[2]));
+    }
+}
@@ -0,0 +1,82 @@
+package testers;
+
+import model.Car;
+import model.Date;
+import model.Rent;
+import report.RentAggregator;
+import report.RentTotals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the RentAggregator
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentAggregatorTest {
+
+    @Test
+    @DisplayName("RentAggregator - Window Clipping")
+    void testWindow() {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        List<Rent> rents = new ArrayList<>();
+        rents.add(new Rent("Alice", car, new Date(25, 6, 2023), new Date(5, 7, 2023))); // 4 days in July, picked in June
+        rents.add(new Rent("Bob", car, new Date(10, 7, 2023), new Date(12, 7, 2023)));
+        rents.add(new Rent("Carol", car, new Date(1, 8, 2023), new Date(3, 8, 2023))); // outside
+
+        RentTotals totals = new RentAggregator().aggregate(rents, new Date(1, 7, 2023), new Date(1, 8, 2023));
+
+        assertEquals(2, totals.getRentCount());
+        assertEquals(6, totals.getDays('B'));
+        assertEquals(300, totals.getRevenue('B'));
+        assertEquals(300, totals.getRevenue("Toyota"));
+        assertEquals(0, totals.getRevenue("BMW"));
+        assertEquals(100.0 * 6 / (2 * 31), totals.getUtilization('B', 2), 1e-9);
+        assertEquals(0, totals.getUtilization('C', 0));
+    }
+
+    @Test
+    @DisplayName("RentAggregator - Parallel Totals Match A Single Pass")
+    void testParallelMatchesSequential() {
+        char[] types = {'A', 'B', 'C', 'D'};
+        String[] brands = {"Toyota", "Honda", "BMW", "Kia", "Mazda", "Fiat", "Audi", "Seat", "Ford", "Opel"};
+        Random random = new Random(3);
+        List<Rent> rents = new ArrayList<>();
+        int start = new Date(1, 1, 2023).getEpochDay();
+        for (int i = 0; i < 20000; i++) {
+            Car car = new Car(1000000 + random.nextInt(500), types[random.nextInt(4)], brands[random.nextInt(brands.length)], random.nextBoolean());
+            Date pick = Date.ofEpochDay(start + random.nextInt(400));
+            rents.add(new Rent("C", car, pick, Date.ofEpochDay(pick.getEpochDay() + 1 + random.nextInt(30))));
+        }
+        Date from = new Date(1, 3, 2023);
+        Date to = new Date(1, 9, 2023);
+
+        RentTotals parallel = new RentAggregator(new ForkJoinPool(4), 100).aggregate(rents, from, to);
+
+        long revenue = 0;
+        long days = 0;
+        long bmwDays = 0;
+        for (Rent rent : rents) {
+            int inside = Math.min(rent.getReturnEpochDay(), to.getEpochDay()) - Math.max(rent.getPickEpochDay(), from.getEpochDay());
+            if (inside > 0) {
+                days += inside;
+                if ("BMW".equals(rent.getCar().getBrand()))
+                    bmwDays += inside;
+                if (!rent.getPickDate().before(from) && rent.getPickDate().before(to))
+                    revenue += rent.getPrice();
+            }
+        }
+        assertEquals(revenue, parallel.getTotalRevenue());
+        assertEquals(days, parallel.getTotalDays());
+        assertEquals(bmwDays, parallel.getDays("BMW"));
+        assertEquals(brands.length, parallel.getBrands().size());
+    }
+}
@@ -0,0 +1,113 @@
+package testers;
+
+import model.Car;
+import model.Date;
+import model.PricingEngine;
+import model.Rent;
+import model.RentBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the RentBatch
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentBatchTest {
+
+    private static List<Rent> randomRents(int count, long seed) {
+        Random random = new Random(seed);
+        char[] types = {'A', 'B', 'C', 'D'};
+        List<Rent> rents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Car car = new Car(1000000 + i, types[random.nextInt(types.length)], "Toyota", random.nextBoolean());
+            Date pick = Date.ofEpochDay(Date.epochDayOf(1, 1, 1990) + random.nextInt(20000));
+            // mostly short rents, some of many years
+            int days = random.nextInt(10) == 0 ? random.nextInt(3_000_000) : random.nextInt(60);
+            if (i % 97 == 0)
+                days = 43690 + i % 7;                   // around the longest rent of the SIMD division
+            rents.add(new Rent("Client" + i, car, pick, Date.ofEpochDay(pick.getEpochDay() + days)));
+        }
+        return rents;
+    }
+
+    private static void assertParityWithRent(boolean vectorized) {
+        List<Rent> rents = randomRents(1003, 7);
+        RentBatch batch = RentBatch.of(rents);
+        assertEquals(rents.size(), batch.size());
+        int[] prices = new int[batch.size()];
+        batch.priceAll(PricingEngine.getDefault(), prices, vectorized);
+        long total = 0;
+        for (int i = 0; i < rents.size(); i++) {
+            assertEquals(rents.get(i).getPrice(), prices[i], "rent " + i);
+            assertEquals(rents.get(i).howManyDays(), batch.getDays(i));
+            total += rents.get(i).getPrice();
+        }
+        assertEquals(total, batch.totalPrice(PricingEngine.getDefault()));
+    }
+
+    @Test
+    @DisplayName("RentBatch - Same Prices As Rent.getPrice On SIMD Lanes")
+    void testParityWithRent() {
+        assumeTrue(RentBatch.isVectorized(), "needs --add-modules jdk.incubator.vector");
+        assertParityWithRent(true);
+    }
+
+    @Test
+    @DisplayName("RentBatch - Same Prices As Rent.getPrice In The Scalar Loop")
+    void testScalarParityWithRent() {
+        assertParityWithRent(false);
+    }
+
+    @Test
+    @DisplayName("RentBatch - Candidate Tariffs, Unknown Types And Overflow Like PricingEngine")
+    void testParityWithEngine() {
+        PricingEngine tariff = new PricingEngine(new int[] {90, 140, 170, 230, 400}, new int[] {600, 900, 1100, 1500, 2600});
+        PricingEngine huge = new PricingEngine(new int[] {Integer.MAX_VALUE / 3}, new int[] {Integer.MAX_VALUE});
+        Random random = new Random(11);
+        RentBatch batch = new RentBatch(1);
+        for (int i = 0; i < 5000; i++) {
+            char type = (char) ('A' + random.nextInt(6) - 1);   // '@' to 'E'
+            int pick = random.nextInt(4_000_000);
+            batch.add(type, pick, pick + random.nextInt(40_000_000) - 100);
+        }
+        batch.add('A', Integer.MAX_VALUE, Integer.MAX_VALUE);    // one day past the last int
+        for (PricingEngine pricing : new PricingEngine[] {PricingEngine.getDefault(), tariff, huge}) {
+            int[] prices = new int[batch.size() + 3];
+            int[] scalar = new int[batch.size()];
+            batch.priceAll(pricing, prices);
+            batch.priceAll(pricing, scalar, false);
+            long total = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                int expected = pricing.price(batch.getClassIndex(i), batch.getDays(i));
+                assertEquals(expected, prices[i], "rent " + i);
+                assertEquals(expected, scalar[i], "scalar rent " + i);
+                total += expected;
+            }
+            assertEquals(total, batch.totalPrice(pricing));
+        }
+        assertEquals(1, batch.getDays(batch.size() - 1));
+        assertThrows(IllegalArgumentException.class, () -> batch.priceAll(PricingEngine.getDefault(), new int[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getDays(batch.size()));
+    }
+
+    @Test
+    @DisplayName("RentBatch - Empty Batch And One Day Rule")
+    void testEmptyAndOneDay() {
+        RentBatch batch = new RentBatch();
+        assertEquals(0, batch.totalPrice(PricingEngine.getDefault()));
+        batch.add('B', 100, 100);
+        batch.add('B', 100, 90);
+        assertEquals(1, batch.getDays(0));
+        assertEquals(1, batch.getDays(1));
+        assertEquals(300, batch.totalPrice(PricingEngine.getDefault()));
+    }
+}
@@ -0,0 +1,98 @@
+package testers;
+
+import io.RentFileReader;
+import io.RentFileWriter;
+import model.Car;
+import model.Date;
+import model.Rent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary snapshot files
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Rent File - Round Trip Of Cars And Rents")
+    void testRoundTrip() throws IOException {
+        Path file = dir.resolve("rents.bin");
+        Car[] cars = {
+                new Car(1000001, 'A', "Toyota", true),
+                new Car(1000002, 'D', "BMW", false),
+                new Car(1000003, 'C', null, true)
+        };
+        Rent[] rents = new Rent[10000];
+        for (int i = 0; i < rents.length; i++) {
+            Date pick = Date.ofEpochDay(new Date(1, 1, 2020).getEpochDay() + i % 1500);
+            Date ret = Date.ofEpochDay(pick.getEpochDay() + 1 + i % 30);
+            rents[i] = new Rent("Client" + i % 97, cars[i % cars.length], pick, ret);
+        }
+        try (RentFileWriter writer = new RentFileWriter(file)) {
+            for (Car car : cars)
+                writer.writeCar(car);
+            for (Rent rent : rents)
+                writer.writeRent(rent);
+        }
+        assertEquals(28 + 3 * 9 + 10000 * 16 + footerSize(), Files.size(file));
+
+        try (RentFileReader reader = new RentFileReader(file)) {
+            assertEquals(3, reader.getCarCount());
+            assertEquals(10000, reader.getRentCount());
+            Car first = reader.nextCar();
+            assertEquals(cars[0].toString(), first.toString());
+            for (Rent rent : rents) {
+                Rent read = reader.nextRent();
+                assertTrue(rent.equals(read));
+                assertEquals(rent.getCarId(), read.getCarId());
+                assertEquals(rent.toString(), read.toString());
+            }
+            assertNull(reader.nextRent());
+            assertNull(reader.nextCar());
+        }
+    }
+
+    @Test
+    @DisplayName("Rent File - Writer Rules")
+    void testWriterRules() throws IOException {
+        Car car = new Car(1000001, 'A', "Toyota", true);
+        Rent rent = new Rent("Alice", car, new Date(1, 7, 2023), new Date(3, 7, 2023));
+        try (RentFileWriter writer = new RentFileWriter(dir.resolve("rules.bin"))) {
+            assertThrows(IllegalArgumentException.class, () -> writer.writeRent(rent));
+            writer.writeCar(car);
+            assertThrows(IllegalArgumentException.class, () -> writer.writeCar(car));
+            writer.writeRent(rent);
+            assertThrows(IllegalStateException.class, () -> writer.writeCar(new Car(1000002, 'B', "Kia", false)));
+        }
+    }
+
+    @Test
+    @DisplayName("Rent File - Not A Snapshot File")
+    void testNotASnapshot() throws IOException {
+        Path file = dir.resolve("text.bin");
+        Files.write(file, "Name:Rama From:30/10/2022 To:12/11/2022 Type:B".getBytes());
+        assertThrows(IOException.class, () -> new RentFileReader(file));
+    }
+
+    // the footer holds 3 brands and 97 names: a count, then a length and the bytes of every string
+    private long footerSize() {
+        long size = 4 + 4 + "Toyota".length() + 4 + "BMW".length() + 4;
+        size += 4;
+        for (int i = 0; i < 97; i++)
+            size += 4 + ("Client" + i).length();
+        return size;
+    }
+}
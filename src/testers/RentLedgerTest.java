@@ -0,0 +1,159 @@
+package testers;
+
+import ledger.LedgerViews;
+import ledger.RentLedger;
+import model.Car;
+import model.Date;
+import model.RentRecord;
+import util.FenwickTree;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the RentLedger, its views and the FenwickTree
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentLedgerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("RentLedger - Changes Update The Views")
+    void testViews() throws IOException {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        try (RentLedger ledger = RentLedger.open(dir)) {
+            int alice = ledger.book("Alice", car, new Date(1, 7, 2023), new Date(5, 7, 2023));
+            int bob = ledger.book("Bob", car, new Date(3, 7, 2023), new Date(4, 7, 2023));
+            int again = ledger.book("Alice", car, new Date(4, 7, 2023), new Date(8, 7, 2023));
+            LedgerViews views = ledger.getViews();
+            assertEquals(150 * 9, views.getRevenue('B'));
+            assertEquals(2, views.getActiveRents(new Date(4, 7, 2023))); // Bob returns on the 4th
+
+            assertTrue(ledger.setReturnDate(bob, new Date(10, 7, 2023)));
+            assertFalse(ledger.setReturnDate(bob, new Date(2, 7, 2023))); // not after the pickup date
+            assertEquals(600 + 945 + 600, views.getTotalRevenue()); // Bob's 7 days are a week
+            assertEquals(1, views.getActiveRents(new Date(9, 7, 2023)));
+
+            assertTrue(ledger.merge(alice, again));
+            assertEquals(2, ledger.size());
+            assertEquals(new Date(8, 7, 2023), ledger.get(alice).getReturnDate().toDate());
+            assertNull(ledger.get(again));
+
+            assertEquals(1512 - 945, ledger.upgrade(bob, new Car(7654321, 'D', "BMW", false)));
+            assertEquals(0, ledger.upgrade(bob, car));
+            assertEquals(945, views.getRevenue('B'));
+            assertEquals(1512, views.getRevenue('D'));
+
+            assertTrue(ledger.cancel(alice));
+            assertFalse(ledger.cancel(alice));
+            assertEquals(0, views.getRevenue('B'));
+            assertEquals(0, views.getActiveRents(new Date(2, 7, 2023)));
+            assertEquals(1, views.getActiveRents(new Date(9, 7, 2023)));
+            assertEquals(1, views.getRentCount());
+        }
+    }
+
+    @Test
+    @DisplayName("RentLedger - Replay Of Snapshot And Log")
+    void testReplay() throws IOException {
+        Random random = new Random(5);
+        int start = new Date(1, 1, 2024).getEpochDay();
+        long revenue;
+        int active;
+        RentRecord sample;
+        try (RentLedger ledger = RentLedger.open(dir, 16, 500)) {
+            for (int i = 0; i < 1300; i++) {
+                Date pick = Date.ofEpochDay(start + random.nextInt(100));
+                int id = ledger.book("Client" + i % 40, new Car(1000000 + i % 50, 'A', "Kia", true), pick, Date.ofEpochDay(pick.getEpochDay() + 1 + random.nextInt(9)));
+                if (i % 3 == 0)
+                    ledger.setReturnDate(id, Date.ofEpochDay(pick.getEpochDay() + 12));
+                if (i % 7 == 0)
+                    ledger.cancel(id);
+            }
+            revenue = ledger.getViews().getTotalRevenue();
+            active = ledger.getViews().getActiveRents(start + 50);
+            sample = ledger.get(1298);
+        }
+        assertTrue(Files.exists(dir.resolve("ledger.snapshot")));
+
+        try (RentLedger ledger = RentLedger.open(dir, 16, 500)) {
+            assertEquals(revenue, ledger.getViews().getTotalRevenue());
+            assertEquals(active, ledger.getViews().getActiveRents(start + 50));
+            assertEquals(sample, ledger.get(1298));
+            assertEquals(1300, ledger.book("New", new Car(1000000, 'A', "Kia", true), new Date(1, 1, 2024), new Date(2, 1, 2024)));
+        }
+    }
+
+    @Test
+    @DisplayName("RentLedger - Snapshot Of Long Names")
+    void testLongNames() throws IOException {
+        Car car = new Car(1234567, 'C', "Mazda", false);
+        String shorter = "a".repeat(30000);
+        String longer = "b".repeat(40000);
+        try (RentLedger ledger = RentLedger.open(dir)) {
+            ledger.book(shorter, car, new Date(1, 7, 2023), new Date(5, 7, 2023));
+            ledger.book(longer, car, new Date(1, 8, 2023), new Date(5, 8, 2023));
+            ledger.snapshot();
+            ledger.book("Carol", car, new Date(1, 9, 2023), new Date(5, 9, 2023));
+        }
+        try (RentLedger ledger = RentLedger.open(dir)) {
+            assertEquals(3, ledger.size());
+            assertEquals(shorter, ledger.get(0).getName());
+            assertEquals(longer, ledger.get(1).getName());
+            assertEquals("Carol", ledger.get(2).getName());
+        }
+    }
+
+    @Test
+    @DisplayName("RentLedger - Torn Log Tail Is Dropped")
+    void testTornTail() throws IOException {
+        Car car = new Car(1234567, 'C', "Mazda", false);
+        try (RentLedger ledger = RentLedger.open(dir)) {
+            ledger.book("Alice", car, new Date(1, 7, 2023), new Date(5, 7, 2023));
+            ledger.book("Bob", car, new Date(1, 8, 2023), new Date(5, 8, 2023));
+        }
+        Files.write(dir.resolve("ledger.log"), new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+        try (RentLedger ledger = RentLedger.open(dir)) {
+            assertEquals(2, ledger.size());
+            ledger.book("Carol", car, new Date(1, 9, 2023), new Date(5, 9, 2023));
+        }
+        try (RentLedger ledger = RentLedger.open(dir)) {
+            assertEquals(3, ledger.size());
+            assertEquals("Carol", ledger.get(2).getName());
+        }
+    }
+
+    @Test
+    @DisplayName("FenwickTree - Prefix Sums While Growing")
+    void testFenwickTree() {
+        FenwickTree tree = new FenwickTree();
+        long[] expected = new long[5000];
+        Random random = new Random(9);
+        for (int i = 0; i < 3000; i++) {
+            int position = random.nextInt(5000);
+            long delta = random.nextInt(21) - 10;
+            tree.add(position - 2500, delta);
+            expected[position] += delta;
+        }
+        long sum = 0;
+        for (int position = 0; position < 5000; position++) {
+            sum += expected[position];
+            assertEquals(expected[position], tree.get(position - 2500));
+            assertEquals(sum, tree.prefixSum(position - 2500));
+        }
+        assertEquals(sum, tree.prefixSum(Integer.MAX_VALUE));
+        assertEquals(0, tree.prefixSum(-100000));
+    }
+}
@@ -0,0 +1,71 @@
+package testers;
+
+import model.Car;
+import model.Date;
+import model.Rent;
+import model.RentMerger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the RentMerger
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class RentMergerTest {
+
+    private final Car car = new Car(1234567, 'B', "Toyota", true);
+
+    @Test
+    @DisplayName("RentMerger - Overlapping And Touching Rents Are Unified")
+    void testMerge() {
+        Rent first = new Rent("Alice", car, new Date(1, 7, 2023), new Date(10, 7, 2023));
+        Rent overlapping = new Rent("Alice", car, new Date(5, 7, 2023), new Date(15, 7, 2023));
+        Rent touching = new Rent("Alice", car, new Date(15, 7, 2023), new Date(18, 7, 2023));
+        Rent inside = new Rent("Alice", car, new Date(2, 7, 2023), new Date(3, 7, 2023));
+        Rent separate = new Rent("Alice", car, new Date(1, 8, 2023), new Date(3, 8, 2023));
+
+        List<Rent> merged = RentMerger.merge(Arrays.asList(separate, touching, first, inside, overlapping));
+
+        assertEquals(2, merged.size());
+        assertTrue(merged.get(0).equals(new Rent("Alice", car, new Date(1, 7, 2023), new Date(18, 7, 2023))));
+        assertTrue(merged.get(1).equals(separate));
+        assertNotSame(separate, merged.get(1));
+    }
+
+    @Test
+    @DisplayName("RentMerger - Different Clients And Cars Are Not Unified")
+    void testGroups() {
+        Car sameAsCar = new Car(7654321, 'B', "Toyota", true);
+        Car otherCar = new Car(1234567, 'B', "Toyota", false);
+        Rent alice = new Rent("Alice", car, new Date(1, 7, 2023), new Date(10, 7, 2023));
+        Rent aliceSameCar = new Rent("Alice", sameAsCar, new Date(5, 7, 2023), new Date(12, 7, 2023));
+        Rent aliceOtherCar = new Rent("Alice", otherCar, new Date(5, 7, 2023), new Date(12, 7, 2023));
+        Rent bob = new Rent("Bob", car, new Date(5, 7, 2023), new Date(12, 7, 2023));
+
+        List<Rent> merged = RentMerger.merge(Arrays.asList(alice, aliceSameCar, aliceOtherCar, bob).stream());
+
+        assertEquals(3, merged.size());
+        assertEquals(11, merged.get(0).howManyDays());
+        assertTrue(merged.get(1).equals(aliceOtherCar));
+        assertTrue(merged.get(2).equals(bob));
+    }
+
+    @Test
+    @DisplayName("RentMerger - Agrees With Rent.overlap")
+    void testAgreesWithOverlap() {
+        Rent a = new Rent("Alice", car, new Date(1, 7, 2023), new Date(10, 7, 2023));
+        Rent b = new Rent("Alice", car, new Date(10, 7, 2023), new Date(20, 7, 2023));
+
+        List<Rent> merged = RentMerger.merge(Arrays.asList(b, a));
+
+        assertEquals(1, merged.size());
+        assertTrue(merged.get(0).equals(new Rent(a).overlap(new Rent(b))));
+    }
+}
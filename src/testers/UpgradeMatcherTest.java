@@ -0,0 +1,78 @@
+package testers;
+
+import model.AvailabilityIndex;
+import model.Car;
+import model.Date;
+import model.Rent;
+import service.UpgradeMatcher;
+import service.UpgradePlan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the UpgradeMatcher
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class UpgradeMatcherTest {
+
+    @Test
+    @DisplayName("UpgradeMatcher - Cheapest Free Better Car")
+    void testCheapestFreeCar() {
+        Car manualB = new Car(1000001, 'B', "Toyota", true);
+        Car autoB = new Car(1000002, 'B', "Honda", false);
+        Car busyC = new Car(1000003, 'C', "BMW", true);
+        Car freeD = new Car(1000004, 'D', "Audi", false);
+        Date pick = new Date(10, 7, 2023);
+        Date ret = new Date(13, 7, 2023);
+        AvailabilityIndex index = new AvailabilityIndex();
+        Rent booked = new Rent("Dan", busyC, new Date(12, 7, 2023), new Date(20, 7, 2023));
+        index.add(booked);
+        Rent alice = new Rent("Alice", new Car(1000005, 'A', "Kia", true), pick, ret);
+        Rent bob = new Rent("Bob", new Car(1000006, 'B', "Fiat", false), pick, ret);
+        Rent eve = new Rent("Eve", new Car(1000007, 'B', "Seat", true), pick, ret);
+        index.add(alice);
+        index.add(bob);
+        index.add(eve);
+
+        UpgradePlan plan = new UpgradeMatcher(index).match(List.of(alice, bob, eve), List.of(manualB, autoB, busyC, freeD));
+
+        assertEquals(3, plan.size());
+        assertEquals(1000002, plan.getCarFor(bob).getId());
+        assertEquals(1000004, plan.getCarFor(eve).getId()); // the C car is busy
+        assertEquals(1000001, plan.getCarFor(alice).getId()); // left for Alice, who can use it
+        assertEquals(3 * 50 + 3 * 90, plan.getCost());
+        assertEquals(1000005, alice.getCarId()); // not upgraded before apply
+
+        assertEquals(plan.getCost(), plan.apply());
+        assertEquals('B', alice.getCarType());
+        assertEquals(1000004, eve.getCarId());
+        assertFalse(index.isFree(1000004, pick, ret));
+        assertTrue(index.isFree(1000007, pick, ret));
+    }
+
+    @Test
+    @DisplayName("UpgradeMatcher - Each Car Upgrades One Rent")
+    void testOneRentPerCar() {
+        Date pick = new Date(1, 3, 2024);
+        List<Rent> rents = new ArrayList<>();
+        for (int i = 0; i < 300; i++)
+            rents.add(new Rent("Client" + i, new Car(2000000 + i, 'A', "Kia", true), pick, new Date(3, 3, 2024)));
+        List<Car> cars = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            cars.add(new Car(3000000 + i, i % 2 == 0 ? 'B' : 'A', "Toyota", i % 4 == 0));
+
+        UpgradePlan plan = new UpgradeMatcher(null).match(rents, cars);
+
+        assertEquals(200, plan.size());
+        assertEquals(2 * 50 * 100, plan.getCost()); // the 100 B cars cost 50 a day more, the A cars are automatic
+        assertEquals(200, plan.getRents().stream().mapToInt(rent -> plan.getCarFor(rent).getId()).distinct().count());
+        assertNull(new UpgradeMatcher(null).match(rents, List.of()).getCarFor(rents.get(0)));
+    }
+}
@@ -0,0 +1,95 @@
+package testers;
+
+import model.Car;
+import model.CarValue;
+import model.Date;
+import model.LocalDay;
+import model.Rent;
+import model.RentRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the immutable value types: CarValue, LocalDay and RentRecord
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class ValueTypesTest {
+
+    @Test
+    @DisplayName("CarValue - Same Validation And Comparison As Car")
+    void testCarValue() {
+        CarValue invalid = new CarValue(123, 'X', "Kia", true);
+        assertEquals(9999999, invalid.getId());
+        assertEquals('A', invalid.getType());
+
+        CarValue manualB = CarValue.from(new Car(1234567, 'B', "Toyota", true));
+        CarValue autoB = new CarValue(7654321, 'B', "Toyota", false);
+        assertTrue(autoB.better(manualB));
+        assertTrue(manualB.worse(autoB));
+        assertEquals(new CarValue(1111111, 'B', "Toyota", true), manualB); // id is not compared
+        assertEquals(manualB.hashCode(), new CarValue(1111111, 'B', "Toyota", true).hashCode());
+        assertEquals(new Car(1234567, 'B', "Toyota", true).toString(), manualB.toString());
+        assertTrue(manualB.toCar().equals(new Car(1234567, 'B', "Toyota", true)));
+    }
+
+    @Test
+    @DisplayName("LocalDay - Same Validation And Arithmetic As Date")
+    void testLocalDay() {
+        assertEquals(LocalDay.of(1, 1, 2000), LocalDay.of(29, 2, 2023));
+        LocalDay leap = LocalDay.of(28, 2, 2024);
+        assertEquals(LocalDay.of(29, 2, 2024), leap.tomorrow());
+        assertEquals("29/02/2024", leap.tomorrow().toString());
+        assertEquals(LocalDay.of(1, 1, 2000), LocalDay.of(31, 12, 9999).tomorrow());
+        assertEquals(365, LocalDay.of(28, 2, 2023).difference(leap));
+        assertTrue(leap.toDate().equals(new Date(28, 2, 2024)));
+        assertEquals("05/03/2023", LocalDay.from(new Date(5, 3, 2023)).toString());
+    }
+
+    @Test
+    @DisplayName("RentRecord - Round Trip Through Rent")
+    void testRentRecord() {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        Rent rent = new Rent("Rama", car, new Date(30, 10, 2022), new Date(12, 11, 2022));
+        RentRecord record = rent.toRecord();
+
+        assertEquals(rent.toString(), record.toString());
+        assertEquals(1845, record.getPrice());
+        assertTrue(record.toRent().equals(rent));
+        assertEquals(record, RentRecord.from(new Rent(record)));
+        assertSame(rent.getCarValue(), record.getCar());
+        assertSame(rent.getPickDay(), rent.getPickDay());
+
+        RentRecord swapped = new RentRecord("Rama", record.getCar(), LocalDay.of(5, 5, 2023), LocalDay.of(1, 5, 2023));
+        assertEquals(LocalDay.of(6, 5, 2023), swapped.getReturnDate());
+    }
+
+    @Test
+    @DisplayName("Rent - Getters Return Independent Copies")
+    void testRentGettersCopy() {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        Rent rent = new Rent("Rama", car, new Date(1, 7, 2023), new Date(5, 7, 2023));
+
+        rent.getCar().setType('D');
+        rent.getPickDate().setDay(3);
+        car.setType('C');
+
+        assertEquals('B', rent.getCar().getType());
+        assertEquals(1, rent.getPickDate().getDay());
+    }
+
+    @Test
+    @DisplayName("Rent - setPickDate Changes The Pickup Date")
+    void testRentSetPickDate() {
+        Car car = new Car(1234567, 'B', "Toyota", true);
+        Rent rent = new Rent("Rama", car, new Date(1, 7, 2023), new Date(5, 7, 2023));
+
+        rent.setPickDate(new Date(3, 7, 2023));
+        assertEquals(2, rent.howManyDays());
+
+        rent.setPickDate(new Date(5, 7, 2023)); // not before the return date
+        assertEquals(2, rent.howManyDays());
+    }
+}
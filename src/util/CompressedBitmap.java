@@ -0,0 +1,687 @@
+package util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class represents a compressed set of ints, laid out as a Roaring bitmap.
+ * The values are split by their high 16 bits into chunks of 65536 values; a chunk holding at most 4096 values
+ * keeps them in a sorted char array, a denser chunk keeps a 65536 bit bitmap. So sparse sets (a few car ids
+ * out of the 7 digit range) take 2 bytes per value, and dense sets take at most a bit per value.
+ * Intersections, unions and differences work chunk by chunk: sorted merges on arrays, and word by word
+ * on bitmaps. Values are ordered as unsigned ints.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class CompressedBitmap
+{
+    private static final int MAX_ARRAY = 4096;
+    private static final int WORDS = 1024;
+    private char[] _keys;
+    private Container[] _containers;
+    private int _size;
+
+    /**
+     * Creates a new empty bitmap
+     */
+    public CompressedBitmap()
+    {
+        _keys = new char[4];
+        _containers = new Container[4];
+    }
+
+    private CompressedBitmap(int capacity)
+    {
+        _keys = new char[Math.max(capacity, 1)];
+        _containers = new Container[_keys.length];
+    }
+
+    /**
+     * Creates a bitmap of the given values
+     * The values are added in unsigned order, so every add appends instead of moving the values after it.
+     * @param values - the values (in any order, not changed)
+     * @return a new bitmap holding the values
+     */
+    public static CompressedBitmap of(int... values)
+    {
+        int[] sorted = values.clone();
+        // flipping the sign bit sorts the values in unsigned order
+        for (int i = 0; i < sorted.length; i++)
+            sorted[i] ^= Integer.MIN_VALUE;
+        Arrays.sort(sorted);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : sorted)
+            bitmap.add(value ^ Integer.MIN_VALUE);
+        return bitmap;
+    }
+
+    /**
+     * Creates a bitmap of the set bits of a word array, in the order of the bits
+     * @param words - the bits (bit b of word w stands for the value 64 * w + b)
+     * @return a new bitmap holding the values of the set bits
+     */
+    public static CompressedBitmap ofWords(long[] words)
+    {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int w = 0; w < words.length; w++)
+        {
+            for (long word = words[w]; word != 0; word &= word - 1)
+                bitmap.add(w << 6 | Long.numberOfTrailingZeros(word));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds a value
+     * @param value - the value
+     * @return true if the value was added, false if it was already in the bitmap
+     */
+    public boolean add(int value)
+    {
+        char key = (char) (value >>> 16);
+        int index = find(key);
+        if (index < 0)
+        {
+            index = -index - 1;
+            insert(index, key, new ArrayContainer());
+        }
+        Container container = _containers[index];
+        int cardinality = container.cardinality();
+        _containers[index] = container.add((char) value);
+        return _containers[index].cardinality() > cardinality;
+    }
+
+    /**
+     * Removes a value
+     * @param value - the value
+     * @return true if the value was removed, false if it was not in the bitmap
+     */
+    public boolean remove(int value)
+    {
+        int index = find((char) (value >>> 16));
+        if (index < 0)
+            return false;
+        Container container = _containers[index];
+        int cardinality = container.cardinality();
+        container = container.remove((char) value);
+        if (container.cardinality() == cardinality)
+            return false;
+        if (container.cardinality() == 0)
+            delete(index);
+        else
+            _containers[index] = container;
+        return true;
+    }
+
+    /**
+     * Checks if a value is in the bitmap
+     * @param value - the value
+     * @return true if the value is in the bitmap, otherwise false
+     */
+    public boolean contains(int value)
+    {
+        int index = find((char) (value >>> 16));
+        return index >= 0 && _containers[index].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in the bitmap
+     * @return the number of values
+     */
+    public int cardinality()
+    {
+        int cardinality = 0;
+        for (int i = 0; i < _size; i++)
+            cardinality += _containers[i].cardinality();
+        return cardinality;
+    }
+
+    /**
+     * Checks if the bitmap is empty
+     * @return true if the bitmap holds no value, otherwise false
+     */
+    public boolean isEmpty()
+    {
+        return _size == 0;
+    }
+
+    /**
+     * Returns the values in both bitmaps
+     * @param other - the other bitmap
+     * @return a new bitmap of the intersection
+     */
+    public CompressedBitmap and(CompressedBitmap other)
+    {
+        CompressedBitmap result = new CompressedBitmap(Math.min(_size, other._size));
+        for (int i = 0, j = 0; i < _size && j < other._size; )
+        {
+            if (_keys[i] < other._keys[j])
+                i++;
+            else if (_keys[i] > other._keys[j])
+                j++;
+            else
+            {
+                result.append(_keys[i], _containers[i].and(other._containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of values in both bitmaps, without building the intersection
+     * @param other - the other bitmap
+     * @return the size of the intersection
+     */
+    public int andCardinality(CompressedBitmap other)
+    {
+        int cardinality = 0;
+        for (int i = 0, j = 0; i < _size && j < other._size; )
+        {
+            if (_keys[i] < other._keys[j])
+                i++;
+            else if (_keys[i] > other._keys[j])
+                j++;
+            else
+                cardinality += _containers[i++].andCardinality(other._containers[j++]);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns the values in either bitmap
+     * @param other - the other bitmap
+     * @return a new bitmap of the union
+     */
+    public CompressedBitmap or(CompressedBitmap other)
+    {
+        CompressedBitmap result = new CompressedBitmap(_size + other._size);
+        int i = 0;
+        int j = 0;
+        while (i < _size || j < other._size)
+        {
+            if (j == other._size || (i < _size && _keys[i] < other._keys[j]))
+            {
+                result.append(_keys[i], _containers[i].copy());
+                i++;
+            }
+            else if (i == _size || _keys[i] > other._keys[j])
+            {
+                result.append(other._keys[j], other._containers[j].copy());
+                j++;
+            }
+            else
+            {
+                result.append(_keys[i], _containers[i].or(other._containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds every value of the other bitmap to this bitmap
+     * @param other - the other bitmap
+     */
+    public void orInPlace(CompressedBitmap other)
+    {
+        CompressedBitmap union = or(other);
+        _keys = union._keys;
+        _containers = union._containers;
+        _size = union._size;
+    }
+
+    /**
+     * Returns the values of this bitmap that are not in the other bitmap
+     * @param other - the other bitmap
+     * @return a new bitmap of the difference
+     */
+    public CompressedBitmap andNot(CompressedBitmap other)
+    {
+        CompressedBitmap result = new CompressedBitmap(_size);
+        for (int i = 0, j = 0; i < _size; i++)
+        {
+            while (j < other._size && other._keys[j] < _keys[i])
+                j++;
+            if (j < other._size && other._keys[j] == _keys[i])
+                result.append(_keys[i], _containers[i].andNot(other._containers[j]));
+            else
+                result.append(_keys[i], _containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this bitmap
+     * @return a new bitmap holding the same values
+     */
+    public CompressedBitmap copy()
+    {
+        CompressedBitmap copy = new CompressedBitmap(_size);
+        for (int i = 0; i < _size; i++)
+            copy.append(_keys[i], _containers[i].copy());
+        return copy;
+    }
+
+    /**
+     * Calls the action with every value, in unsigned order
+     * @param action - the action
+     */
+    public void forEach(IntConsumer action)
+    {
+        for (int i = 0; i < _size; i++)
+            _containers[i].forEach(_keys[i] << 16, action);
+    }
+
+    /**
+     * Returns the values, in unsigned order
+     * @return a new array of the values
+     */
+    public int[] toArray()
+    {
+        int[] values = new int[cardinality()];
+        int[] next = new int[1];
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Checks if the bitmaps hold the same values
+     * @param o - the object to compare this bitmap to
+     * @return true if the object is a bitmap of the same values, otherwise false
+     */
+    public boolean equals(Object o)
+    {
+        return o instanceof CompressedBitmap && Arrays.equals(toArray(), ((CompressedBitmap) o).toArray());
+    }
+
+    /**
+     * Returns a hash code of the values
+     * @return the hash code
+     */
+    public int hashCode()
+    {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Returns a String of the values
+     * @return the values, for example: {1000001, 1000002}
+     */
+    public String toString()
+    {
+        StringBuilder text = new StringBuilder("{");
+        forEach(value -> text.append(text.length() > 1 ? ", " : "").append(Integer.toUnsignedString(value)));
+        return text.append('}').toString();
+    }
+
+    private int find(char key)
+    {
+        return Arrays.binarySearch(_keys, 0, _size, key);
+    }
+
+    private void insert(int index, char key, Container container)
+    {
+        if (_size == _keys.length)
+        {
+            _keys = Arrays.copyOf(_keys, _size * 2);
+            _containers = Arrays.copyOf(_containers, _size * 2);
+        }
+        System.arraycopy(_keys, index, _keys, index + 1, _size - index);
+        System.arraycopy(_containers, index, _containers, index + 1, _size - index);
+        _keys[index] = key;
+        _containers[index] = container;
+        _size++;
+    }
+
+    private void delete(int index)
+    {
+        System.arraycopy(_keys, index + 1, _keys, index, _size - index - 1);
+        System.arraycopy(_containers, index + 1, _containers, index, _size - index - 1);
+        _containers[--_size] = null;
+    }
+
+    // adds a chunk after the last one, dropping empty chunks
+    private void append(char key, Container container)
+    {
+        if (container.cardinality() > 0)
+            insert(_size, key, container);
+    }
+
+    // the values of one chunk, by their low 16 bits
+    private abstract static class Container
+    {
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        // returns the container holding the result: this one, or a converted one
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract Container and(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer action);
+    }
+
+    private static final class ArrayContainer extends Container
+    {
+        private char[] _values;
+        private int _cardinality;
+
+        private ArrayContainer()
+        {
+            this(new char[4], 0);
+        }
+
+        private ArrayContainer(char[] values, int cardinality)
+        {
+            _values = values;
+            _cardinality = cardinality;
+        }
+
+        int cardinality()
+        {
+            return _cardinality;
+        }
+
+        boolean contains(char low)
+        {
+            return Arrays.binarySearch(_values, 0, _cardinality, low) >= 0;
+        }
+
+        Container add(char low)
+        {
+            // values added in order go after the last one without a search
+            int index = _cardinality == 0 || low > _values[_cardinality - 1]
+                    ? -_cardinality - 1 : Arrays.binarySearch(_values, 0, _cardinality, low);
+            if (index >= 0)
+                return this;
+            if (_cardinality == MAX_ARRAY)
+                return toBitmap().add(low);
+            index = -index - 1;
+            if (_cardinality == _values.length)
+                _values = Arrays.copyOf(_values, Math.min(_cardinality * 2, MAX_ARRAY));
+            System.arraycopy(_values, index, _values, index + 1, _cardinality - index);
+            _values[index] = low;
+            _cardinality++;
+            return this;
+        }
+
+        Container remove(char low)
+        {
+            int index = Arrays.binarySearch(_values, 0, _cardinality, low);
+            if (index >= 0)
+            {
+                System.arraycopy(_values, index + 1, _values, index, _cardinality - index - 1);
+                _cardinality--;
+            }
+            return this;
+        }
+
+        Container and(Container other)
+        {
+            char[] values = new char[Math.min(_cardinality, other.cardinality())];
+            int cardinality = 0;
+            if (other instanceof ArrayContainer)
+            {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0, j = 0; i < _cardinality && j < array._cardinality; )
+                {
+                    if (_values[i] < array._values[j])
+                        i++;
+                    else if (_values[i] > array._values[j])
+                        j++;
+                    else
+                    {
+                        values[cardinality++] = _values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < _cardinality; i++)
+                    if (other.contains(_values[i]))
+                        values[cardinality++] = _values[i];
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        int andCardinality(Container other)
+        {
+            int cardinality = 0;
+            if (other instanceof ArrayContainer)
+            {
+                // branch free merge: the comparisons of sorted ids are unpredictable
+                ArrayContainer array = (ArrayContainer) other;
+                char[] values = array._values;
+                for (int i = 0, j = 0; i < _cardinality && j < array._cardinality; )
+                {
+                    char a = _values[i];
+                    char b = values[j];
+                    cardinality += a == b ? 1 : 0;
+                    i += a <= b ? 1 : 0;
+                    j += a >= b ? 1 : 0;
+                }
+            }
+            else
+            {
+                for (int i = 0; i < _cardinality; i++)
+                    if (other.contains(_values[i]))
+                        cardinality++;
+            }
+            return cardinality;
+        }
+
+        Container or(Container other)
+        {
+            if (other instanceof BitmapContainer)
+                return other.or(this);
+            ArrayContainer array = (ArrayContainer) other;
+            if (_cardinality + array._cardinality > MAX_ARRAY)
+                return toBitmap().or(array);
+            char[] values = new char[_cardinality + array._cardinality];
+            int cardinality = 0;
+            int i = 0;
+            int j = 0;
+            while (i < _cardinality || j < array._cardinality)
+            {
+                if (j == array._cardinality || (i < _cardinality && _values[i] < array._values[j]))
+                    values[cardinality++] = _values[i++];
+                else if (i == _cardinality || _values[i] > array._values[j])
+                    values[cardinality++] = array._values[j++];
+                else
+                {
+                    values[cardinality++] = _values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        Container andNot(Container other)
+        {
+            char[] values = new char[_cardinality];
+            int cardinality = 0;
+            if (other instanceof ArrayContainer)
+            {
+                ArrayContainer array = (ArrayContainer) other;
+                int j = 0;
+                for (int i = 0; i < _cardinality; i++)
+                {
+                    while (j < array._cardinality && array._values[j] < _values[i])
+                        j++;
+                    if (j == array._cardinality || array._values[j] != _values[i])
+                        values[cardinality++] = _values[i];
+                }
+            }
+            else
+            {
+                for (int i = 0; i < _cardinality; i++)
+                    if (!other.contains(_values[i]))
+                        values[cardinality++] = _values[i];
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        Container copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(_values, Math.max(_cardinality, 1)), _cardinality);
+        }
+
+        void forEach(int high, IntConsumer action)
+        {
+            for (int i = 0; i < _cardinality; i++)
+                action.accept(high | _values[i]);
+        }
+
+        private BitmapContainer toBitmap()
+        {
+            BitmapContainer bitmap = new BitmapContainer(new long[WORDS], 0);
+            for (int i = 0; i < _cardinality; i++)
+                bitmap.add(_values[i]);
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container
+    {
+        private final long[] _words;
+        private int _cardinality;
+
+        private BitmapContainer(long[] words, int cardinality)
+        {
+            _words = words;
+            _cardinality = cardinality;
+        }
+
+        // a bitmap of the given words, or an array when it is sparse enough
+        private static Container of(long[] words)
+        {
+            int cardinality = 0;
+            for (long word : words)
+                cardinality += Long.bitCount(word);
+            if (cardinality > MAX_ARRAY)
+                return new BitmapContainer(words, cardinality);
+            char[] values = new char[cardinality];
+            int next = 0;
+            for (int i = 0; i < WORDS; i++)
+                for (long word = words[i]; word != 0; word &= word - 1)
+                    values[next++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+            return new ArrayContainer(values, cardinality);
+        }
+
+        int cardinality()
+        {
+            return _cardinality;
+        }
+
+        boolean contains(char low)
+        {
+            return (_words[low >>> 6] & 1L << low) != 0;
+        }
+
+        Container add(char low)
+        {
+            long word = _words[low >>> 6];
+            long bit = 1L << low;
+            if ((word & bit) == 0)
+            {
+                _words[low >>> 6] = word | bit;
+                _cardinality++;
+            }
+            return this;
+        }
+
+        Container remove(char low)
+        {
+            long word = _words[low >>> 6];
+            long bit = 1L << low;
+            if ((word & bit) == 0)
+                return this;
+            _words[low >>> 6] = word & ~bit;
+            _cardinality--;
+            return _cardinality > MAX_ARRAY ? this : of(_words);
+        }
+
+        Container and(Container other)
+        {
+            if (other instanceof ArrayContainer)
+                return other.and(this);
+            long[] words = new long[WORDS];
+            for (int i = 0; i < WORDS; i++)
+                words[i] = _words[i] & ((BitmapContainer) other)._words[i];
+            return of(words);
+        }
+
+        int andCardinality(Container other)
+        {
+            if (other instanceof ArrayContainer)
+                return other.andCardinality(this);
+            int cardinality = 0;
+            for (int i = 0; i < WORDS; i++)
+                cardinality += Long.bitCount(_words[i] & ((BitmapContainer) other)._words[i]);
+            return cardinality;
+        }
+
+        Container or(Container other)
+        {
+            long[] words = _words.clone();
+            if (other instanceof ArrayContainer)
+            {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array._cardinality; i++)
+                    words[array._values[i] >>> 6] |= 1L << array._values[i];
+            }
+            else
+            {
+                for (int i = 0; i < WORDS; i++)
+                    words[i] |= ((BitmapContainer) other)._words[i];
+            }
+            return of(words);
+        }
+
+        Container andNot(Container other)
+        {
+            long[] words = _words.clone();
+            if (other instanceof ArrayContainer)
+            {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array._cardinality; i++)
+                    words[array._values[i] >>> 6] &= ~(1L << array._values[i]);
+            }
+            else
+            {
+                for (int i = 0; i < WORDS; i++)
+                    words[i] &= ~((BitmapContainer) other)._words[i];
+            }
+            return of(words);
+        }
+
+        Container copy()
+        {
+            return new BitmapContainer(_words.clone(), _cardinality);
+        }
+
+        void forEach(int high, IntConsumer action)
+        {
+            for (int i = 0; i < WORDS; i++)
+                for (long word = _words[i]; word != 0; word &= word - 1)
+                    action.accept(high | i * Long.SIZE + Long.numberOfTrailingZeros(word));
+        }
+    }
+}
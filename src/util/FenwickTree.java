@@ -0,0 +1,99 @@
+package util;
+
+/**
+ * This class represents values at int positions with prefix sums (a Fenwick tree, or binary indexed tree).
+ * Adding to a position and summing all the positions up to a position both take O(log n),
+ * where n is the size of the covered range. The range grows (doubling) to cover any position added to.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class FenwickTree
+{
+    private static final int DEFAULT_CAPACITY = 1024;
+    private long[] _values;
+    private long[] _tree;
+    private int _origin;
+    private boolean _empty = true;
+
+    /**
+     * Creates a new tree with all the values 0
+     */
+    public FenwickTree()
+    {
+        _values = new long[DEFAULT_CAPACITY];
+        _tree = new long[DEFAULT_CAPACITY + 1];
+    }
+
+    /**
+     * Adds to the value at a position
+     * @param position - the position
+     * @param delta - the amount to add
+     */
+    public void add(int position, long delta)
+    {
+        if (_empty)
+        {
+            _origin = position - _values.length / 2;
+            _empty = false;
+        }
+        else if (position < _origin || (long) position - _origin >= _values.length)
+            grow(position);
+        int index = position - _origin;
+        _values[index] += delta;
+        for (int i = index + 1; i < _tree.length; i += i & -i)
+            _tree[i] += delta;
+    }
+
+    /**
+     * Returns the value at a position
+     * @param position - the position
+     * @return the value (0 if nothing was added to the position)
+     */
+    public long get(int position)
+    {
+        if (_empty || position < _origin || (long) position - _origin >= _values.length)
+            return 0;
+        return _values[position - _origin];
+    }
+
+    /**
+     * Returns the sum of the values at all the positions up to (and including) a position
+     * @param position - the last position to sum
+     * @return the sum
+     */
+    public long prefixSum(int position)
+    {
+        if (_empty || position < _origin)
+            return 0;
+        int index = (int) Math.min((long) position - _origin, _values.length - 1);
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i)
+            sum += _tree[i];
+        return sum;
+    }
+
+    // doubles the range until it covers the position, keeping the values, and rebuilds the tree in O(n)
+    private void grow(int position)
+    {
+        long first = Math.min(_origin, position);
+        long end = Math.max((long) _origin + _values.length, (long) position + 1);
+        int capacity = _values.length;
+        while (capacity < end - first)
+            capacity *= 2;
+        int origin = (int) (first - (capacity - (end - first)) / 2);
+        long[] values = new long[capacity];
+        System.arraycopy(_values, 0, values, _origin - origin, _values.length);
+        long[] tree = new long[capacity + 1];
+        for (int i = 1; i <= capacity; i++)
+        {
+            tree[i] += values[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= capacity)
+                tree[parent] += tree[i];
+        }
+        _values = values;
+        _tree = tree;
+        _origin = origin;
+    }
+}
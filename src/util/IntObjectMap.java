@@ -0,0 +1,237 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This class represents a hash map from primitive int keys to objects.
+ * Keys are kept in an int array (open addressing, linear probing), so lookups never box the key.
+ * Null values are not allowed - a null value marks an empty slot.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class IntObjectMap<V>
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private int[] _keys;
+    private Object[] _values;
+    private int _size;
+    private int _mask;
+
+    /**
+     * Creates a new empty map
+     */
+    public IntObjectMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty map sized for the given number of entries
+     * @param expectedSize - the number of entries the map should hold without growing
+     */
+    public IntObjectMap(int expectedSize)
+    {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2)
+            capacity <<= 1;
+        _keys = new int[capacity];
+        _values = new Object[capacity];
+        _mask = capacity - 1;
+    }
+
+    /**
+     * Returns the number of entries in the map
+     * @return the number of entries
+     */
+    public int size()
+    {
+        return _size;
+    }
+
+    /**
+     * Check if the map has no entries
+     * @return true if the map is empty, otherwise false
+     */
+    public boolean isEmpty()
+    {
+        return _size == 0;
+    }
+
+    /**
+     * Returns the value of the given key
+     * @param key - the key to look up
+     * @return the value of the key, or null if the key is not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key)
+    {
+        int slot = slotOf(key);
+        return slot < 0 ? null : (V) _values[slot];
+    }
+
+    /**
+     * Check if the given key is in the map
+     * @param key - the key to look up
+     * @return true if the key is in the map, otherwise false
+     */
+    public boolean containsKey(int key)
+    {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * Sets the value of the given key
+     * @param key - the key
+     * @param value - the value of the key (not null)
+     * @return the previous value of the key, or null if the key was not in the map
+     * @throws NullPointerException if the value is null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value)
+    {
+        if (value == null)
+            throw new NullPointerException("null values are not allowed");
+        int slot = hash(key);
+        while (_values[slot] != null)
+        {
+            if (_keys[slot] == key)
+            {
+                V old = (V) _values[slot];
+                _values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & _mask;
+        }
+        _keys[slot] = key;
+        _values[slot] = value;
+        if (++_size * 2 > _values.length)
+            grow();
+        return null;
+    }
+
+    /**
+     * Removes the given key from the map
+     * @param key - the key to remove
+     * @return the value of the removed key, or null if the key was not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key)
+    {
+        int slot = slotOf(key);
+        if (slot < 0)
+            return null;
+        V old = (V) _values[slot];
+        _values[slot] = null;
+        _size--;
+        // shift back the entries that probed past the freed slot
+        int next = (slot + 1) & _mask;
+        while (_values[next] != null)
+        {
+            int home = hash(_keys[next]);
+            if (((next - home) & _mask) >= ((next - slot) & _mask))
+            {
+                _keys[slot] = _keys[next];
+                _values[slot] = _values[next];
+                _values[next] = null;
+                slot = next;
+            }
+            next = (next + 1) & _mask;
+        }
+        return old;
+    }
+
+    /**
+     * Removes all the entries of the map
+     */
+    public void clear()
+    {
+        Arrays.fill(_values, null);
+        _size = 0;
+    }
+
+    /**
+     * Performs the given action on every value of the map
+     * @param action - the action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action)
+    {
+        for (Object value : _values)
+        {
+            if (value != null)
+                action.accept((V) value);
+        }
+    }
+
+    /**
+     * Returns the values of the map
+     * @return a new list holding the values of the map
+     */
+    public List<V> values()
+    {
+        List<V> values = new ArrayList<>(_size);
+        forEachValue(values::add);
+        return values;
+    }
+
+    /**
+     * Returns the keys of the map
+     * @return a new array holding the keys of the map
+     */
+    public int[] keys()
+    {
+        int[] keys = new int[_size];
+        int i = 0;
+        for (int slot = 0; slot < _values.length; slot++)
+        {
+            if (_values[slot] != null)
+                keys[i++] = _keys[slot];
+        }
+        return keys;
+    }
+
+    // returns the slot holding the key, or -1 if the key is not in the map
+    private int slotOf(int key)
+    {
+        int slot = hash(key);
+        while (_values[slot] != null)
+        {
+            if (_keys[slot] == key)
+                return slot;
+            slot = (slot + 1) & _mask;
+        }
+        return -1;
+    }
+
+    private int hash(int key)
+    {
+        int h = key * GOLDEN_RATIO;
+        return (h ^ (h >>> 16)) & _mask;
+    }
+
+    // doubles the table and re-inserts every entry
+    private void grow()
+    {
+        int[] oldKeys = _keys;
+        Object[] oldValues = _values;
+        _keys = new int[oldKeys.length * 2];
+        _values = new Object[oldValues.length * 2];
+        _mask = _values.length - 1;
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int slot = hash(oldKeys[i]);
+                while (_values[slot] != null)
+                    slot = (slot + 1) & _mask;
+                _keys[slot] = oldKeys[i];
+                _values[slot] = oldValues[i];
+            }
+        }
+    }
+}
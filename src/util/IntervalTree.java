@@ -0,0 +1,302 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This class represents an interval tree of half-open int ranges [start, end), each holding a value.
+ * It is a balanced (AVL) search tree ordered by start, where every node also keeps the largest end in its subtree,
+ * so checking whether a range overlaps any interval takes O(log n) and listing the overlaps O(log n + k).
+ * Intervals may overlap each other; each added interval gets an id used to remove it.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class IntervalTree<V>
+{
+    private Node<V> _root;
+    private int _size;
+    private long _nextId;
+
+    private static class Node<V>
+    {
+        private final int _start;
+        private final int _end;
+        private final long _id;
+        private final V _value;
+        private int _maxEnd;
+        private int _height;
+        private Node<V> _left;
+        private Node<V> _right;
+
+        private Node(int start, int end, long id, V value)
+        {
+            _start = start;
+            _end = end;
+            _id = id;
+            _value = value;
+            _maxEnd = end;
+            _height = 1;
+        }
+    }
+
+    /**
+     * Returns the number of intervals in the tree
+     * @return the number of intervals
+     */
+    public int size()
+    {
+        return _size;
+    }
+
+    /**
+     * Check if the tree has no intervals
+     * @return true if the tree is empty, otherwise false
+     */
+    public boolean isEmpty()
+    {
+        return _size == 0;
+    }
+
+    /**
+     * Adds the interval [start, end)
+     * @param start - the first point of the interval
+     * @param end - the point after the last point of the interval
+     * @param value - the value of the interval
+     * @return the id of the interval, used to remove it
+     * @throws IllegalArgumentException if end is not after start
+     */
+    public long add(int start, int end, V value)
+    {
+        if (end <= start)
+            throw new IllegalArgumentException("end must be after start");
+        long id = _nextId++;
+        _root = insert(_root, new Node<>(start, end, id, value));
+        _size++;
+        return id;
+    }
+
+    /**
+     * Removes an interval
+     * @param start - the first point of the interval
+     * @param id - the id returned when the interval was added
+     * @return true if the interval was removed, false if there is no such interval
+     */
+    public boolean remove(int start, long id)
+    {
+        int size = _size;
+        _root = delete(_root, start, id);
+        return _size < size;
+    }
+
+    /**
+     * Check if any interval overlaps the range [start, end)
+     * @param start - the first point of the range
+     * @param end - the point after the last point of the range
+     * @return true if an interval overlaps the range, otherwise false
+     */
+    public boolean overlapsAny(int start, int end)
+    {
+        Node<V> node = _root;
+        while (node != null)
+        {
+            if (node._start < end && start < node._end)
+                return true;
+            if (node._left != null && node._left._maxEnd > start)
+                node = node._left;
+            else if (node._start < end)
+                node = node._right;
+            else
+                return false;
+        }
+        return false;
+    }
+
+    /**
+     * Performs the given action on the value of every interval overlapping the range [start, end), in start order
+     * @param start - the first point of the range
+     * @param end - the point after the last point of the range
+     * @param action - the action to perform
+     */
+    public void forEachOverlap(int start, int end, Consumer<? super V> action)
+    {
+        forEachOverlap(_root, start, end, action);
+    }
+
+    /**
+     * Returns the values of the intervals overlapping the range [start, end), in start order
+     * @param start - the first point of the range
+     * @param end - the point after the last point of the range
+     * @return a new list holding the values
+     */
+    public List<V> overlaps(int start, int end)
+    {
+        List<V> values = new ArrayList<>();
+        forEachOverlap(_root, start, end, values::add);
+        return values;
+    }
+
+    /**
+     * Returns the largest end of the intervals overlapping the range [start, end)
+     * @param start - the first point of the range
+     * @param end - the point after the last point of the range
+     * @return the largest end, or Integer.MIN_VALUE if no interval overlaps the range
+     */
+    public int maxEndOfOverlaps(int start, int end)
+    {
+        return maxEndOfOverlaps(_root, start, end);
+    }
+
+    /**
+     * Returns the first point, not before from, at which a free range of the given length starts
+     * @param from - the first point that may be returned
+     * @param length - the length of the free range
+     * @return the first point p (p &gt;= from) such that no interval overlaps [p, p + length)
+     */
+    public int nextFree(int from, int length)
+    {
+        int point = from;
+        int end = maxEndOfOverlaps(point, point + length);
+        while (end != Integer.MIN_VALUE)
+        {
+            point = end;
+            end = maxEndOfOverlaps(point, point + length);
+        }
+        return point;
+    }
+
+    private void forEachOverlap(Node<V> node, int start, int end, Consumer<? super V> action)
+    {
+        if (node == null || node._maxEnd <= start)
+            return;
+        forEachOverlap(node._left, start, end, action);
+        if (node._start < end)
+        {
+            if (start < node._end)
+                action.accept(node._value);
+            forEachOverlap(node._right, start, end, action);
+        }
+    }
+
+    private int maxEndOfOverlaps(Node<V> node, int start, int end)
+    {
+        if (node == null || node._maxEnd <= start)
+            return Integer.MIN_VALUE;
+        int max = maxEndOfOverlaps(node._left, start, end);
+        if (node._start < end)
+        {
+            if (start < node._end)
+                max = Math.max(max, node._end);
+            max = Math.max(max, maxEndOfOverlaps(node._right, start, end));
+        }
+        return max;
+    }
+
+    private Node<V> insert(Node<V> node, Node<V> added)
+    {
+        if (node == null)
+            return added;
+        if (compare(added._start, added._id, node) < 0)
+            node._left = insert(node._left, added);
+        else
+            node._right = insert(node._right, added);
+        return balance(node);
+    }
+
+    private Node<V> delete(Node<V> node, int start, long id)
+    {
+        if (node == null)
+            return null;
+        int cmp = compare(start, id, node);
+        if (cmp < 0)
+            node._left = delete(node._left, start, id);
+        else if (cmp > 0)
+            node._right = delete(node._right, start, id);
+        else
+        {
+            _size--;
+            if (node._left == null)
+                return node._right;
+            if (node._right == null)
+                return node._left;
+            Node<V> successor = node._right;
+            while (successor._left != null)
+                successor = successor._left;
+            successor._right = removeMin(node._right);
+            successor._left = node._left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private Node<V> removeMin(Node<V> node)
+    {
+        if (node._left == null)
+            return node._right;
+        node._left = removeMin(node._left);
+        return balance(node);
+    }
+
+    private int compare(int start, long id, Node<V> node)
+    {
+        if (start != node._start)
+            return start < node._start ? -1 : 1;
+        return Long.compare(id, node._id);
+    }
+
+    private Node<V> balance(Node<V> node)
+    {
+        update(node);
+        int factor = height(node._left) - height(node._right);
+        if (factor > 1)
+        {
+            if (height(node._left._left) < height(node._left._right))
+                node._left = rotateLeft(node._left);
+            return rotateRight(node);
+        }
+        if (factor < -1)
+        {
+            if (height(node._right._right) < height(node._right._left))
+                node._right = rotateRight(node._right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<V> rotateRight(Node<V> node)
+    {
+        Node<V> left = node._left;
+        node._left = left._right;
+        left._right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private Node<V> rotateLeft(Node<V> node)
+    {
+        Node<V> right = node._right;
+        node._right = right._left;
+        right._left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private void update(Node<V> node)
+    {
+        node._height = 1 + Math.max(height(node._left), height(node._right));
+        int maxEnd = node._end;
+        if (node._left != null)
+            maxEnd = Math.max(maxEnd, node._left._maxEnd);
+        if (node._right != null)
+            maxEnd = Math.max(maxEnd, node._right._maxEnd);
+        node._maxEnd = maxEnd;
+    }
+
+    private int height(Node<V> node)
+    {
+        return node == null ? 0 : node._height;
+    }
+}
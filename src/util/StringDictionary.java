@@ -0,0 +1,66 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents a dictionary of strings, giving every distinct string a compact int id (0, 1, 2, ...).
+ * Ids are given in the order the strings are first added, and null is a legal string.
+ *
+ * @author Avihu Tubi
+ * @version 17/10/2026
+ */
+public class StringDictionary
+{
+    private final Map<String, Integer> _ids = new HashMap<>();
+    private final List<String> _strings = new ArrayList<>();
+
+    /**
+     * Returns the id of a string, adding the string if it is not in the dictionary
+     * @param string - the string
+     * @return the id of the string
+     */
+    public int idOf(String string)
+    {
+        Integer id = _ids.get(string);
+        if (id != null)
+            return id;
+        int newId = _strings.size();
+        _ids.put(string, newId);
+        _strings.add(string);
+        return newId;
+    }
+
+    /**
+     * Returns the id of a string, without adding it
+     * @param string - the string
+     * @return the id of the string, or -1 if the string is not in the dictionary
+     */
+    public int find(String string)
+    {
+        Integer id = _ids.get(string);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the string of an id
+     * @param id - the id
+     * @return the string of the id
+     * @throws IndexOutOfBoundsException if there is no such id
+     */
+    public String get(int id)
+    {
+        return _strings.get(id);
+    }
+
+    /**
+     * Returns the number of strings in the dictionary
+     * @return the number of strings
+     */
+    public int size()
+    {
+        return _strings.size();
+    }
+}